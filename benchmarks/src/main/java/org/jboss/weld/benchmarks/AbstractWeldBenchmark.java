@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Common base of all the benchmarks. Boots a Weld SE container with discovery disabled and only the bean classes provided by
+ * {@link #configure(Weld)} before the trial and shuts it down afterwards.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class AbstractWeldBenchmark {
+
+    protected WeldContainer container;
+
+    protected BeanManagerImpl beanManager;
+
+    @Setup(Level.Trial)
+    public void startContainer() throws Exception {
+        Weld weld = new Weld(getClass().getName()).disableDiscovery().skipShutdownHook();
+        container = configure(weld).initialize();
+        beanManager = BeanManagerProxy.unwrap(container.getBeanManager());
+        init();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContainer() {
+        if (container != null) {
+            container.shutdown();
+            container = null;
+            beanManager = null;
+        }
+    }
+
+    /**
+     * Register the bean classes, interceptors and configuration properties required by the benchmark.
+     *
+     * @param weld the builder, discovery is already disabled
+     * @return the configured builder
+     */
+    protected abstract Weld configure(Weld weld);
+
+    /**
+     * Invoked once the container is running; subclasses may look up the references used by the benchmark methods here.
+     */
+    protected void init() throws Exception {
+    }
+
+}
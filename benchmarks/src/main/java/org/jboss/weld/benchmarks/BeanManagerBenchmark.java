@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.benchmarks.beans.ApplicationScopedService;
+import org.jboss.weld.benchmarks.beans.DependentService;
+import org.jboss.weld.benchmarks.beans.ServiceConsumer;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@code BeanManagerImpl.getReference()} and {@code BeanManagerImpl.getInjectableReference()} for normal-scoped and
+ * dependent beans.
+ */
+@State(Scope.Benchmark)
+public class BeanManagerBenchmark extends AbstractWeldBenchmark {
+
+    private Bean<?> applicationScopedBean;
+
+    private Bean<?> dependentBean;
+
+    private InjectionPoint applicationScopedInjectionPoint;
+
+    private InjectionPoint dependentInjectionPoint;
+
+    @Override
+    protected Weld configure(Weld weld) {
+        return weld.addBeanClasses(ApplicationScopedService.class, DependentService.class, ServiceConsumer.class);
+    }
+
+    @Override
+    protected void init() {
+        applicationScopedBean = beanManager.resolve(beanManager.getBeans(ApplicationScopedService.class));
+        dependentBean = beanManager.resolve(beanManager.getBeans(DependentService.class));
+        Bean<?> consumer = beanManager.resolve(beanManager.getBeans(ServiceConsumer.class));
+        for (InjectionPoint injectionPoint : consumer.getInjectionPoints()) {
+            if (ApplicationScopedService.class.equals(injectionPoint.getType())) {
+                applicationScopedInjectionPoint = injectionPoint;
+            } else if (DependentService.class.equals(injectionPoint.getType())) {
+                dependentInjectionPoint = injectionPoint;
+            }
+        }
+    }
+
+    @Benchmark
+    public Object getReferenceApplicationScoped() {
+        CreationalContext<?> ctx = beanManager.createCreationalContext(applicationScopedBean);
+        return beanManager.getReference(applicationScopedBean, ApplicationScopedService.class, ctx);
+    }
+
+    @Benchmark
+    public Object getReferenceDependent() {
+        CreationalContext<?> ctx = beanManager.createCreationalContext(dependentBean);
+        Object reference = beanManager.getReference(dependentBean, DependentService.class, ctx);
+        ctx.release();
+        return reference;
+    }
+
+    @Benchmark
+    public Object getInjectableReferenceApplicationScoped() {
+        CreationalContext<?> ctx = beanManager.createCreationalContext(null);
+        return beanManager.getInjectableReference(applicationScopedInjectionPoint, ctx);
+    }
+
+    @Benchmark
+    public Object getInjectableReferenceDependent() {
+        CreationalContext<?> ctx = beanManager.createCreationalContext(null);
+        Object reference = beanManager.getInjectableReference(dependentInjectionPoint, ctx);
+        ctx.release();
+        return reference;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.weld.benchmarks.beans.ApplicationScopedService;
+import org.jboss.weld.benchmarks.beans.RequestScopedService;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.context.bound.BoundLiteral;
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Method invocation on client proxies, i.e. {@code ClientProxyProvider} generated proxies delegating to
+ * {@code ContextBeanInstance.getInstance()}, or reading the thread-local cache directly if the proxies are specialized. Only
+ * the proxies of request-scoped beans are specialized.
+ */
+@State(Scope.Benchmark)
+public class ClientProxyBenchmark extends AbstractWeldBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean specialized;
+
+    private ApplicationScopedService applicationScoped;
+
+    private RequestScopedService requestScoped;
+
+    @Override
+    protected Weld configure(Weld weld) {
+        return weld.addBeanClasses(ApplicationScopedService.class, RequestScopedService.class)
+                .property(ConfigurationKey.SPECIALIZED_CLIENT_PROXIES.get(), specialized);
+    }
+
+    @Override
+    protected void init() {
+        applicationScoped = container.select(ApplicationScopedService.class).get();
+        requestScoped = container.select(RequestScopedService.class).get();
+    }
+
+    @Benchmark
+    public int applicationScoped() {
+        return applicationScoped.getValue();
+    }
+
+    @Benchmark
+    public int requestScoped(ActiveRequestContext requestContext) {
+        return requestScoped.getValue();
+    }
+
+    /**
+     * Keeps a bound request context active on the benchmark thread for the whole trial.
+     */
+    @State(Scope.Thread)
+    public static class ActiveRequestContext {
+
+        private BoundRequestContext context;
+
+        private Map<String, Object> storage;
+
+        @Setup(Level.Trial)
+        public void activate(ClientProxyBenchmark benchmark) {
+            context = benchmark.container.select(BoundRequestContext.class, BoundLiteral.INSTANCE).get();
+            storage = new HashMap<>();
+            context.associate(storage);
+            context.activate();
+        }
+
+        @TearDown(Level.Trial)
+        public void deactivate() {
+            try {
+                context.invalidate();
+                context.deactivate();
+            } finally {
+                context.dissociate(storage);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+import org.jboss.weld.bootstrap.WeldBootstrap;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
+import org.jboss.weld.environment.deployment.discovery.ClassPathBeanArchiveScanner;
+import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategy;
+import org.jboss.weld.environment.deployment.discovery.ReflectionDiscoveryStrategy;
+import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Discovery of a synthetic class path consisting of many bean archives with {@code bean-discovery-mode="all"}, i.e. scanning of
+ * the class path entries and collecting the class names, with and without an executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DiscoveryBenchmark {
+
+    private static final String JAVA_CLASS_PATH = "java.class.path";
+
+    private static final byte[] BEANS_XML = ("<beans xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"4.0\" "
+            + "bean-discovery-mode=\"all\"></beans>").getBytes(UTF_8);
+
+    @Param({ "300" })
+    private int jars;
+
+    @Param({ "100" })
+    private int classesPerJar;
+
+    @Param({ "false", "true" })
+    private boolean concurrent;
+
+    private Path directory;
+
+    private String originalClassPath;
+
+    private WeldBootstrap bootstrap;
+
+    private ResourceLoader resourceLoader;
+
+    @Setup(Level.Trial)
+    public void createClassPath() throws IOException {
+        directory = Files.createTempDirectory("weld-discovery-benchmark");
+        List<String> entries = new ArrayList<>(jars);
+        for (int i = 0; i < jars; i++) {
+            Path jar = directory.resolve("archive-" + i + ".jar");
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+                write(out, "META-INF/beans.xml", BEANS_XML);
+                for (int j = 0; j < classesPerJar; j++) {
+                    // The content is never read during discovery
+                    write(out, "org/acme/archive" + i + "/Bean" + j + ".class", new byte[0]);
+                }
+            }
+            entries.add(jar.toString());
+        }
+        originalClassPath = System.getProperty(JAVA_CLASS_PATH);
+        System.setProperty(JAVA_CLASS_PATH, String.join(File.pathSeparator, entries));
+        bootstrap = new WeldBootstrap();
+        resourceLoader = new ClassLoaderResourceLoader(getClass().getClassLoader());
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteClassPath() throws IOException {
+        System.setProperty(JAVA_CLASS_PATH, originalClassPath);
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Set<WeldBeanDeploymentArchive> performDiscovery() {
+        Executor executor = concurrent ? ForkJoinPool.commonPool() : null;
+        DiscoveryStrategy strategy = new ReflectionDiscoveryStrategy(resourceLoader, bootstrap, Collections.emptySet(),
+                BeanDiscoveryMode.ANNOTATED);
+        strategy.setExecutor(executor);
+        strategy.setScanner(new ClassPathBeanArchiveScanner(bootstrap, BeanDiscoveryMode.ANNOTATED, executor));
+        return strategy.performDiscovery();
+    }
+
+    private static void write(JarOutputStream out, String name, byte[] content) throws IOException {
+        out.putNextEntry(new ZipEntry(name));
+        out.write(content);
+        out.closeEntry();
+    }
+
+}
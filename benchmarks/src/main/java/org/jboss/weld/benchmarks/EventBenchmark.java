@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import jakarta.enterprise.event.Event;
+
+import org.jboss.weld.benchmarks.beans.Fast;
+import org.jboss.weld.benchmarks.beans.Payload;
+import org.jboss.weld.benchmarks.beans.PayloadObserver;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Synchronous and asynchronous event delivery through {@code ObserverNotifier}, and {@code EventImpl.select()} followed by
+ * {@code fire()}.
+ */
+@State(Scope.Benchmark)
+public class EventBenchmark extends AbstractWeldBenchmark {
+
+    private static final Payload PAYLOAD = new Payload(1);
+
+    private Event<Payload> event;
+
+    @Override
+    protected Weld configure(Weld weld) {
+        return weld.addBeanClasses(PayloadObserver.class);
+    }
+
+    @Override
+    protected void init() {
+        event = container.getBeanManager().getEvent().select(Payload.class);
+    }
+
+    @Benchmark
+    public void fire() {
+        event.fire(PAYLOAD);
+    }
+
+    @Benchmark
+    public Payload fireNewPayload() {
+        Payload payload = new Payload(2);
+        event.fire(payload);
+        return payload;
+    }
+
+    @Benchmark
+    public void selectQualifierThenFire() {
+        event.select(Fast.Literal.INSTANCE).fire(PAYLOAD);
+    }
+
+    @Benchmark
+    public Payload fireAsync() {
+        return event.fireAsync(PAYLOAD).toCompletableFuture().join();
+    }
+
+}
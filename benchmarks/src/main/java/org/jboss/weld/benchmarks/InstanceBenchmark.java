@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import jakarta.enterprise.inject.Instance;
+
+import org.jboss.weld.benchmarks.beans.ApplicationScopedService;
+import org.jboss.weld.benchmarks.beans.DefaultService;
+import org.jboss.weld.benchmarks.beans.DependentService;
+import org.jboss.weld.benchmarks.beans.Fast;
+import org.jboss.weld.benchmarks.beans.FastService;
+import org.jboss.weld.benchmarks.beans.Service;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Programmatic lookup through {@code InstanceImpl.get()} and {@code InstanceImpl.select()}.
+ */
+@State(Scope.Benchmark)
+public class InstanceBenchmark extends AbstractWeldBenchmark {
+
+    private Instance<Object> instance;
+
+    private Instance<ApplicationScopedService> applicationScoped;
+
+    private Instance<Service> services;
+
+    @Override
+    protected Weld configure(Weld weld) {
+        return weld.addBeanClasses(ApplicationScopedService.class, DependentService.class, DefaultService.class,
+                FastService.class);
+    }
+
+    @Override
+    protected void init() {
+        instance = container.select(Object.class);
+        applicationScoped = container.select(ApplicationScopedService.class);
+        services = container.select(Service.class);
+    }
+
+    @Benchmark
+    public ApplicationScopedService get() {
+        return applicationScoped.get();
+    }
+
+    @Benchmark
+    public int selectTypeThenGet() {
+        Instance<DependentService> dependent = instance.select(DependentService.class);
+        DependentService service = dependent.get();
+        int value = service.getValue();
+        dependent.destroy(service);
+        return value;
+    }
+
+    @Benchmark
+    public int selectQualifierThenGet() {
+        Instance<Service> fast = services.select(Fast.Literal.INSTANCE);
+        Service service = fast.get();
+        int value = service.getValue();
+        fast.destroy(service);
+        return value;
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import jakarta.enterprise.inject.Instance;
+
+import org.jboss.weld.benchmarks.beans.Audited;
+import org.jboss.weld.benchmarks.beans.AuditedInterceptor;
+import org.jboss.weld.benchmarks.beans.InterceptedService;
+import org.jboss.weld.benchmarks.beans.Logged;
+import org.jboss.weld.benchmarks.beans.LoggedInterceptor;
+import org.jboss.weld.benchmarks.beans.Measured;
+import org.jboss.weld.benchmarks.beans.MeasuredInterceptor;
+import org.jboss.weld.benchmarks.beans.Traced;
+import org.jboss.weld.benchmarks.beans.TracedInterceptor;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Business method invocations on intercepted subclasses, dispatched by {@code InterceptorMethodHandler}, and creation of
+ * intercepted {@code @Dependent} instances. The interception chains are either reflective or compiled to method handles.
+ * Only {@code LoggedInterceptor} uses the context data.
+ */
+@State(Scope.Benchmark)
+public class InterceptorBenchmark extends AbstractWeldBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean compiled;
+
+    private Instance<InterceptedService> instance;
+
+    private InterceptedService service;
+
+    private int value;
+
+    @Override
+    protected Weld configure(Weld weld) {
+        return weld.addBeanClasses(InterceptedService.class, Measured.class, MeasuredInterceptor.class, Logged.class,
+                LoggedInterceptor.class, Traced.class, TracedInterceptor.class, Audited.class, AuditedInterceptor.class)
+                .property(ConfigurationKey.COMPILED_INTERCEPTION_CHAINS.get(), compiled);
+    }
+
+    @Override
+    protected void init() {
+        instance = container.select(InterceptedService.class);
+        service = instance.get();
+    }
+
+    @Benchmark
+    public int notIntercepted() {
+        return service.notIntercepted(value);
+    }
+
+    @Benchmark
+    public int oneInterceptor() {
+        return service.measured(value);
+    }
+
+    @Benchmark
+    public int twoInterceptors() {
+        return service.measuredAndLogged(value);
+    }
+
+    /**
+     * None of the interceptors touches the context data.
+     */
+    @Benchmark
+    public int threeInterceptors() {
+        return service.measuredTracedAndAudited(value);
+    }
+
+    @Benchmark
+    public int createAndInvoke() {
+        InterceptedService created = instance.get();
+        int result = created.measured(value);
+        instance.destroy(created);
+        return result;
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.contexts.beanstore.LockStore;
+import org.jboss.weld.contexts.beanstore.LockedBean;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Contention on the {@link LockStore} used by multithreaded contexts (application, session) when many threads create
+ * different beans concurrently. Each benchmark thread locks and unlocks its own set of bean identifiers, so that ideally
+ * the throughput scales with the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(Threads.MAX)
+public class LockStoreBenchmark {
+
+    private final AtomicInteger threadIndex = new AtomicInteger();
+
+    /**
+     * The number of distinct beans created by each thread.
+     */
+    @Param({ "1", "16" })
+    public int beansPerThread;
+
+    private LockStore lockStore;
+
+    @Setup(Level.Trial)
+    public void createStore() {
+        lockStore = new LockStore();
+    }
+
+    @Benchmark
+    public void lockDistinctBeans(ThreadBeans beans) {
+        BeanIdentifier id = beans.next();
+        LockedBean lock = lockStore.lock(id);
+        lock.unlock();
+    }
+
+    @Benchmark
+    public void lockSharedBean(ThreadBeans beans) {
+        LockedBean lock = lockStore.lock(beans.shared);
+        lock.unlock();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadBeans {
+
+        private BeanIdentifier[] identifiers;
+
+        private BeanIdentifier shared;
+
+        private int position;
+
+        @Setup(Level.Trial)
+        public void init(LockStoreBenchmark benchmark) {
+            int thread = benchmark.threadIndex.getAndIncrement();
+            identifiers = new BeanIdentifier[benchmark.beansPerThread];
+            for (int i = 0; i < identifiers.length; i++) {
+                identifiers[i] = new StringBeanIdentifier("bean-" + thread + "-" + i);
+            }
+            shared = new StringBeanIdentifier("shared");
+        }
+
+        BeanIdentifier next() {
+            BeanIdentifier id = identifiers[position];
+            if (++position == identifiers.length) {
+                position = 0;
+            }
+            return id;
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.weld.benchmarks.beans.RequestScopedService;
+import org.jboss.weld.context.bound.BoundLiteral;
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.environment.se.Weld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Activation and deactivation of the {@code @RequestScoped} context through {@code BoundRequestContextImpl}, with and without
+ * a contextual instance being created during the request.
+ */
+@State(Scope.Benchmark)
+public class RequestContextBenchmark extends AbstractWeldBenchmark {
+
+    private BoundRequestContext requestContext;
+
+    private RequestScopedService requestScoped;
+
+    @Override
+    protected Weld configure(Weld weld) {
+        return weld.addBeanClasses(RequestScopedService.class);
+    }
+
+    @Override
+    protected void init() {
+        requestContext = container.select(BoundRequestContext.class, BoundLiteral.INSTANCE).get();
+        requestScoped = container.select(RequestScopedService.class).get();
+    }
+
+    @Benchmark
+    public Map<String, Object> emptyRequest() {
+        Map<String, Object> storage = new HashMap<>();
+        requestContext.associate(storage);
+        try {
+            requestContext.activate();
+            requestContext.invalidate();
+            requestContext.deactivate();
+        } finally {
+            requestContext.dissociate(storage);
+        }
+        return storage;
+    }
+
+    @Benchmark
+    public int requestWithBean() {
+        Map<String, Object> storage = new HashMap<>();
+        requestContext.associate(storage);
+        try {
+            requestContext.activate();
+            int value = requestScoped.getValue();
+            // Second invocation should be served by the request scoped cache
+            value += requestScoped.getValue();
+            requestContext.invalidate();
+            requestContext.deactivate();
+            return value;
+        } finally {
+            requestContext.dissociate(storage);
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.beans;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+
+@ApplicationScoped
+public class PayloadObserver {
+
+    private final LongAdder sync = new LongAdder();
+
+    private final LongAdder async = new LongAdder();
+
+    private final LongAdder fast = new LongAdder();
+
+    void observe(@Observes Payload payload) {
+        sync.add(payload.getValue());
+    }
+
+    void observeAsync(@ObservesAsync Payload payload) {
+        async.add(payload.getValue());
+    }
+
+    void observeFast(@Observes @Fast Payload payload) {
+        fast.add(payload.getValue());
+    }
+
+    public long getSync() {
+        return sync.sum();
+    }
+
+    public long getAsync() {
+        return async.sum();
+    }
+
+    public long getFast() {
+        return fast.sum();
+    }
+
+}
@@ -28,6 +28,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import jakarta.annotation.Priority;
 
@@ -61,6 +62,10 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
 
     protected BeanArchiveScanner scanner;
 
+    protected Executor executor;
+
+    protected DiscoveryCache cache;
+
     private final List<BeanArchiveHandler> handlers;
 
     private final BeanDiscoveryMode emptyBeansXmlDiscoveryMode;
@@ -102,6 +107,16 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
         this.scanner = scanner;
     }
 
+    @Override
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void setCache(DiscoveryCache cache) {
+        this.cache = cache;
+    }
+
     public void setInitialBeanDefiningAnnotations(Set<Class<? extends Annotation>> initialBeanDefiningAnnotations) {
         this.initialBeanDefiningAnnotations = initialBeanDefiningAnnotations;
     }
@@ -116,28 +131,36 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
         final List<BeanArchiveBuilder> beanArchiveBuilders = new ArrayList<BeanArchiveBuilder>();
         final Set<String> processedRefs = new HashSet<String>();
 
-        List<BeanArchiveHandler> beanArchiveHandlers = initBeanArchiveHandlers();
+        final List<BeanArchiveHandler> beanArchiveHandlers = initBeanArchiveHandlers();
 
-        for (ScanResult scanResult : scanner.scan()) {
+        final List<ScanResult> scanResults = scanner.scan();
+        for (ScanResult scanResult : scanResults) {
             final String ref = scanResult.getBeanArchiveRef();
             if (processedRefs.contains(ref)) {
                 throw CommonLogger.LOG.invalidScanningResult(ref);
             }
-            CommonLogger.LOG.processingBeanArchiveReference(ref);
             processedRefs.add(ref);
-            BeanArchiveBuilder builder = null;
-            for (BeanArchiveHandler handler : beanArchiveHandlers) {
-                builder = handler.handle(ref);
-                if (builder != null) {
-                    CommonLogger.LOG.beanArchiveReferenceHandled(ref, handler);
-                    builder.setId(scanResult.getBeanArchiveId());
-                    builder.setBeansXml(scanResult.getBeansXml());
-                    beanArchiveBuilders.add(builder);
-                    break;
-                }
-            }
-            if (builder == null) {
-                CommonLogger.LOG.beanArchiveReferenceCannotBeHandled(ref, beanArchiveHandlers);
+        }
+
+        final DiscoveryCache cache = this.cache;
+        if (cache != null) {
+            cache.load(beanArchiveHandlers);
+        }
+        // The results are merged in the order of the scan results
+        final List<BeanArchiveBuilder> builders = DiscoveryTasks.map(isThreadSafe(beanArchiveHandlers) ? executor : null,
+                scanResults, scanResult -> handle(scanResult.getBeanArchiveRef(), beanArchiveHandlers, cache));
+        if (cache != null) {
+            cache.store();
+        }
+        for (int i = 0; i < builders.size(); i++) {
+            final ScanResult scanResult = scanResults.get(i);
+            final BeanArchiveBuilder builder = builders.get(i);
+            if (builder != null) {
+                builder.setId(scanResult.getBeanArchiveId());
+                builder.setBeansXml(scanResult.getBeansXml());
+                beanArchiveBuilders.add(builder);
+            } else {
+                CommonLogger.LOG.beanArchiveReferenceCannotBeHandled(scanResult.getBeanArchiveRef(), beanArchiveHandlers);
             }
         }
 
@@ -179,6 +202,37 @@ public abstract class AbstractDiscoveryStrategy implements DiscoveryStrategy {
         return null;
     }
 
+    private static BeanArchiveBuilder handle(String ref, List<BeanArchiveHandler> beanArchiveHandlers, DiscoveryCache cache) {
+        CommonLogger.LOG.processingBeanArchiveReference(ref);
+        if (cache != null) {
+            BeanArchiveBuilder builder = cache.get(ref);
+            if (builder != null) {
+                CommonLogger.LOG.beanArchiveReferenceCached(ref);
+                return builder;
+            }
+        }
+        for (BeanArchiveHandler handler : beanArchiveHandlers) {
+            BeanArchiveBuilder builder = handler.handle(ref);
+            if (builder != null) {
+                CommonLogger.LOG.beanArchiveReferenceHandled(ref, handler);
+                if (cache != null) {
+                    cache.put(ref, builder);
+                }
+                return builder;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isThreadSafe(List<BeanArchiveHandler> beanArchiveHandlers) {
+        for (BeanArchiveHandler handler : beanArchiveHandlers) {
+            if (!handler.isThreadSafe()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected void addToArchives(Set<WeldBeanDeploymentArchive> deploymentArchives, WeldBeanDeploymentArchive bda) {
         if (bda == null) {
             return;
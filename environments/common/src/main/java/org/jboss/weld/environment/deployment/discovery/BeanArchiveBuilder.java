@@ -105,6 +105,10 @@ public class BeanArchiveBuilder {
         return attributes.get(key);
     }
 
+    boolean hasAttributes() {
+        return !attributes.isEmpty();
+    }
+
     public Iterator<String> getClassIterator() {
         return beanClasses.iterator();
     }
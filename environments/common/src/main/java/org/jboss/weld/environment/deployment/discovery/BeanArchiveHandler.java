@@ -46,4 +46,13 @@ public interface BeanArchiveHandler {
      */
     BeanArchiveBuilder handle(String beanArchiveReference);
 
+    /**
+     * The bean archive references are only handled concurrently if all the handlers are thread-safe.
+     *
+     * @return <code>true</code> if {@link #handle(String)} may be invoked concurrently, <code>false</code> otherwise
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
 }
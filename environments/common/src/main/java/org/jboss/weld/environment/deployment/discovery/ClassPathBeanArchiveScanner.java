@@ -26,9 +26,11 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.security.AccessController;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -72,12 +74,25 @@ public class ClassPathBeanArchiveScanner extends AbstractBeanArchiveScanner {
 
     private final Set<URL> visitedClassPathEntries = new HashSet<>();
 
+    private final Executor executor;
+
     /**
      *
      * @param bootstrap
      */
     public ClassPathBeanArchiveScanner(Bootstrap bootstrap, BeanDiscoveryMode emptyBeansXmlDiscoveryMode) {
+        this(bootstrap, emptyBeansXmlDiscoveryMode, null);
+    }
+
+    /**
+     *
+     * @param bootstrap
+     * @param emptyBeansXmlDiscoveryMode
+     * @param executor the executor used to scan the class path entries concurrently, may be <code>null</code>
+     */
+    public ClassPathBeanArchiveScanner(Bootstrap bootstrap, BeanDiscoveryMode emptyBeansXmlDiscoveryMode, Executor executor) {
         super(bootstrap, emptyBeansXmlDiscoveryMode);
+        this.executor = executor;
     }
 
     @Override
@@ -86,52 +101,66 @@ public class ClassPathBeanArchiveScanner extends AbstractBeanArchiveScanner {
         if (javaClassPath == null) {
             throw CommonLogger.LOG.cannotReadJavaClassPathSystemProperty();
         }
-        ImmutableList.Builder<ScanResult> results = ImmutableList.builder();
         Set<String> entries = ImmutableSet.of(javaClassPath.split(Pattern.quote(File.pathSeparator)));
         logger.debugv("Scanning class path entries: {0}", entries);
+        List<String> nonEmptyEntries = new ArrayList<>(entries.size());
         for (String entry : entries) {
-            if (entry == null || entry.isEmpty()) {
-                continue;
+            if (entry != null && !entry.isEmpty()) {
+                nonEmptyEntries.add(entry);
             }
-            File entryFile = new File(entry);
-            try {
-                if (!visitedClassPathEntries.add(entryFile.toURI().toURL())) {
-                    continue;
-                }
-                if (!entryFile.exists()) {
-                    CommonLogger.LOG.classPathEntryDoesNotExist(entryFile);
-                    continue;
-                }
-                if (!entryFile.canRead()) {
-                    throw CommonLogger.LOG.cannotReadClassPathEntry(entryFile);
-                }
-                if (entryFile.isDirectory()) {
-                    scanDirectory(entryFile, results);
-                } else {
-                    scanJarFile(entryFile, results);
+        }
+        // Each class path entry is scanned separately, incl. the entries referenced in its manifest
+        List<ScannedEntries> scanned = DiscoveryTasks.map(executor, nonEmptyEntries, this::scanEntry);
+        // Merge the results in the class path order - an entry referenced multiple times is only included once
+        ImmutableList.Builder<ScanResult> results = ImmutableList.builder();
+        for (ScannedEntries scannedEntries : scanned) {
+            for (ScannedEntry scannedEntry : scannedEntries.entries) {
+                if (visitedClassPathEntries.add(scannedEntry.url)) {
+                    results.addAll(scannedEntry.results);
                 }
-            } catch (IOException e) {
-                throw CommonLogger.LOG.cannotScanClassPathEntry(entryFile, e);
             }
         }
         return results.build();
     }
 
-    private void scanDirectory(File entryDirectory, ImmutableList.Builder<ScanResult> results) throws IOException {
+    private ScannedEntries scanEntry(String entry) {
+        ScannedEntries scanned = new ScannedEntries();
+        File entryFile = new File(entry);
+        try {
+            ScannedEntry scannedEntry = scanned.visit(entryFile.toURI().toURL());
+            if (!entryFile.exists()) {
+                CommonLogger.LOG.classPathEntryDoesNotExist(entryFile);
+                return scanned;
+            }
+            if (!entryFile.canRead()) {
+                throw CommonLogger.LOG.cannotReadClassPathEntry(entryFile);
+            }
+            if (entryFile.isDirectory()) {
+                scanDirectory(entryFile, scannedEntry, scanned);
+            } else {
+                scanJarFile(entryFile, scannedEntry, scanned);
+            }
+        } catch (IOException e) {
+            throw CommonLogger.LOG.cannotScanClassPathEntry(entryFile, e);
+        }
+        return scanned;
+    }
+
+    private void scanDirectory(File entryDirectory, ScannedEntry scannedEntry, ScannedEntries scanned) throws IOException {
         // First try to find beans.xml
         File beansXmlFile = new File(entryDirectory, AbstractWeldDeployment.BEANS_XML);
         if (beansXmlFile.canRead()) {
             logger.debugv(BEANS_XML_FOUND_MESSAGE, entryDirectory);
             final BeansXml beansXml = parseBeansXml(beansXmlFile.toURI().toURL());
             if (accept(beansXml)) {
-                results.add(new ScanResult(beansXml, entryDirectory.getPath()));
+                scannedEntry.results.add(new ScanResult(beansXml, entryDirectory.getPath()));
             }
         } else {
             // No beans.xml found - check whether the bean archive contains an extension
             logger.debugv(BEANS_XML_NOT_FOUND_MESSAGE, entryDirectory);
             File extensionFile = new File(entryDirectory, EXTENSION_FILE);
             if (!extensionFile.canRead()) {
-                results.add(new ScanResult(null, entryDirectory.getPath()));
+                scannedEntry.results.add(new ScanResult(null, entryDirectory.getPath()));
             }
         }
 
@@ -141,13 +170,13 @@ public class ClassPathBeanArchiveScanner extends AbstractBeanArchiveScanner {
                 final Manifest manifest = new Manifest(fis);
                 final Attributes manifestMainAttributes = manifest.getMainAttributes();
                 if (manifestMainAttributes.containsKey(CLASS_PATH)) {
-                    scanManifestClassPath(entryDirectory.toURI().toURL(), manifestMainAttributes.getValue(CLASS_PATH), results);
+                    scanManifestClassPath(entryDirectory.toURI().toURL(), manifestMainAttributes.getValue(CLASS_PATH), scanned);
                 }
             }
         }
     }
 
-    private void scanJarFile(File entryFile, ImmutableList.Builder<ScanResult> results) throws IOException {
+    private void scanJarFile(File entryFile, ScannedEntry scannedEntry, ScannedEntries scanned) throws IOException {
         try (JarFile jar = new JarFile(entryFile)) {
             JarEntry beansXmlEntry = jar.getJarEntry(AbstractWeldDeployment.BEANS_XML);
             if (beansXmlEntry != null) {
@@ -156,13 +185,13 @@ public class ClassPathBeanArchiveScanner extends AbstractBeanArchiveScanner {
                         new URL(PROCOTOL_JAR + ":" + entryFile.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR
                                 + beansXmlEntry.getName()));
                 if (accept(beansXml)) {
-                    results.add(new ScanResult(beansXml, entryFile.getPath()));
+                    scannedEntry.results.add(new ScanResult(beansXml, entryFile.getPath()));
                 }
             } else {
                 // No beans.xml found - check whether the bean archive contains an extension
                 if (jar.getEntry(EXTENSION_FILE) == null) {
                     logger.debugv(BEANS_XML_NOT_FOUND_MESSAGE, entryFile);
-                    results.add(new ScanResult(null, entryFile.getPath()));
+                    scannedEntry.results.add(new ScanResult(null, entryFile.getPath()));
                 }
             }
 
@@ -170,13 +199,13 @@ public class ClassPathBeanArchiveScanner extends AbstractBeanArchiveScanner {
             if (manifest != null) {
                 final Attributes manifestMainAttributes = manifest.getMainAttributes();
                 if (manifestMainAttributes.containsKey(CLASS_PATH)) {
-                    scanManifestClassPath(entryFile.toURI().toURL(), manifestMainAttributes.getValue(CLASS_PATH), results);
+                    scanManifestClassPath(entryFile.toURI().toURL(), manifestMainAttributes.getValue(CLASS_PATH), scanned);
                 }
             }
         }
     }
 
-    private void scanManifestClassPath(URL context, String classPath, ImmutableList.Builder<ScanResult> results) {
+    private void scanManifestClassPath(URL context, String classPath, ScannedEntries scanned) {
         Set<String> entries = ImmutableSet.of(MANIFEST_CLASSPATH_SEPARATOR_PATTERN.split(classPath));
         for (String entry : entries) {
             if (entry == null || entry.isEmpty()) {
@@ -184,14 +213,18 @@ public class ClassPathBeanArchiveScanner extends AbstractBeanArchiveScanner {
             }
             try {
                 URL entryUrl = new URL(context, entry);
-                if (visitedClassPathEntries.add(entryUrl) && entryUrl.getProtocol().equals("file")) {
+                if (entryUrl.getProtocol().equals("file")) {
+                    ScannedEntry scannedEntry = scanned.visit(entryUrl);
+                    if (scannedEntry == null) {
+                        continue;
+                    }
                     File entryFile = new File(URI.create(entryUrl.toString()));
                     // do not throw an error here, as some libraries use the class path attribute wrongly
                     if (entryFile.canRead()) {
                         if (entry.endsWith("/")) {
-                            scanDirectory(entryFile, results);
+                            scanDirectory(entryFile, scannedEntry, scanned);
                         } else {
-                            scanJarFile(entryFile, results);
+                            scanJarFile(entryFile, scannedEntry, scanned);
                         }
                     }
                 }
@@ -201,4 +234,41 @@ public class ClassPathBeanArchiveScanner extends AbstractBeanArchiveScanner {
         }
     }
 
+    /**
+     * The class path entries visited while scanning a single class path entry, in the order of visiting.
+     */
+    private static class ScannedEntries {
+
+        private final Set<URL> visited = new HashSet<>();
+
+        private final List<ScannedEntry> entries = new ArrayList<>();
+
+        /**
+         *
+         * @param url
+         * @return the new entry or <code>null</code> if the entry was already visited
+         */
+        ScannedEntry visit(URL url) {
+            if (!visited.add(url)) {
+                return null;
+            }
+            ScannedEntry entry = new ScannedEntry(url);
+            entries.add(entry);
+            return entry;
+        }
+
+    }
+
+    private static class ScannedEntry {
+
+        private final URL url;
+
+        private final List<ScanResult> results = new ArrayList<>(1);
+
+        ScannedEntry(URL url) {
+            this.url = url;
+        }
+
+    }
+
 }
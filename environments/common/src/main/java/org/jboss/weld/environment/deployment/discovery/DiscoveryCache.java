@@ -0,0 +1,369 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.jboss.weld.environment.util.URLUtils.JAR_URL_SEPARATOR;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.weld.environment.logging.CommonLogger;
+
+/**
+ * Persistent cache of the results of {@link BeanArchiveHandler#handle(String)}, i.e. the classes found in a bean archive.
+ * <p>
+ * Only archive files are cached. An entry is identified by the path of the archive and is only reused if the size, the last
+ * modification time and the hash of the ZIP central directory of the archive did not change. The central directory contains
+ * the CRC-32 checksums of all the entries and so any modification of the archive content is detected without reading the
+ * whole archive. The entries of the archives which are not found during the current discovery are dropped when the cache is
+ * {@link #store() stored}. The whole cache is discarded if the set of bean archive handlers changes.
+ * </p>
+ * <p>
+ * Results containing {@link BeanArchiveBuilder#setAttribute(String, Object) attributes}, e.g. a Jandex index, are never
+ * cached. Such archives are only remembered together with their size and last modification time so that the central
+ * directory of an unchanged archive is not hashed again.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @see DiscoveryStrategy#setCache(DiscoveryCache)
+ */
+public class DiscoveryCache {
+
+    /**
+     * The path to the cache file. If not set, the discovery cache is not used.
+     */
+    public static final String DISCOVERY_CACHE_FILE = "org.jboss.weld.discovery.cache.file";
+
+    private static final int MAGIC = 0x57454C44;
+
+    private static final short VERSION = 2;
+
+    // The end of central directory record (22 bytes) followed by a comment of at most 65535 bytes
+    private static final int MAX_EOCD_LENGTH = 22 + 0xFFFF;
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+
+    private final Path file;
+
+    private final Map<String, CachedArchive> loaded;
+
+    private final Map<String, ArchiveKey> keys;
+
+    private final Map<String, CachedArchive> current;
+
+    private String signature;
+
+    private volatile boolean modified;
+
+    public DiscoveryCache(Path file) {
+        this.file = Objects.requireNonNull(file);
+        this.loaded = new HashMap<>();
+        this.keys = new ConcurrentHashMap<>();
+        this.current = new ConcurrentHashMap<>();
+        this.signature = "";
+    }
+
+    /**
+     * Loads the cache file, if it exists. All entries are discarded if the cache was stored for a different set of handlers.
+     *
+     * @param handlers the bean archive handlers used for the discovery
+     */
+    public synchronized void load(List<BeanArchiveHandler> handlers) {
+        loaded.clear();
+        keys.clear();
+        current.clear();
+        modified = false;
+        signature = getSignature(handlers);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION || !signature.equals(in.readUTF())) {
+                modified = true;
+                return;
+            }
+            int archives = in.readInt();
+            for (int i = 0; i < archives; i++) {
+                String ref = in.readUTF();
+                ArchiveKey key = new ArchiveKey(in.readLong(), in.readLong(), in.readUTF());
+                int classes = in.readInt();
+                if (classes < 0) {
+                    loaded.put(ref, new CachedArchive(key, null));
+                    continue;
+                }
+                List<String> classNames = new ArrayList<>(classes);
+                for (int j = 0; j < classes; j++) {
+                    classNames.add(in.readUTF());
+                }
+                loaded.put(ref, new CachedArchive(key, classNames));
+            }
+        } catch (NoSuchFileException e) {
+            modified = true;
+        } catch (IOException e) {
+            CommonLogger.LOG.cannotReadDiscoveryCache(file, e);
+            loaded.clear();
+            modified = true;
+        }
+    }
+
+    /**
+     *
+     * @param ref the bean archive reference
+     * @return a new builder with the cached classes or <code>null</code> if there is no valid entry for the given reference
+     */
+    public BeanArchiveBuilder get(String ref) {
+        File file = getArchiveFile(ref);
+        if (file == null) {
+            return null;
+        }
+        CachedArchive archive;
+        synchronized (this) {
+            archive = loaded.get(ref);
+        }
+        if (archive != null && !archive.isCacheable() && archive.key.size == file.length()
+                && archive.key.lastModified == file.lastModified()) {
+            // The result of the last discovery could not be cached, skip the hash of the central directory
+            current.put(ref, archive);
+            return null;
+        }
+        ArchiveKey key = getKey(file);
+        if (key == null) {
+            return null;
+        }
+        keys.put(ref, key);
+        if (archive == null || !archive.isCacheable() || !archive.key.equals(key)) {
+            return null;
+        }
+        current.put(ref, archive);
+        BeanArchiveBuilder builder = new BeanArchiveBuilder();
+        for (String className : archive.classNames) {
+            builder.addClass(className);
+        }
+        return builder;
+    }
+
+    /**
+     * Note that the result is only cached if {@link #get(String)} was invoked for the same reference before.
+     *
+     * @param ref the bean archive reference
+     * @param builder the result of {@link BeanArchiveHandler#handle(String)}
+     */
+    public void put(String ref, BeanArchiveBuilder builder) {
+        ArchiveKey key = keys.get(ref);
+        if (key == null) {
+            return;
+        }
+        // Only remember that the result cannot be cached
+        current.put(ref, new CachedArchive(key, builder.hasAttributes() ? null : new ArrayList<>(builder.getClasses())));
+        modified = true;
+    }
+
+    /**
+     * Writes the entries found during the current discovery to the cache file, unless nothing changed.
+     */
+    public synchronized void store() {
+        if (!modified && current.size() == loaded.size()) {
+            return;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeShort(VERSION);
+                    out.writeUTF(signature);
+                    out.writeInt(current.size());
+                    for (Map.Entry<String, CachedArchive> entry : current.entrySet()) {
+                        CachedArchive archive = entry.getValue();
+                        out.writeUTF(entry.getKey());
+                        out.writeLong(archive.key.size);
+                        out.writeLong(archive.key.lastModified);
+                        out.writeUTF(archive.key.hash);
+                        if (!archive.isCacheable()) {
+                            out.writeInt(-1);
+                            continue;
+                        }
+                        out.writeInt(archive.classNames.size());
+                        for (String className : archive.classNames) {
+                            out.writeUTF(className);
+                        }
+                    }
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            modified = false;
+        } catch (IOException e) {
+            CommonLogger.LOG.cannotWriteDiscoveryCache(file, e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private static File getArchiveFile(String ref) {
+        if (ref.contains(JAR_URL_SEPARATOR)) {
+            // Nested archive - the central directory of the outer archive covers the nested entries as well
+            ref = ref.substring(0, ref.indexOf(JAR_URL_SEPARATOR));
+        }
+        File archive = new File(ref);
+        // The last modification time of a directory does not reflect changes in subdirectories
+        return archive.isFile() ? archive : null;
+    }
+
+    private static ArchiveKey getKey(File archive) {
+        long size = archive.length();
+        long lastModified = archive.lastModified();
+        String hash = hashCentralDirectory(archive);
+        return hash != null ? new ArchiveKey(size, lastModified, hash) : null;
+    }
+
+    /**
+     *
+     * @param archive
+     * @return the hash of the central directory and the end of central directory record, or <code>null</code> if the file is
+     *         not a valid ZIP file or uses the ZIP64 format
+     */
+    static String hashCentralDirectory(File archive) {
+        try (RandomAccessFile raf = new RandomAccessFile(archive, "r")) {
+            long length = raf.length();
+            int tailLength = (int) Math.min(length, MAX_EOCD_LENGTH);
+            byte[] tail = new byte[tailLength];
+            raf.seek(length - tailLength);
+            raf.readFully(tail);
+            for (int i = tailLength - 22; i >= 0; i--) {
+                if (readInt(tail, i) == EOCD_SIGNATURE) {
+                    long cdSize = readInt(tail, i + 12) & 0xFFFFFFFFL;
+                    long cdOffset = readInt(tail, i + 16) & 0xFFFFFFFFL;
+                    if (cdSize == 0xFFFFFFFFL || cdOffset == 0xFFFFFFFFL || cdOffset + cdSize > length) {
+                        return null;
+                    }
+                    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                    byte[] buffer = new byte[8192];
+                    raf.seek(cdOffset);
+                    long remaining = length - cdOffset;
+                    while (remaining > 0) {
+                        int read = raf.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                        if (read < 0) {
+                            return null;
+                        }
+                        digest.update(buffer, 0, read);
+                        remaining -= read;
+                    }
+                    StringBuilder hash = new StringBuilder();
+                    for (byte b : digest.digest()) {
+                        hash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+                    }
+                    return hash.toString();
+                }
+            }
+            return null;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            CommonLogger.LOG.catchingTrace(e);
+            return null;
+        }
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        // ZIP uses little-endian byte order
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8 | (bytes[offset + 2] & 0xFF) << 16
+                | (bytes[offset + 3] & 0xFF) << 24;
+    }
+
+    private static String getSignature(Collection<BeanArchiveHandler> handlers) {
+        StringBuilder signature = new StringBuilder();
+        for (BeanArchiveHandler handler : handlers) {
+            signature.append(handler.getClass().getName()).append(',');
+        }
+        return signature.toString();
+    }
+
+    static final class ArchiveKey {
+
+        private final long size;
+
+        private final long lastModified;
+
+        private final String hash;
+
+        ArchiveKey(long size, long lastModified, String hash) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModified, hash);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ArchiveKey)) {
+                return false;
+            }
+            ArchiveKey other = (ArchiveKey) obj;
+            return size == other.size && lastModified == other.lastModified && hash.equals(other.hash);
+        }
+
+    }
+
+    private static final class CachedArchive {
+
+        private final ArchiveKey key;
+
+        // null if the result of the discovery cannot be cached
+        private final List<String> classNames;
+
+        CachedArchive(ArchiveKey key, List<String> classNames) {
+            this.key = key;
+            this.classNames = classNames;
+        }
+
+        boolean isCacheable() {
+            return classNames != null;
+        }
+
+    }
+
+}
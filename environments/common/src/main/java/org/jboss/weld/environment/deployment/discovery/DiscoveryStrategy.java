@@ -18,6 +18,7 @@ package org.jboss.weld.environment.deployment.discovery;
 
 import java.lang.annotation.Annotation;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.jboss.weld.bootstrap.api.Bootstrap;
 import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
@@ -67,6 +68,22 @@ public interface DiscoveryStrategy {
      */
     void setScanner(BeanArchiveScanner beanArchiveScanner);
 
+    /**
+     * Optionally, a client may set an executor the implementation may use to handle the bean archives concurrently.
+     *
+     * @param executor the executor or <code>null</code> if the bean archives should be handled sequentially
+     */
+    default void setExecutor(Executor executor) {
+    }
+
+    /**
+     * Optionally, a client may set a cache the implementation may use to avoid handling of unchanged bean archives.
+     *
+     * @param cache the cache or <code>null</code> if all the bean archives should be handled
+     */
+    default void setCache(DiscoveryCache cache) {
+    }
+
     /**
      * Register additional {@link BeanArchiveHandler} for handling discovered bean archives.
      *
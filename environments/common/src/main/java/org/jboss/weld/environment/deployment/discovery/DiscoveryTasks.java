@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Runs independent discovery tasks, e.g. scanning of class path entries, using the given executor. The results are always
+ * returned in the order of the inputs so that the discovery is deterministic regardless of the number of threads used.
+ */
+final class DiscoveryTasks {
+
+    private DiscoveryTasks() {
+    }
+
+    /**
+     *
+     * @param executor the executor, may be <code>null</code> in which case the tasks are executed in the current thread
+     * @param inputs
+     * @param task
+     * @return the results in the order of the inputs
+     * @throws RuntimeException the exception thrown by the first failed task
+     */
+    static <T, R> List<R> map(Executor executor, List<T> inputs, Function<? super T, ? extends R> task) {
+        List<R> results = new ArrayList<>(inputs.size());
+        if (executor == null || inputs.size() < 2) {
+            for (T input : inputs) {
+                results.add(task.apply(input));
+            }
+            return results;
+        }
+        List<CompletableFuture<? extends R>> futures = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            futures.add(CompletableFuture.supplyAsync(() -> task.apply(input), executor));
+        }
+        for (CompletableFuture<? extends R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+}
@@ -83,6 +83,12 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
         return builder;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        // Subclasses may keep state between the invocations
+        return FileSystemBeanArchiveHandler.class.equals(getClass());
+    }
+
     protected void handleFile(File file, BeanArchiveBuilder builder) throws IOException {
         log.debugv("Handle archive file: {0}", file);
         try (ZipFile zip = new ZipFile(file)) {
@@ -7,6 +7,7 @@ import java.util.Set;
 import org.jboss.weld.bootstrap.api.Bootstrap;
 import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
 import org.jboss.weld.environment.util.Reflections;
+import org.jboss.weld.resources.spi.ClassFileServices;
 import org.jboss.weld.resources.spi.ResourceLoader;
 
 /**
@@ -18,6 +19,8 @@ public class Jandex {
 
     private static final String JANDEX_INDEX_CLASS_NAME = "org.jboss.jandex.Index";
     public static final String JANDEX_DISCOVERY_STRATEGY_CLASS_NAME = "org.jboss.weld.environment.deployment.discovery.jandex.JandexDiscoveryStrategy";
+    public static final String JANDEX_CLASS_FILE_SERVICES_CLASS_NAME = "org.jboss.weld.environment.deployment.discovery.jandex.JandexClassFileServices";
+    public static final String JANDEX_SYNTHETIC_ARCHIVE_INDEX_CLASS_NAME = "org.jboss.weld.environment.deployment.discovery.jandex.JandexSyntheticArchiveIndex";
 
     /**
      * By default, when there is Jandex on classpath, it will be used for bean discovery. However, in some rare cases, other
@@ -47,4 +50,17 @@ public class Jandex {
 
     }
 
+    public static JandexSyntheticArchiveIndex createSyntheticArchiveIndex(ResourceLoader resourceLoader,
+            Set<String> classNames, Set<Class<? extends Annotation>> initialBeanDefiningAnnotations,
+            ClassFileServices discoveryClassFileServices)
+            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+
+        Class<JandexSyntheticArchiveIndex> indexClass = Reflections.loadClass(resourceLoader,
+                JANDEX_SYNTHETIC_ARCHIVE_INDEX_CLASS_NAME);
+        return SecurityActions
+                .newConstructorInstance(indexClass,
+                        new Class<?>[] { ResourceLoader.class, Set.class, Set.class, ClassFileServices.class },
+                        resourceLoader, classNames, initialBeanDefiningAnnotations, discoveryClassFileServices);
+    }
+
 }
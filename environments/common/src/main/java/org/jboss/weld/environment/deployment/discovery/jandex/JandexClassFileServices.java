@@ -69,7 +69,15 @@ public class JandexClassFileServices implements ClassFileServices {
     }
 
     public JandexClassFileServices(JandexDiscoveryStrategy strategy) {
-        index = strategy.getCompositeJandexIndex();
+        this(strategy.getCompositeJandexIndex());
+    }
+
+    /**
+     *
+     * @param index
+     */
+    public JandexClassFileServices(IndexView index) {
+        this.index = index;
         if (index == null) {
             throw CommonLogger.LOG.jandexIndexNotCreated(ClassFileServices.class.getSimpleName());
         }
@@ -82,6 +90,14 @@ public class JandexClassFileServices implements ClassFileServices {
         return new JandexClassFileInfo(className, index, annotationClassAnnotationsCache, classLoader);
     }
 
+    /**
+     *
+     * @return the index or <code>null</code> if already cleaned up
+     */
+    IndexView getIndex() {
+        return index;
+    }
+
     @Override
     public void cleanupAfterBoot() {
         if (annotationClassAnnotationsCache != null) {
@@ -36,18 +36,31 @@ import org.jboss.weld.environment.util.Files;
  */
 public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHandler {
 
-    private final Indexer indexer = new Indexer();
+    // Each invocation of handle() builds a separate index
+    private final ThreadLocal<Indexer> indexer = ThreadLocal.withInitial(Indexer::new);
 
     @Override
     public BeanArchiveBuilder handle(String path) {
-        BeanArchiveBuilder builder = super.handle(path);
+        BeanArchiveBuilder builder;
+        Index index;
+        try {
+            builder = super.handle(path);
+            index = builder != null ? indexer.get().complete() : null;
+        } finally {
+            indexer.remove();
+        }
         if (builder == null) {
             return null;
         }
-        builder.setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, buildIndex());
+        builder.setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, index);
         return builder;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return JandexFileSystemBeanArchiveHandler.class.equals(getClass());
+    }
+
     @Override
     protected void add(Entry entry, BeanArchiveBuilder builder) throws MalformedURLException {
         super.add(entry, builder);
@@ -60,7 +73,7 @@ public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHan
         InputStream fs = null;
         try {
             fs = url.openStream();
-            indexer.index(fs);
+            indexer.get().index(fs);
         } catch (IOException ex) {
             CommonLogger.LOG.couldNotOpenStreamForURL(url, ex);
         } finally {
@@ -73,8 +86,4 @@ public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHan
             }
         }
     }
-
-    private Index buildIndex() {
-        return indexer.complete();
-    }
 }
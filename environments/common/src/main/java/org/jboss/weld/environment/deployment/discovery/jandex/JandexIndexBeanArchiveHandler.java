@@ -35,9 +35,6 @@ import org.jboss.weld.util.Preconditions;
  * This class uses an existing Jandex-Index ("META-INF/jandex.idx") to scan the bean archive. If no index is available the
  * {@link JandexIndexBeanArchiveHandler#handle(String)} method will return null.
  *
- * <p>
- * The class is not thread-safe and should only be used by a single thread.
- * </p>
  *
  * @author Stefan Großmann
  */
@@ -63,6 +60,11 @@ public class JandexIndexBeanArchiveHandler implements BeanArchiveHandler {
         return builder;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     private Index getIndex(final File beanArchiveFile) {
         Preconditions.checkArgumentNotNull(beanArchiveFile, "beanArchiveFile");
         logger.debugv("Try to get Jandex index for: {0}", beanArchiveFile);
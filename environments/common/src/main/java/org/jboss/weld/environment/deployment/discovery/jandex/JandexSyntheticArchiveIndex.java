@@ -0,0 +1,205 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.jandex;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.jboss.weld.environment.logging.CommonLogger;
+import org.jboss.weld.environment.util.Reflections;
+import org.jboss.weld.resources.spi.ClassFileServices;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.util.collections.ImmutableSet;
+
+/**
+ * Builds a jandex index for the classes of a synthetic bean archive, i.e. the classes found in the packages added to Weld SE.
+ * The index is used to filter the classes without a bean defining annotation and to provide {@link ClassFileServices} so that
+ * the classes which will not become beans and are not observed by any {@code ProcessAnnotatedType} observer are never loaded.
+ */
+public class JandexSyntheticArchiveIndex {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private static final String JAVA_PACKAGE_PREFIX = "java.";
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+
+    private static final DotName INHERITED = DotName.createSimple(Inherited.class.getName());
+
+    private final ResourceLoader resourceLoader;
+
+    private final Set<Class<? extends Annotation>> initialBeanDefiningAnnotations;
+
+    private final Set<DotName> beanDefiningAnnotations;
+
+    private final IndexView index;
+
+    private final JandexClassFileServices classFileServices;
+
+    // Annotation name -> whether the annotation is annotated with a bean defining meta-annotation, e.g. a stereotype
+    private final Map<DotName, Boolean> metaAnnotated;
+
+    private final Map<DotName, Boolean> inherited;
+
+    /**
+     *
+     * @param resourceLoader
+     * @param classNames the classes to index
+     * @param initialBeanDefiningAnnotations
+     * @param discoveryClassFileServices the services provided by the discovery strategy, may be <code>null</code>
+     */
+    public JandexSyntheticArchiveIndex(ResourceLoader resourceLoader, Set<String> classNames,
+            Set<Class<? extends Annotation>> initialBeanDefiningAnnotations, ClassFileServices discoveryClassFileServices) {
+        this.resourceLoader = resourceLoader;
+        this.initialBeanDefiningAnnotations = initialBeanDefiningAnnotations;
+        ImmutableSet.Builder<DotName> names = ImmutableSet.builder();
+        for (Class<? extends Annotation> annotation : initialBeanDefiningAnnotations) {
+            names.add(DotName.createSimple(annotation.getName()));
+        }
+        this.beanDefiningAnnotations = names.build();
+        this.metaAnnotated = new HashMap<>();
+        this.inherited = new HashMap<>();
+
+        Indexer indexer = new Indexer();
+        for (String className : classNames) {
+            URL url = resourceLoader.getResource(className.replace('.', '/') + CLASS_FILE_SUFFIX);
+            if (url != null) {
+                addToIndex(indexer, url);
+            }
+        }
+        IndexView syntheticIndex = indexer.complete();
+        IndexView discoveryIndex = discoveryClassFileServices instanceof JandexClassFileServices
+                ? ((JandexClassFileServices) discoveryClassFileServices).getIndex()
+                : null;
+        this.index = discoveryIndex != null ? CompositeIndex.create(syntheticIndex, discoveryIndex) : syntheticIndex;
+        this.classFileServices = new JandexClassFileServices(index);
+    }
+
+    /**
+     *
+     * @param className
+     * @return <code>true</code> if the class declares a bean defining annotation, <code>false</code> otherwise
+     */
+    public boolean hasBeanDefiningAnnotation(String className) {
+        ClassInfo classInfo = index.getClassByName(DotName.createSimple(className));
+        if (classInfo == null) {
+            // Not indexed, e.g. the class file could not be read
+            return hasBeanDefiningAnnotationReflectively(className);
+        }
+        if (hasBeanDefiningAnnotation(classInfo, false)) {
+            return true;
+        }
+        // Annotations annotated with @Inherited are also present on subclasses
+        DotName superName = classInfo.superName();
+        while (superName != null && !OBJECT.equals(superName) && !superName.toString().startsWith(JAVA_PACKAGE_PREFIX)) {
+            ClassInfo superInfo = index.getClassByName(superName);
+            if (superInfo == null) {
+                return hasBeanDefiningAnnotationReflectively(className);
+            }
+            if (hasBeanDefiningAnnotation(superInfo, true)) {
+                return true;
+            }
+            superName = superInfo.superName();
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @return the class file services backed by the synthetic index and the index of the discovery strategy
+     */
+    public ClassFileServices getClassFileServices() {
+        return classFileServices;
+    }
+
+    private boolean hasBeanDefiningAnnotation(ClassInfo classInfo, boolean inheritedOnly) {
+        for (Entry<DotName, List<AnnotationInstance>> entry : classInfo.annotationsMap().entrySet()) {
+            if (isDeclaredOnClass(entry.getValue(), classInfo)
+                    && (beanDefiningAnnotations.contains(entry.getKey()) || isMetaAnnotated(entry.getKey()))
+                    && (!inheritedOnly || isInherited(entry.getKey()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasBeanDefiningAnnotationReflectively(String className) {
+        Class<?> clazz = Reflections.loadClass(resourceLoader, className);
+        return clazz != null && Reflections.hasBeanDefiningAnnotation(clazz, initialBeanDefiningAnnotations);
+    }
+
+    private boolean isInherited(DotName annotationName) {
+        return inherited.computeIfAbsent(annotationName, name -> isAnnotationPresent(name, INHERITED, Inherited.class));
+    }
+
+    private boolean isMetaAnnotated(DotName annotationName) {
+        return metaAnnotated.computeIfAbsent(annotationName, this::findBeanDefiningMetaAnnotation);
+    }
+
+    private boolean findBeanDefiningMetaAnnotation(DotName annotationName) {
+        for (Class<? extends Annotation> metaAnnotation : Reflections.META_ANNOTATIONS) {
+            if (isAnnotationPresent(annotationName, DotName.createSimple(metaAnnotation.getName()), metaAnnotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAnnotationPresent(DotName annotationName, DotName metaAnnotationName,
+            Class<? extends Annotation> metaAnnotation) {
+        ClassInfo annotationInfo = index.getClassByName(annotationName);
+        if (annotationInfo != null) {
+            List<AnnotationInstance> instances = annotationInfo.annotationsMap().get(metaAnnotationName);
+            return instances != null && isDeclaredOnClass(instances, annotationInfo);
+        }
+        // Annotations from libraries are usually not indexed; loading an annotation type is cheap
+        Class<? extends Annotation> annotation = Reflections.loadClass(resourceLoader, annotationName.toString());
+        return annotation != null && annotation.isAnnotationPresent(metaAnnotation);
+    }
+
+    private static boolean isDeclaredOnClass(List<AnnotationInstance> instances, ClassInfo classInfo) {
+        for (AnnotationInstance instance : instances) {
+            if (instance.target().equals(classInfo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addToIndex(Indexer indexer, URL url) {
+        try (InputStream in = url.openStream()) {
+            indexer.index(in);
+        } catch (IOException e) {
+            CommonLogger.LOG.couldNotOpenStreamForURL(url, e);
+        }
+    }
+
+}
@@ -164,4 +164,16 @@ public interface CommonLogger extends WeldEnvironmentLogger {
     @Message(id = 42, value = "Class path entry does not exist: {0}", format = Format.MESSAGE_FORMAT)
     void classPathEntryDoesNotExist(Object entry);
 
+    @LogMessage(level = Level.WARN)
+    @Message(id = 43, value = "Unable to read the discovery cache {0} - all bean archives will be scanned", format = Format.MESSAGE_FORMAT)
+    void cannotReadDiscoveryCache(Object file, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 44, value = "Unable to write the discovery cache {0}", format = Format.MESSAGE_FORMAT)
+    void cannotWriteDiscoveryCache(Object file, @Cause Throwable cause);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 45, value = "Bean archive reference {0} found in the discovery cache", format = Format.MESSAGE_FORMAT)
+    void beanArchiveReferenceCached(Object beanArchiveRef);
+
 }
@@ -0,0 +1,171 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DiscoveryCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<BeanArchiveHandler> handlers = Collections.singletonList(new FileSystemBeanArchiveHandler());
+
+    @Test
+    public void testUnchangedArchiveIsCached() throws IOException {
+        File archive = createArchive("foo.jar", "org/acme/Foo.class", "org/acme/Bar.class");
+        String ref = archive.getPath();
+        File file = new File(folder.getRoot(), "cache/discovery.cache");
+
+        DiscoveryCache cache = new DiscoveryCache(file.toPath());
+        cache.load(handlers);
+        assertNull(cache.get(ref));
+        cache.put(ref, handlers.get(0).handle(ref));
+        cache.store();
+
+        cache = new DiscoveryCache(file.toPath());
+        cache.load(handlers);
+        BeanArchiveBuilder builder = cache.get(ref);
+        assertNotNull(builder);
+        assertEquals(Set.of("org.acme.Foo", "org.acme.Bar"), new HashSet<>(builder.getClasses()));
+    }
+
+    @Test
+    public void testModifiedArchiveIsInvalidated() throws IOException {
+        File foo = createArchive("foo.jar", "org/acme/Foo.class");
+        File bar = createArchive("bar.jar", "org/acme/Bar.class");
+        File file = new File(folder.getRoot(), "discovery.cache");
+
+        DiscoveryCache cache = new DiscoveryCache(file.toPath());
+        cache.load(handlers);
+        for (File archive : List.of(foo, bar)) {
+            assertNull(cache.get(archive.getPath()));
+            cache.put(archive.getPath(), handlers.get(0).handle(archive.getPath()));
+        }
+        cache.store();
+
+        long lastModified = foo.lastModified();
+        createArchive("foo.jar", "org/acme/Foo.class", "org/acme/Baz.class");
+        // Make sure the modification is not hidden by the file system timestamp resolution
+        foo.setLastModified(lastModified);
+
+        cache = new DiscoveryCache(file.toPath());
+        cache.load(handlers);
+        assertNull(cache.get(foo.getPath()));
+        assertNotNull(cache.get(bar.getPath()));
+    }
+
+    @Test
+    public void testDifferentHandlersDiscardCache() throws IOException {
+        File archive = createArchive("foo.jar", "org/acme/Foo.class");
+        String ref = archive.getPath();
+        File file = new File(folder.getRoot(), "discovery.cache");
+
+        DiscoveryCache cache = new DiscoveryCache(file.toPath());
+        cache.load(handlers);
+        cache.get(ref);
+        cache.put(ref, handlers.get(0).handle(ref));
+        cache.store();
+
+        cache = new DiscoveryCache(file.toPath());
+        cache.load(List.of(new DiscoveryStrategyTest.TestHandler2(), handlers.get(0)));
+        assertNull(cache.get(ref));
+    }
+
+    @Test
+    public void testDirectoryAndAttributesNotCached() throws IOException {
+        File archive = createArchive("foo.jar", "org/acme/Foo.class");
+        File directory = folder.newFolder("classes");
+        File file = new File(folder.getRoot(), "discovery.cache");
+
+        DiscoveryCache cache = new DiscoveryCache(file.toPath());
+        cache.load(handlers);
+        assertNull(cache.get(directory.getPath()));
+        cache.put(directory.getPath(), new BeanArchiveBuilder());
+        assertNull(cache.get(archive.getPath()));
+        cache.put(archive.getPath(), new BeanArchiveBuilder().setAttribute("index", new Object()));
+        cache.store();
+
+        cache = new DiscoveryCache(file.toPath());
+        cache.load(handlers);
+        assertNull(cache.get(directory.getPath()));
+        assertNull(cache.get(archive.getPath()));
+    }
+
+    @Test
+    public void testUncacheableArchiveRemembered() throws IOException {
+        File archive = createArchive("foo.jar", "org/acme/Foo.class", "META-INF/jandex.idx");
+        String ref = archive.getPath();
+        File file = new File(folder.getRoot(), "discovery.cache");
+
+        DiscoveryCache cache = new DiscoveryCache(file.toPath());
+        cache.load(handlers);
+        assertNull(cache.get(ref));
+        cache.put(ref, new BeanArchiveBuilder().setAttribute("index", new Object()));
+        cache.store();
+        byte[] content = Files.readAllBytes(file.toPath());
+
+        // Unchanged archive - the entry is kept without hashing the archive again and the cache is not rewritten
+        cache = new DiscoveryCache(file.toPath());
+        cache.load(handlers);
+        assertNull(cache.get(ref));
+        cache.put(ref, new BeanArchiveBuilder().setAttribute("index", new Object()));
+        cache.store();
+        assertArrayEquals(content, Files.readAllBytes(file.toPath()));
+
+        // The index was removed from the modified archive
+        createArchive("foo.jar", "org/acme/Foo.class", "org/acme/Bar.class");
+        cache = new DiscoveryCache(file.toPath());
+        cache.load(handlers);
+        assertNull(cache.get(ref));
+        cache.put(ref, handlers.get(0).handle(ref));
+        cache.store();
+
+        cache = new DiscoveryCache(file.toPath());
+        cache.load(handlers);
+        assertNotNull(cache.get(ref));
+    }
+
+    private File createArchive(String name, String... entries) throws IOException {
+        File archive = new File(folder.getRoot(), name);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(archive.toPath()))) {
+            for (String entry : entries) {
+                out.putNextEntry(new ZipEntry(entry));
+                out.closeEntry();
+            }
+        }
+        return archive;
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class DiscoveryTasksTest {
+
+    @Test
+    public void testResultsPreserveInputOrder() throws InterruptedException {
+        List<Integer> inputs = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<String> results = DiscoveryTasks.map(executor, inputs, i -> {
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "entry" + i;
+            });
+            List<String> expected = new ArrayList<>();
+            for (Integer i : inputs) {
+                expected.add("entry" + i);
+            }
+            assertEquals(expected, results);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testNoExecutor() {
+        Thread current = Thread.currentThread();
+        List<Thread> results = DiscoveryTasks.map(null, List.of(1, 2, 3), i -> Thread.currentThread());
+        assertEquals(List.of(current, current, current), results);
+    }
+
+    @Test
+    public void testFailureIsUnwrapped() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            DiscoveryTasks.map(executor, List.of(1, 2, 3), i -> {
+                if (i == 2) {
+                    throw new IllegalStateException("entry" + i);
+                }
+                return i;
+            });
+            fail();
+        } catch (IllegalStateException expected) {
+            assertEquals("entry2", expected.getMessage());
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.jandex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Stereotype;
+
+import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.junit.Test;
+
+public class JandexSyntheticArchiveIndexTest {
+
+    @Test
+    public void testHasBeanDefiningAnnotation() {
+        Set<String> classNames = ImmutableSet.of(Foo.class.getName(), Bar.class.getName(), Baz.class.getName(),
+                Qux.class.getName(), InheritedBase.class.getName());
+        Set<Class<? extends Annotation>> beanDefiningAnnotations = ImmutableSet.of(ApplicationScoped.class, Dependent.class);
+        JandexSyntheticArchiveIndex index = new JandexSyntheticArchiveIndex(
+                new ClassLoaderResourceLoader(getClass().getClassLoader()), classNames, beanDefiningAnnotations, null);
+        assertTrue(index.hasBeanDefiningAnnotation(Foo.class.getName()));
+        assertFalse(index.hasBeanDefiningAnnotation(Bar.class.getName()));
+        // Stereotype
+        assertTrue(index.hasBeanDefiningAnnotation(Baz.class.getName()));
+        // Inherited stereotype
+        assertTrue(index.hasBeanDefiningAnnotation(Qux.class.getName()));
+        // Not indexed - fallback to reflection
+        assertFalse(index.hasBeanDefiningAnnotation(JandexSyntheticArchiveIndexTest.class.getName()));
+        assertEquals(Foo.class.getName(), index.getClassFileServices().getClassFileInfo(Foo.class.getName()).getClassName());
+    }
+
+    @ApplicationScoped
+    static class Foo {
+    }
+
+    static class Bar {
+    }
+
+    @Stereotype
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Action {
+    }
+
+    @Action
+    static class Baz {
+    }
+
+    @Inherited
+    @Stereotype
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface InheritedAction {
+    }
+
+    @InheritedAction
+    static class InheritedBase {
+    }
+
+    static class Qux extends InheritedBase {
+    }
+
+}
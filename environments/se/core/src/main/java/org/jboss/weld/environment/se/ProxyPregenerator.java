@@ -0,0 +1,195 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.inject.Vetoed;
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.Container;
+import org.jboss.weld.bootstrap.WeldBootstrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.logging.WeldSELogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.Proxies;
+
+/**
+ * Generates the proxy classes of a Weld SE application ahead of time, typically as part of the build. The container is
+ * bootstrapped up to the validation phase (no {@code @Initialized(ApplicationScoped.class)} event is fired), client proxies are
+ * created for all proxyable normal-scoped beans and all the generated classes (client proxies, intercepted subclasses and
+ * decorator proxies) are written to the output directory using the regular package layout.
+ * <p>
+ * If the output directory is on the class path of the application (e.g. {@code target/classes}), the proxy classes are
+ * loaded instead of being generated at runtime, since {@code ProxyFactory} always attempts to load an existing proxy class
+ * first. The classes are only valid for the bean classes they were generated from, i.e. they need to be regenerated whenever
+ * the application changes. Proxy classes that were already defined in the current JVM are loaded rather than generated and
+ * are not written, i.e. the generator should run in a dedicated JVM. The output directory may be a bean archive, Weld proxy
+ * classes are recognized by their names and skipped by the bean discovery.
+ *
+ * <pre>
+ * java -cp my-app-classpath org.jboss.weld.environment.se.ProxyPregenerator target/classes
+ * </pre>
+ */
+@Vetoed
+public final class ProxyPregenerator {
+
+    /**
+     * Lists the classes written by the last run so that stale classes can be removed before the next one.
+     */
+    static final String INDEX = "META-INF/org.jboss.weld.proxies";
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final Weld weld;
+
+    private final Path outputDirectory;
+
+    /**
+     * The builder is copied, i.e. it is neither modified nor affected by subsequent changes.
+     *
+     * @param weld the configured builder, the same configuration as used at runtime should be provided
+     * @param outputDirectory
+     */
+    public ProxyPregenerator(Weld weld, Path outputDirectory) {
+        this.weld = weld.copy();
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * The main method called from the command line. The JVM exits with a non-zero status if an exception is thrown.
+     *
+     * @param args the output directory
+     * @throws IllegalArgumentException if not exactly one argument is given
+     * @throws IllegalStateException if the classes cannot be written to the output directory
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            throw WeldSELogger.LOG.proxyPregeneratorUsage(args.length);
+        }
+        new ProxyPregenerator(new Weld(), Paths.get(args[0])).generate();
+    }
+
+    /**
+     * Bootstraps the container, writes the generated proxy classes to the output directory and shuts the container down.
+     *
+     * @return the names of the generated classes
+     * @throws IllegalStateException if the classes cannot be written to the output directory
+     */
+    public List<String> generate() {
+        try {
+            removePreviouslyGenerated();
+            Path dumpDirectory = Files.createTempDirectory("weld-proxies");
+            try {
+                bootstrap(dumpDirectory);
+                List<String> generated = copyClasses(dumpDirectory);
+                WeldSELogger.LOG.proxyClassesGenerated(generated.size(), outputDirectory);
+                return generated;
+            } finally {
+                delete(dumpDirectory);
+            }
+        } catch (IOException e) {
+            throw WeldSELogger.LOG.unableToGenerateProxyClasses(outputDirectory, e);
+        }
+    }
+
+    private void bootstrap(Path dumpDirectory) {
+        weld.property(ConfigurationKey.PROXY_DUMP.get(), dumpDirectory.toString());
+        String containerId = ProxyPregenerator.class.getSimpleName() + "-" + UUID.randomUUID();
+        WeldBootstrap bootstrap = new WeldBootstrap();
+        weld.startContainer(bootstrap, containerId);
+        try {
+            bootstrap.startInitialization();
+            bootstrap.deployBeans();
+            bootstrap.validateBeans();
+            createClientProxies(containerId);
+        } finally {
+            bootstrap.shutdown();
+        }
+    }
+
+    private void createClientProxies(String containerId) {
+        for (BeanManagerImpl beanManager : Container.instance(containerId).beanDeploymentArchives().values()) {
+            for (Bean<?> bean : beanManager.getBeans()) {
+                if (beanManager.isNormalScope(bean.getScope()) && Proxies.isTypesProxyable(bean, beanManager.getServices())) {
+                    beanManager.getClientProxyProvider().getClientProxy(bean);
+                }
+            }
+        }
+    }
+
+    private List<String> copyClasses(Path dumpDirectory) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.endsWith(CLASS_SUFFIX)) {
+                    continue;
+                }
+                String className = fileName.substring(0, fileName.length() - CLASS_SUFFIX.length());
+                Path target = toClassFile(className);
+                Files.createDirectories(target.getParent());
+                Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+                classNames.add(className);
+            }
+        }
+        Collections.sort(classNames);
+        Path index = outputDirectory.resolve(INDEX);
+        Files.createDirectories(index.getParent());
+        Files.write(index, classNames, UTF_8);
+        return classNames;
+    }
+
+    private void removePreviouslyGenerated() throws IOException {
+        Path index = outputDirectory.resolve(INDEX);
+        if (!Files.isRegularFile(index)) {
+            return;
+        }
+        for (String className : Files.readAllLines(index, UTF_8)) {
+            if (!className.isEmpty()) {
+                Files.deleteIfExists(toClassFile(className));
+            }
+        }
+        Files.delete(index);
+    }
+
+    private Path toClassFile(String className) {
+        return outputDirectory.resolve(className.replace('.', '/') + CLASS_SUFFIX);
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+}
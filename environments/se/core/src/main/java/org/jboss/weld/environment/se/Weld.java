@@ -22,6 +22,8 @@ import static org.jboss.weld.environment.util.URLUtils.PROCOTOL_FILE;
 import static org.jboss.weld.environment.util.URLUtils.PROCOTOL_JAR;
 import static org.jboss.weld.environment.util.URLUtils.PROTOCOL_FILE_PART;
 import static org.jboss.weld.executor.ExecutorServicesFactory.ThreadPoolType.COMMON;
+import static org.jboss.weld.executor.ExecutorServicesFactory.ThreadPoolType.NONE;
+import static org.jboss.weld.executor.ExecutorServicesFactory.ThreadPoolType.SINGLE_THREAD;
 
 import java.io.File;
 import java.io.IOException;
@@ -30,6 +32,8 @@ import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.security.AccessController;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -44,6 +48,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -78,9 +84,11 @@ import org.jboss.weld.environment.deployment.WeldBeanDeploymentArchive;
 import org.jboss.weld.environment.deployment.WeldDeployment;
 import org.jboss.weld.environment.deployment.WeldResourceLoader;
 import org.jboss.weld.environment.deployment.discovery.ClassPathBeanArchiveScanner;
+import org.jboss.weld.environment.deployment.discovery.DiscoveryCache;
 import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategy;
 import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategyFactory;
 import org.jboss.weld.environment.deployment.discovery.jandex.Jandex;
+import org.jboss.weld.environment.deployment.discovery.jandex.JandexSyntheticArchiveIndex;
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.environment.se.ContainerLifecycleObserver.ContainerLifecycleObserverExtension;
 import org.jboss.weld.environment.se.contexts.ThreadScoped;
@@ -90,6 +98,7 @@ import org.jboss.weld.environment.util.Files;
 import org.jboss.weld.environment.util.Reflections;
 import org.jboss.weld.lite.extension.translator.BuildCompatibleExtensionLoader;
 import org.jboss.weld.lite.extension.translator.LiteExtensionTranslator;
+import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.metadata.BeansXmlImpl;
 import org.jboss.weld.resources.ClassLoaderResourceLoader;
 import org.jboss.weld.resources.spi.ClassFileServices;
@@ -335,6 +344,30 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
         return containerId;
     }
 
+    /**
+     * Creates a builder with the same configuration. Modifying the copy does not affect this builder and vice versa.
+     *
+     * @return the copy
+     */
+    Weld copy() {
+        Weld copy = new Weld(containerId);
+        copy.discoveryEnabled = discoveryEnabled;
+        copy.beanClasses.addAll(beanClasses);
+        copy.extendedBeanDefiningAnnotations.addAll(extendedBeanDefiningAnnotations);
+        copy.beanDiscoveryMode = beanDiscoveryMode;
+        copy.selectedAlternatives.addAll(selectedAlternatives);
+        copy.selectedAlternativeStereotypes.addAll(selectedAlternativeStereotypes);
+        copy.enabledInterceptors.addAll(enabledInterceptors);
+        copy.enabledDecorators.addAll(enabledDecorators);
+        copy.extensions.addAll(extensions);
+        copy.properties.putAll(properties);
+        copy.packages.addAll(packages);
+        copy.containerLifecycleObservers.addAll(containerLifecycleObservers);
+        copy.resourceLoader = resourceLoader;
+        copy.additionalServices.putAll(additionalServices);
+        return copy;
+    }
+
     /**
      * Define the set of bean classes for the synthetic bean archive.
      *
@@ -815,14 +848,41 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
      * @see WeldContainer#shutdown()
      */
     public WeldContainer initialize() {
+        final WeldBootstrap bootstrap = new WeldBootstrap();
+        final String containerId = this.containerId != null ? this.containerId : UUID.randomUUID().toString();
+        final Deployment deployment = startContainer(bootstrap, containerId);
+
+        final WeldContainer weldContainer = WeldContainer.startInitialization(containerId, deployment, bootstrap);
+
+        try {
+            bootstrap.startInitialization();
+            bootstrap.deployBeans();
+            bootstrap.validateBeans();
+            bootstrap.endInitialization();
+            WeldContainer.endInitialization(weldContainer, isEnabled(SHUTDOWN_HOOK_SYSTEM_PROPERTY, true));
+            initializedContainers.put(containerId, weldContainer);
+        } catch (Throwable e) {
+            // Discard the container if a bootstrap problem occurs, e.g. validation error
+            WeldContainer.discard(weldContainer.getId());
+            throw e;
+        }
+        return weldContainer;
+    }
 
+    /**
+     * Creates the deployment and starts the container, i.e. the first step of the bootstrap.
+     *
+     * @param bootstrap
+     * @param containerId
+     * @return the deployment
+     */
+    Deployment startContainer(WeldBootstrap bootstrap, String containerId) {
         // If also building a synthetic bean archive or the implicit scan is enabled, the check for beans.xml is not necessary
         if (!isSyntheticBeanArchiveRequired() && !isImplicitScanEnabled()
                 && resourceLoader.getResource(WeldDeployment.BEANS_XML) == null) {
             throw CommonLogger.LOG.missingBeansXml();
         }
 
-        final WeldBootstrap bootstrap = new WeldBootstrap();
         // load possible additional BDA
         parseAdditionalBeanDefiningAnnotations();
         final Deployment deployment = createDeployment(resourceLoader, bootstrap);
@@ -838,31 +898,16 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
             String key = property.getKey();
             if (SHUTDOWN_HOOK_SYSTEM_PROPERTY.equals(key) || ARCHIVE_ISOLATION_SYSTEM_PROPERTY.equals(key)
                     || SCAN_CLASSPATH_ENTRIES_SYSTEM_PROPERTY.equals(key) || JAVAX_ENTERPRISE_INJECT_SCAN_IMPLICIT.equals(key)
-                    || ADDITIONAL_BEAN_DEFINING_ANNOTATIONS_PROPERTY.equals(key)) {
+                    || ADDITIONAL_BEAN_DEFINING_ANNOTATIONS_PROPERTY.equals(key)
+                    || DiscoveryCache.DISCOVERY_CACHE_FILE.equals(key)) {
                 continue;
             }
             configurationBuilder.add(key, property.getValue());
         }
         deployment.getServices().add(ExternalConfiguration.class, configurationBuilder.build());
 
-        final String containerId = this.containerId != null ? this.containerId : UUID.randomUUID().toString();
         bootstrap.startContainer(containerId, Environments.SE, deployment);
-
-        final WeldContainer weldContainer = WeldContainer.startInitialization(containerId, deployment, bootstrap);
-
-        try {
-            bootstrap.startInitialization();
-            bootstrap.deployBeans();
-            bootstrap.validateBeans();
-            bootstrap.endInitialization();
-            WeldContainer.endInitialization(weldContainer, isEnabled(SHUTDOWN_HOOK_SYSTEM_PROPERTY, true));
-            initializedContainers.put(containerId, weldContainer);
-        } catch (Throwable e) {
-            // Discard the container if a bootstrap problem occurs, e.g. validation error
-            WeldContainer.discard(weldContainer.getId());
-            throw e;
-        }
-        return weldContainer;
+        return deployment;
     }
 
     /**
@@ -1006,29 +1051,43 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
                 .addAll(extendedBeanDefiningAnnotations)
                 .build();
 
+        ClassFileServices discoveryClassFileServices = null;
         if (discoveryEnabled) {
             DiscoveryStrategy strategy = DiscoveryStrategyFactory.create(resourceLoader, bootstrap,
                     beanDefiningAnnotations, isEnabled(Jandex.DISABLE_JANDEX_DISCOVERY_STRATEGY, false),
                     emptyBeansXmlDiscoveryMode);
+            final Executor discoveryExecutor = getDiscoveryExecutor(additionalServices);
+            strategy.setExecutor(discoveryExecutor);
+            strategy.setCache(getDiscoveryCache());
             if (isImplicitScanEnabled()) {
-                strategy.setScanner(new ClassPathBeanArchiveScanner(bootstrap, emptyBeansXmlDiscoveryMode));
+                strategy.setScanner(new ClassPathBeanArchiveScanner(bootstrap, emptyBeansXmlDiscoveryMode, discoveryExecutor));
             }
             beanDeploymentArchives.addAll(strategy.performDiscovery());
-            ClassFileServices classFileServices = strategy.getClassFileServices();
-            if (classFileServices != null) {
-                additionalServices.put(ClassFileServices.class, classFileServices);
-            }
+            discoveryClassFileServices = strategy.getClassFileServices();
         }
 
+        JandexSyntheticArchiveIndex syntheticArchiveIndex = null;
+
         if (isSyntheticBeanArchiveRequired()) {
             ImmutableSet.Builder<String> beanClassesBuilder = ImmutableSet.builder();
             beanClassesBuilder.addAll(scanPackages());
             Set<String> setOfAllBeanClasses = beanClassesBuilder.build();
+            // Custom class file services are respected unless replaced by the ones provided by the discovery strategy
+            if (discoveryClassFileServices != null || !additionalServices.containsKey(ClassFileServices.class)) {
+                syntheticArchiveIndex = createSyntheticArchiveIndex(setOfAllBeanClasses, beanDefiningAnnotations,
+                        discoveryClassFileServices);
+            }
             // the creation process differs based on bean discovery mode
             if (BeanDiscoveryMode.ANNOTATED.equals(beanDiscoveryMode)) {
                 // Annotated bean discovery mode, filter classes
                 ImmutableSet.Builder<String> filteredSetbuilder = ImmutableSet.builder();
                 for (String className : setOfAllBeanClasses) {
+                    if (syntheticArchiveIndex != null) {
+                        if (syntheticArchiveIndex.hasBeanDefiningAnnotation(className)) {
+                            filteredSetbuilder.add(className);
+                        }
+                        continue;
+                    }
                     Class<?> clazz = Reflections.loadClass(resourceLoader, className);
                     if (clazz != null && Reflections.hasBeanDefiningAnnotation(clazz, beanDefiningAnnotations)) {
                         filteredSetbuilder.add(className);
@@ -1042,6 +1101,14 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
             beanDeploymentArchives.add(syntheticBeanArchive);
         }
 
+        if (syntheticArchiveIndex != null) {
+            // Also backed by the discovery index - the classes that will not become beans nor are observed by a
+            // ProcessAnnotatedType observer are not loaded
+            additionalServices.put(ClassFileServices.class, syntheticArchiveIndex.getClassFileServices());
+        } else if (discoveryClassFileServices != null) {
+            additionalServices.put(ClassFileServices.class, discoveryClassFileServices);
+        }
+
         if (beanDeploymentArchives.isEmpty() && this.containerLifecycleObservers.isEmpty() && this.extensions.isEmpty()) {
             throw WeldSELogger.LOG.weldContainerCannotBeInitializedNoBeanArchivesFound();
         }
@@ -1075,6 +1142,69 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
         return deployment;
     }
 
+    /**
+     * The bean archives are scanned and handled concurrently unless the concurrent deployment is disabled or a single-threaded
+     * executor is configured. The container is not running yet, so either the {@link ExecutorServices} registered via
+     * {@link #addServices(Service...)} or the common {@link ForkJoinPool} used by Weld SE by default is used.
+     *
+     * @return the executor or <code>null</code> if the bean archives should be handled sequentially
+     */
+    private Executor getDiscoveryExecutor(Map<Class<? extends Service>, Service> additionalServices) {
+        if (!isEnabled(ConfigurationKey.CONCURRENT_DEPLOYMENT.get(), true)) {
+            return null;
+        }
+        Service executorServices = additionalServices.get(ExecutorServices.class);
+        if (executorServices instanceof ExecutorServices) {
+            return ((ExecutorServices) executorServices).getTaskExecutor();
+        }
+        Object threadPoolType = getPropertyValue(EXECUTOR_THREAD_POOL_TYPE.get(),
+                AccessController.doPrivileged(new GetSystemPropertyAction(EXECUTOR_THREAD_POOL_TYPE.get())));
+        if (threadPoolType != null && (NONE.toString().equals(threadPoolType.toString())
+                || SINGLE_THREAD.toString().equals(threadPoolType.toString()))) {
+            return null;
+        }
+        return ForkJoinPool.commonPool();
+    }
+
+    private DiscoveryCache getDiscoveryCache() {
+        Object file = getPropertyValue(DiscoveryCache.DISCOVERY_CACHE_FILE,
+                AccessController.doPrivileged(new GetSystemPropertyAction(DiscoveryCache.DISCOVERY_CACHE_FILE)));
+        if (file == null || file.toString().isEmpty()) {
+            return null;
+        }
+        return new DiscoveryCache(file instanceof Path ? (Path) file : Paths.get(file.toString()));
+    }
+
+    /**
+     * Builds a Jandex index of the classes of the synthetic bean archive so that the classes do not have to be loaded in
+     * order to find out whether they declare a bean defining annotation. The index is combined with the index of the
+     * discovery strategy, if any.
+     *
+     * @param discoveryClassFileServices the class file services provided by the discovery strategy, may be <code>null</code>
+     * @return the index or <code>null</code> if Jandex is not available, is disabled or the class file services provided by
+     *         the discovery strategy are not backed by Jandex
+     */
+    private JandexSyntheticArchiveIndex createSyntheticArchiveIndex(Set<String> classNames,
+            Set<Class<? extends Annotation>> beanDefiningAnnotations, ClassFileServices discoveryClassFileServices) {
+        if (classNames.isEmpty() || isEnabled(Jandex.DISABLE_JANDEX_DISCOVERY_STRATEGY, false)
+                || !Jandex.isJandexAvailable(resourceLoader)) {
+            return null;
+        }
+        if (discoveryClassFileServices != null
+                && !Jandex.JANDEX_CLASS_FILE_SERVICES_CLASS_NAME.equals(discoveryClassFileServices.getClass().getName())) {
+            return null;
+        }
+        try {
+            return Jandex.createSyntheticArchiveIndex(resourceLoader, classNames, beanDefiningAnnotations,
+                    discoveryClassFileServices);
+        } catch (Exception e) {
+            throw CommonLogger.LOG.unableToInstantiate(Jandex.JANDEX_SYNTHETIC_ARCHIVE_INDEX_CLASS_NAME,
+                    Arrays.toString(new Object[] { resourceLoader, classNames, beanDefiningAnnotations,
+                            discoveryClassFileServices }),
+                    e);
+        }
+    }
+
     /**
      * Create an anonymous impl of {@link WeldDeployment} overriding its {@link WeldDeployment#loadBeanDeploymentArchive(Class)}
      * method.
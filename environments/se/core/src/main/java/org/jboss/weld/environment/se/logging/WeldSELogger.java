@@ -2,6 +2,7 @@ package org.jboss.weld.environment.se.logging;
 
 import org.jboss.logging.Logger;
 import org.jboss.logging.Logger.Level;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.Message.Format;
@@ -94,4 +95,14 @@ public interface WeldSELogger extends WeldEnvironmentLogger {
 
     @Message(id = 2019, value = "Failed to parse the following string as additional bean defining annotation: {0}. The exception was: {1}", format = Format.MESSAGE_FORMAT)
     IllegalArgumentException failedToLoadClass(String className, String exception);
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 2020, value = "Generated {0} proxy classes into {1}", format = Format.MESSAGE_FORMAT)
+    void proxyClassesGenerated(int count, Object outputDirectory);
+
+    @Message(id = 2021, value = "Unable to generate proxy classes into {0}", format = Format.MESSAGE_FORMAT)
+    IllegalStateException unableToGenerateProxyClasses(Object outputDirectory, @Cause Throwable cause);
+
+    @Message(id = 2022, value = "Usage: ProxyPregenerator <output directory>, but {0} arguments were given", format = Format.MESSAGE_FORMAT)
+    IllegalArgumentException proxyPregeneratorUsage(int count);
 }
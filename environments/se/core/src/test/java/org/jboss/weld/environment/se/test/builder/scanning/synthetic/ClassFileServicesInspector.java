@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.builder.scanning.synthetic;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.Extension;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.resources.spi.ClassFileServices;
+
+/**
+ * Checks which classes are known to the {@link ClassFileServices} used during bootstrap. The services are cleaned up after
+ * bootstrap.
+ */
+public class ClassFileServicesInspector implements Extension {
+
+    private final String[] classNames;
+
+    private final Map<String, Boolean> indexed = new HashMap<>();
+
+    private volatile String classFileServicesType;
+
+    public ClassFileServicesInspector(String... classNames) {
+        this.classNames = classNames;
+    }
+
+    void inspect(@Observes AfterBeanDiscovery event, BeanManager beanManager) {
+        ClassFileServices classFileServices = BeanManagerProxy.unwrap(beanManager).getServices()
+                .get(ClassFileServices.class);
+        if (classFileServices == null) {
+            return;
+        }
+        classFileServicesType = classFileServices.getClass().getName();
+        for (String className : classNames) {
+            boolean found;
+            try {
+                found = classFileServices.getClassFileInfo(className) != null;
+            } catch (RuntimeException e) {
+                found = false;
+            }
+            indexed.put(className, found);
+        }
+    }
+
+    public boolean isIndexed(String className) {
+        return Boolean.TRUE.equals(indexed.get(className));
+    }
+
+    public String getClassFileServicesType() {
+        return classFileServicesType;
+    }
+
+}
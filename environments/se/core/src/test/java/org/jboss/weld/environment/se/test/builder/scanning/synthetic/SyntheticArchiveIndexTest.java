@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.builder.scanning.synthetic;
+
+import static org.jboss.shrinkwrap.api.ShrinkWrap.create;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Enumeration;
+
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.weld.environment.deployment.AbstractWeldDeployment;
+import org.jboss.weld.environment.deployment.discovery.jandex.Jandex;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.environment.se.test.builder.scanning.synthetic.added.AddedBean;
+import org.jboss.weld.environment.se.test.builder.scanning.synthetic.added.NotABean;
+import org.junit.Test;
+
+/**
+ * Tests that the Jandex index of the synthetic bean archive is combined with the index of the discovery strategy.
+ */
+public class SyntheticArchiveIndexTest {
+
+    @Test
+    public void testSyntheticIndexUsedWithDiscovery() throws IOException {
+        final Archive<?> archive = create(BeanArchive.class).addClass(DiscoveredBean.class);
+        final File jar = File.createTempFile("weld-se-test", ".jar");
+        jar.deleteOnExit();
+        archive.as(ZipExporter.class).exportTo(jar, true);
+        // Hide the beans.xml of the testsuite, see also ExplicitClassLoaderScanningTest
+        ClassLoader classLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (AbstractWeldDeployment.BEANS_XML.equals(name)) {
+                    return findResources(name);
+                }
+                return super.getResources(name);
+            }
+        };
+
+        ClassFileServicesInspector inspector = new ClassFileServicesInspector(DiscoveredBean.class.getName(),
+                AddedBean.class.getName(), NotABean.class.getName());
+        try (WeldContainer container = new Weld().setClassLoader(classLoader).addPackage(false, AddedBean.class)
+                .addExtension(inspector).initialize()) {
+            assertTrue(container.select(DiscoveredBean.class).isResolvable());
+            assertTrue(container.select(AddedBean.class).isResolvable());
+        }
+        assertEquals(Jandex.JANDEX_CLASS_FILE_SERVICES_CLASS_NAME, inspector.getClassFileServicesType());
+        // Both the discovered and the added classes are indexed
+        assertTrue(inspector.isIndexed(DiscoveredBean.class.getName()));
+        assertTrue(inspector.isIndexed(AddedBean.class.getName()));
+        assertTrue(inspector.isIndexed(NotABean.class.getName()));
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.context.conversation;
+
+import java.io.Serializable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.ConversationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.spi.CDI;
+
+@ConversationScoped
+public class Basket implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static volatile CountDownLatch destroyed = new CountDownLatch(1);
+
+    static final AtomicBoolean REQUEST_CONTEXT_ACTIVE = new AtomicBoolean();
+
+    static final AtomicBoolean CONVERSATION_CONTEXT_ACTIVE = new AtomicBoolean();
+
+    private int items;
+
+    public void add() {
+        items++;
+    }
+
+    public int getItems() {
+        return items;
+    }
+
+    @PreDestroy
+    void destroy() {
+        try {
+            REQUEST_CONTEXT_ACTIVE.set(CDI.current().getBeanManager().getContext(RequestScoped.class).isActive());
+        } catch (ContextNotActiveException e) {
+            REQUEST_CONTEXT_ACTIVE.set(false);
+        }
+        try {
+            CONVERSATION_CONTEXT_ACTIVE.set(CDI.current().getBeanManager().getContext(ConversationScoped.class).isActive());
+        } catch (ContextNotActiveException e) {
+            CONVERSATION_CONTEXT_ACTIVE.set(false);
+        }
+        destroyed.countDown();
+    }
+
+}
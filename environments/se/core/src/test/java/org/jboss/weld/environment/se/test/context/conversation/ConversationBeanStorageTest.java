@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.context.conversation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.enterprise.context.Conversation;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.context.bound.BoundConversationContext;
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.context.bound.MutableBoundRequest;
+import org.jboss.weld.contexts.beanstore.ConversationBeanStorage;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Test;
+
+public class ConversationBeanStorageTest {
+
+    @Test
+    public void testConversationInstancesKeptInSingleAttribute() {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(Cart.class)
+                .property(ConfigurationKey.CONVERSATION_BEAN_STORAGE.get(), true).initialize()) {
+            BoundRequestContext requestContext = container.select(BoundRequestContext.class).get();
+            BoundConversationContext context = container.select(BoundConversationContext.class).get();
+            Conversation conversation = container.select(Conversation.class).get();
+            Cart cart = container.select(Cart.class).get();
+            Map<String, Object> session = new HashMap<>();
+
+            // Start a long-running conversation
+            MutableBoundRequest request = new MutableBoundRequest(new HashMap<>(), session);
+            requestContext.associate(request.getRequestMap());
+            requestContext.activate();
+            context.associate(request);
+            context.activate();
+            conversation.begin();
+            String cid = conversation.getId();
+            cart.add();
+            context.invalidate();
+            context.deactivate();
+            context.dissociate(request);
+            requestContext.invalidate();
+            requestContext.deactivate();
+            requestContext.dissociate(request.getRequestMap());
+
+            assertTrue(session.get("WELD_BC." + cid) instanceof ConversationBeanStorage);
+            for (String name : session.keySet()) {
+                assertFalse(name, name.startsWith("WELD_BC." + cid + "#"));
+            }
+
+            // Restore and end the conversation
+            request = new MutableBoundRequest(new HashMap<>(), session);
+            requestContext.associate(request.getRequestMap());
+            requestContext.activate();
+            context.associate(request);
+            context.activate(cid);
+            assertEquals(1, cart.getItems());
+            cart.add();
+            conversation.end();
+            context.invalidate();
+            context.deactivate();
+            context.dissociate(request);
+            requestContext.invalidate();
+            requestContext.deactivate();
+            requestContext.dissociate(request.getRequestMap());
+
+            assertNull(session.get("WELD_BC." + cid));
+        }
+    }
+
+}
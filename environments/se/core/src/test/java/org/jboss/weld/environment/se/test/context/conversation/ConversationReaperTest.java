@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.context.conversation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.Conversation;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.context.bound.BoundConversationContext;
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.context.bound.MutableBoundRequest;
+import org.jboss.weld.contexts.AbstractConversationContext;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConversationReaperTest {
+
+    private static final long REAPER_INTERVAL = 50L;
+
+    private WeldContainer container;
+
+    private BoundRequestContext requestContext;
+
+    private BoundConversationContext conversationContext;
+
+    private Map<String, Object> session;
+
+    @Before
+    public void reset() {
+        Basket.destroyed = new CountDownLatch(1);
+        Basket.REQUEST_CONTEXT_ACTIVE.set(false);
+        Basket.CONVERSATION_CONTEXT_ACTIVE.set(true);
+        session = new HashMap<>();
+    }
+
+    @Test
+    public void testExpiredConversationDestroyedInBackground() throws InterruptedException {
+        try (WeldContainer container = startContainer()) {
+            String cid = beginConversation(300L);
+            // No further request is needed to end the conversation
+            assertTrue(Basket.destroyed.await(5, TimeUnit.SECONDS));
+            assertTrue(Basket.REQUEST_CONTEXT_ACTIVE.get());
+            // The conversation context is not activated on the timer thread
+            assertFalse(Basket.CONVERSATION_CONTEXT_ACTIVE.get());
+            Map<?, ?> conversations = (Map<?, ?>) session.get(AbstractConversationContext.CONVERSATIONS_ATTRIBUTE_NAME);
+            // The map is updated before the contextual instances are destroyed
+            assertFalse(conversations.containsKey(cid));
+        }
+    }
+
+    @Test
+    public void testAccessedConversationRescheduled() throws InterruptedException {
+        try (WeldContainer container = startContainer()) {
+            long timeout = 1000L;
+            String cid = beginConversation(timeout);
+            long end = System.currentTimeMillis() + 2 * timeout;
+            int items = 1;
+            while (System.currentTimeMillis() < end) {
+                Thread.sleep(timeout / 4);
+                // Each request touches the conversation
+                MutableBoundRequest request = activate(cid);
+                Basket basket = container.select(Basket.class).get();
+                assertEquals(items, basket.getItems());
+                basket.add();
+                items++;
+                deactivate(request);
+                assertEquals(1, Basket.destroyed.getCount());
+            }
+            assertTrue(Basket.destroyed.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testExpiredConversationEndedAfterSessionObjectCollected() throws InterruptedException {
+        // Some containers return a new session object for every request, backed by the same session storage
+        Map<String, Object> storage = session;
+        session = Collections.synchronizedMap(storage);
+        try (WeldContainer container = startContainer()) {
+            long timeout = 500L;
+            String cid = beginConversation(timeout);
+            WeakReference<Map<String, Object>> sessionObject = new WeakReference<>(session);
+            session = null;
+            long end = System.currentTimeMillis() + 5000L;
+            while (sessionObject.get() != null && System.currentTimeMillis() < end) {
+                System.gc();
+                Thread.sleep(10L);
+            }
+            assertNull(sessionObject.get());
+            // The reaper cannot end the conversation without the session object
+            Thread.sleep(timeout + 4 * REAPER_INTERVAL);
+            assertEquals(1, Basket.destroyed.getCount());
+            // The next request must end the expired conversation
+            session = Collections.synchronizedMap(storage);
+            deactivate(activate(null));
+            assertTrue(Basket.destroyed.await(5, TimeUnit.SECONDS));
+            Map<?, ?> conversations = (Map<?, ?>) storage.get(AbstractConversationContext.CONVERSATIONS_ATTRIBUTE_NAME);
+            assertFalse(conversations.containsKey(cid));
+        }
+    }
+
+    @Test
+    public void testReaperStoppedOnShutdown() throws InterruptedException {
+        try (WeldContainer container = startContainer()) {
+            beginConversation(300L);
+        }
+        // The conversation is only destroyed together with its session
+        assertFalse(Basket.destroyed.await(1, TimeUnit.SECONDS));
+    }
+
+    private WeldContainer startContainer() {
+        container = new Weld().disableDiscovery().beanClasses(Basket.class)
+                .property(ConfigurationKey.CONVERSATION_REAPER_INTERVAL.get(), REAPER_INTERVAL).initialize();
+        requestContext = container.select(BoundRequestContext.class).get();
+        conversationContext = container.select(BoundConversationContext.class).get();
+        return container;
+    }
+
+    private String beginConversation(long timeout) {
+        MutableBoundRequest request = activate(null);
+        Conversation conversation = container.select(Conversation.class).get();
+        conversation.begin();
+        conversation.setTimeout(timeout);
+        container.select(Basket.class).get().add();
+        String cid = conversation.getId();
+        deactivate(request);
+        return cid;
+    }
+
+    private MutableBoundRequest activate(String cid) {
+        MutableBoundRequest request = new MutableBoundRequest(new HashMap<>(), session);
+        requestContext.associate(request.getRequestMap());
+        requestContext.activate();
+        conversationContext.associate(request);
+        conversationContext.activate(cid);
+        return request;
+    }
+
+    private void deactivate(MutableBoundRequest request) {
+        conversationContext.invalidate();
+        conversationContext.deactivate();
+        conversationContext.dissociate(request);
+        requestContext.invalidate();
+        requestContext.deactivate();
+        requestContext.dissociate(request.getRequestMap());
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.context.request;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.context.RequestContext;
+import org.jboss.weld.context.bound.BoundLiteral;
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Test;
+
+public class ActiveRequestContextTest {
+
+    @Test
+    public void testActivationAndDeactivation() {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(Visit.class).initialize()) {
+            BeanManager beanManager = container.getBeanManager();
+            BoundRequestContext boundContext = container.select(BoundRequestContext.class, BoundLiteral.INSTANCE).get();
+            Map<String, Object> storage = new HashMap<>();
+            boundContext.associate(storage);
+            boundContext.activate();
+            try {
+                assertSame(boundContext, beanManager.getContext(RequestScoped.class));
+                Visit visit = container.select(Visit.class).get();
+                assertEquals(visit.getId(), container.select(Visit.class).get().getId());
+                // The instance is kept in the storage associated with the bound context
+                assertFalse(storage.isEmpty());
+            } finally {
+                boundContext.deactivate();
+                boundContext.dissociate(storage);
+            }
+            assertNotActive(beanManager);
+        }
+    }
+
+    @Test
+    public void testRepeatedActivation() {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(Visit.class).initialize()) {
+            BeanManager beanManager = container.getBeanManager();
+            RequestContext unboundContext = container.select(RequestContext.class, UnboundLiteral.INSTANCE).get();
+            unboundContext.activate();
+            unboundContext.activate();
+            assertSame(unboundContext, beanManager.getContext(RequestScoped.class));
+            // The activation is not counted
+            unboundContext.deactivate();
+            assertFalse(unboundContext.isActive());
+            assertNotActive(beanManager);
+        }
+    }
+
+    @Test
+    public void testMultipleActiveContexts() {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(Visit.class).initialize()) {
+            BeanManager beanManager = container.getBeanManager();
+            BoundRequestContext boundContext = container.select(BoundRequestContext.class, BoundLiteral.INSTANCE).get();
+            RequestContext unboundContext = container.select(RequestContext.class, UnboundLiteral.INSTANCE).get();
+            Map<String, Object> storage = new HashMap<>();
+            boundContext.associate(storage);
+            boundContext.activate();
+            try {
+                // Activating another context for the same scope fails
+                try {
+                    unboundContext.activate();
+                    fail();
+                } catch (IllegalStateException expected) {
+                }
+                assertFalse(unboundContext.isActive());
+                assertSame(boundContext, beanManager.getContext(RequestScoped.class));
+            } finally {
+                boundContext.deactivate();
+                boundContext.dissociate(storage);
+            }
+            assertNotActive(beanManager);
+        }
+    }
+
+    private static void assertNotActive(BeanManager beanManager) {
+        try {
+            beanManager.getContext(RequestScoped.class);
+            fail();
+        } catch (ContextNotActiveException expected) {
+        }
+    }
+
+}
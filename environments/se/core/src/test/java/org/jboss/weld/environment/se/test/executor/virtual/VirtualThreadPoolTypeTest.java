@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.executor.virtual;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.executor.ExecutorServicesFactory.ThreadPoolType;
+import org.jboss.weld.executor.FixedThreadPoolExecutorServices;
+import org.jboss.weld.executor.VirtualThreadExecutorServices;
+import org.jboss.weld.manager.api.ExecutorServices;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ThreadPoolType#VIRTUAL} thread pool type. On a runtime without virtual threads, Weld falls back to
+ * the {@link ThreadPoolType#FIXED} thread pool.
+ */
+public class VirtualThreadPoolTypeTest {
+
+    @Test
+    public void testExecutorServices() {
+        try (WeldContainer container = createWeld().initialize()) {
+            ExecutorServices executorServices = BeanManagerProxy.unwrap(container.getBeanManager()).getServices()
+                    .get(ExecutorServices.class);
+            assertEquals(VirtualThreadExecutorServices.isSupported() ? VirtualThreadExecutorServices.class
+                    : FixedThreadPoolExecutorServices.class, executorServices.getClass());
+        }
+    }
+
+    @Test
+    public void testContextClassLoaderPropagatedToAsyncObservers() throws Exception {
+        ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+        try (WeldContainer container = createWeld().initialize();
+                URLClassLoader classLoader = new URLClassLoader(new URL[0], originalClassLoader)) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            try {
+                container.event().select(String.class).fireAsync("ping");
+            } finally {
+                Thread.currentThread().setContextClassLoader(originalClassLoader);
+            }
+            assertSame(classLoader,
+                    container.select(ContextClassLoaderObserver.class).get().getContextClassLoader().get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private static Weld createWeld() {
+        return new Weld().disableDiscovery().beanClasses(ContextClassLoaderObserver.class)
+                .property(ConfigurationKey.EXECUTOR_THREAD_POOL_TYPE.get(), ThreadPoolType.VIRTUAL.toString());
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.instance;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.inject.Qualifier;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Test;
+
+public class SelectedFacadeCacheTest {
+
+    @Test
+    public void testRepeatedInstanceSelect() {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(KPTImpl.class).initialize()) {
+            Instance<KPT> instance = container.select(KPT.class, Any.Literal.INSTANCE);
+            Instance<KPT> selected = instance.select(new KPQLiteral());
+            assertSame(selected, instance.select(new KPQLiteral()));
+            assertNotNull(selected.get());
+            assertNotSame(selected, instance.select(KPTImpl.class, new KPQLiteral()));
+        }
+    }
+
+    @Test
+    public void testRepeatedEventSelect() {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(KPTImpl.class).initialize()) {
+            Event<Object> event = container.getBeanManager().getEvent();
+            Event<KPT> selected = event.select(KPT.class, new KPQLiteral());
+            assertSame(selected, event.select(KPT.class, new KPQLiteral()));
+            assertNotSame(selected, event.select(KPT.class));
+            selected.fire(new KPTImpl());
+        }
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSelectionEvicted() {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(KPTImpl.class).initialize()) {
+            Instance<Object> instance = container.select(Object.class);
+            Instance<Object> first = instance.select(NamedLiteral.of("first"));
+            for (int i = 0; i < 32; i++) {
+                instance.select(NamedLiteral.of("name" + i));
+            }
+            // The cache keeps accepting new selections
+            Instance<Object> last = instance.select(NamedLiteral.of("last"));
+            assertSame(last, instance.select(NamedLiteral.of("last")));
+            assertNotSame(first, instance.select(NamedLiteral.of("first")));
+        }
+    }
+
+    @Test
+    public void testSelectionWithNonbindingMemberNotCached() {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(KPTImpl.class).initialize()) {
+            Instance<Object> instance = container.select(Object.class);
+            // The nonbinding member is visible through the injection point of the child instance
+            Instance<Object> selected = instance.select(new Labeled.Literal("foo"));
+            assertNotSame(selected, instance.select(new Labeled.Literal("foo")));
+        }
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Labeled {
+
+        @Nonbinding
+        String value();
+
+        @SuppressWarnings("all")
+        final class Literal extends AnnotationLiteral<Labeled> implements Labeled {
+
+            private final String value;
+
+            Literal(String value) {
+                this.value = value;
+            }
+
+            @Override
+            public String value() {
+                return value;
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.interceptors.compiled;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Test;
+
+public class CompiledInterceptionChainTest {
+
+    @Test
+    public void testCompiledChain() {
+        try (WeldContainer container = new Weld().disableDiscovery()
+                .beanClasses(Calculator.class, DoublingInterceptor.class)
+                .property(ConfigurationKey.COMPILED_INTERCEPTION_CHAINS.get(), true).initialize()) {
+            Calculator.INVOCATIONS.set(0);
+            Calculator calculator = container.select(Calculator.class).get();
+            // ((1 * 2) + 2) * 2
+            assertEquals(8, calculator.add(1, 2));
+            assertEquals(8, calculator.add(1, 2));
+            try {
+                calculator.fail();
+                fail();
+            } catch (IOException expected) {
+                assertEquals("fail", expected.getMessage());
+            }
+            assertEquals(3, Calculator.INVOCATIONS.get());
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.interceptors.compiled;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Doubles the first parameter and the result of the intercepted method.
+ */
+@Doubled
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class DoublingInterceptor {
+
+    @AroundInvoke
+    Object doubleValue(InvocationContext ctx) throws Exception {
+        Object[] parameters = ctx.getParameters();
+        if (parameters.length > 0) {
+            parameters[0] = (Integer) parameters[0] * 2;
+            ctx.setParameters(parameters);
+        }
+        Object result = ctx.proceed();
+        return result instanceof Integer ? (Integer) result * 2 : result;
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.interceptors.metadata;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.interceptor.proxy.InterceptionContext;
+import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodHandler;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodInvocation;
+import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
+import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
+import org.jboss.weld.interceptor.spi.metadata.InterceptorFactory;
+import org.jboss.weld.interceptor.spi.model.InterceptionModel;
+import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.junit.Test;
+
+/**
+ * Tests an {@link InterceptorClassMetadata} implementation which does not provide
+ * {@link InterceptorClassMetadata#getInterceptorMethodInvokers(InterceptionType)}.
+ */
+public class ThirdPartyInterceptorMetadataTest {
+
+    @Test
+    public void testDefaultInterceptorMethodInvokers() throws Throwable {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(Target.class).initialize()) {
+            BeanManagerImpl manager = BeanManagerProxy.unwrap(container.getBeanManager());
+            List<String> events = new ArrayList<>();
+            InterceptionContext interceptionContext = InterceptionContext.forNonConstructorInterception(
+                    new SingleInterceptorModel(new ThirdPartyInterceptorMetadata(events)),
+                    manager.createCreationalContext(null),
+                    manager, null);
+            // The method handler of an intercepted subclass
+            CombinedInterceptorAndDecoratorStackMethodHandler handler = new CombinedInterceptorAndDecoratorStackMethodHandler();
+            handler.setInterceptorMethodHandler(new InterceptorMethodHandler(interceptionContext));
+            Method ping = Target.class.getMethod("ping", String.class);
+            Target target = new Target();
+
+            assertEquals("pong:foo",
+                    handler.invoke(InterceptionDecorationContext.getStack(), target, ping, ping, new Object[] { "foo" }));
+            assertEquals("pong:bar",
+                    handler.invoke(InterceptionDecorationContext.getStack(), target, ping, ping, new Object[] { "bar" }));
+            // The interceptor methods are found out once when the chain is built, an invocation is bound to the
+            // interceptor instance upon each invocation of an interceptor method
+            assertEquals(List.of("bind:null", "bind:interceptor", "first", "bind:interceptor", "second", "bind:interceptor",
+                    "first", "bind:interceptor", "second"), events);
+        }
+    }
+
+    public static class Target {
+
+        public String ping(String value) {
+            return "pong:" + value;
+        }
+
+    }
+
+    private static class ThirdPartyInterceptor {
+
+        @Override
+        public String toString() {
+            return "interceptor";
+        }
+
+    }
+
+    private static class ThirdPartyInterceptorMetadata implements InterceptorClassMetadata<ThirdPartyInterceptor> {
+
+        private final List<String> events;
+
+        ThirdPartyInterceptorMetadata(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public boolean isEligible(InterceptionType interceptionType) {
+            return interceptionType == InterceptionType.AROUND_INVOKE;
+        }
+
+        @Override
+        public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType) {
+            events.add("bind:" + interceptorInstance);
+            return () -> List.of(new ProceedingInvocation("first"), new ProceedingInvocation("second"));
+        }
+
+        @Override
+        public InterceptorFactory<ThirdPartyInterceptor> getInterceptorFactory() {
+            return (ctx, manager) -> new ThirdPartyInterceptor();
+        }
+
+        @Override
+        public Class<ThirdPartyInterceptor> getJavaClass() {
+            return ThirdPartyInterceptor.class;
+        }
+
+        private class ProceedingInvocation implements InterceptorMethodInvocation {
+
+            private final String name;
+
+            ProceedingInvocation(String name) {
+                this.name = name;
+            }
+
+            @Override
+            public Object invoke(InvocationContext invocationContext) throws Exception {
+                events.add(name);
+                return invocationContext.proceed();
+            }
+
+            @Override
+            public boolean expectsInvocationContext() {
+                return true;
+            }
+        }
+    }
+
+    private static class SingleInterceptorModel implements InterceptionModel {
+
+        private final InterceptorClassMetadata<?> interceptor;
+
+        SingleInterceptorModel(InterceptorClassMetadata<?> interceptor) {
+            this.interceptor = interceptor;
+        }
+
+        @Override
+        public List<InterceptorClassMetadata<?>> getInterceptors(InterceptionType interceptionType, Method method) {
+            return interceptor.isEligible(interceptionType) ? List.of(interceptor) : Collections.emptyList();
+        }
+
+        @Override
+        public List<InterceptorClassMetadata<?>> getConstructorInvocationInterceptors() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Set<InterceptorClassMetadata<?>> getAllInterceptors() {
+            return Set.of(interceptor);
+        }
+
+        @Override
+        public boolean hasExternalConstructorInterceptors() {
+            return false;
+        }
+
+        @Override
+        public boolean hasExternalNonConstructorInterceptors() {
+            return true;
+        }
+
+        @Override
+        public boolean hasTargetClassInterceptors() {
+            return false;
+        }
+
+        @Override
+        public TargetClassInterceptorMetadata getTargetClassInterceptorMetadata() {
+            return TargetClassInterceptorMetadata.EMPTY_INSTANCE;
+        }
+
+        @Override
+        public Set<Annotation> getClassInterceptorBindings() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Set<Annotation> getMemberInterceptorBindings(Member member) {
+            return Collections.emptySet();
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.interceptors.position;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Modifies the parameters and then proceeds twice, the second time from a different thread.
+ */
+@Positioned
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION + 1)
+public class SecondInterceptor {
+
+    @AroundInvoke
+    Object intercept(InvocationContext ctx) throws Exception {
+        String value = (String) ctx.getParameters()[0];
+        ctx.setParameters(new Object[] { value.toUpperCase() });
+        Object first = ctx.proceed();
+        Object second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return ctx.proceed();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }).join();
+        return ctx.getContextData().get(FirstInterceptor.class.getName()) + ":" + first + ":" + second;
+    }
+
+}
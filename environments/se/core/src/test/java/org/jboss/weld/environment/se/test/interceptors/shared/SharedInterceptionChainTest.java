@@ -0,0 +1,82 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.interceptors.shared;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import jakarta.enterprise.inject.spi.InterceptionType;
+import jakarta.interceptor.Interceptor;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.ContainerLifecycleObserver;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Interception chains are computed once per intercepted component and shared by all its instances, only the interceptor
+ * instances are bound to the intercepted instance.
+ */
+public class SharedInterceptionChainTest {
+
+    @Before
+    public void reset() {
+        Ticket.SEQUENCE.set(0);
+        Ticket.EVENTS.clear();
+    }
+
+    @Test
+    public void testSharedChain() {
+        testChain(false);
+    }
+
+    @Test
+    public void testSharedCompiledChain() {
+        testChain(true);
+    }
+
+    private void testChain(boolean compiled) {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(Ticket.class, AuditInterceptor.class)
+                .addContainerLifecycleObserver(ContainerLifecycleObserver.afterBeanDiscovery((event) -> event.addInterceptor()
+                        .addBinding(Audited.Literal.INSTANCE).priority(Interceptor.Priority.APPLICATION + 10)
+                        .intercept(InterceptionType.AROUND_INVOKE, (ctx) -> {
+                            Ticket.EVENTS.add("custom");
+                            try {
+                                return ctx.proceed();
+                            } catch (Exception e) {
+                                throw new IllegalStateException(e);
+                            }
+                        })))
+                .property(ConfigurationKey.COMPILED_INTERCEPTION_CHAINS.get(), compiled).initialize()) {
+            Ticket first = container.select(Ticket.class).get();
+            Ticket second = container.select(Ticket.class).get();
+            // The interceptor instance is created before the target instance
+            assertEquals(List.of("postConstruct:1", "init:2", "postConstruct:3", "init:4"), Ticket.EVENTS);
+            Ticket.EVENTS.clear();
+
+            assertEquals(2, first.book());
+            assertEquals(4, second.book());
+            assertEquals(2, first.book());
+            assertEquals(List.of("super:1", "audit:1", "custom", "target:2", "book:2", "super:3", "audit:3", "custom",
+                    "target:4", "book:4", "super:1", "audit:1", "custom", "target:2", "book:2"), Ticket.EVENTS);
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.interceptors.shared;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.Dependent;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.InvocationContext;
+
+@Audited
+@Dependent
+public class Ticket {
+
+    static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+    private final int id = SEQUENCE.incrementAndGet();
+
+    @PostConstruct
+    void init() {
+        EVENTS.add("init:" + id);
+    }
+
+    @AroundInvoke
+    Object aroundTarget(InvocationContext ctx) throws Exception {
+        EVENTS.add("target:" + id);
+        return ctx.proceed();
+    }
+
+    public int book() {
+        EVENTS.add("book:" + id);
+        return id;
+    }
+
+}
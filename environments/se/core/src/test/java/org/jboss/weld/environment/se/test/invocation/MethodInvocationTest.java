@@ -0,0 +1,116 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.invocation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.ObserverException;
+import jakarta.enterprise.inject.CreationException;
+import jakarta.enterprise.inject.Instance;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the invocation of static and private observer, producer and disposer methods and the exceptions they throw.
+ */
+public class MethodInvocationTest {
+
+    @Before
+    public void reset() {
+        Observers.NOTIFIED.clear();
+        Producers.DISPOSED.clear();
+    }
+
+    @Test
+    public void testObserverMethods() {
+        try (WeldContainer container = startContainer()) {
+            container.event().select(Ping.class).fire(new Ping());
+            assertEquals(new HashSet<>(Arrays.asList("static", "private")), new HashSet<>(Observers.NOTIFIED));
+        }
+    }
+
+    @Test
+    public void testObserverExceptions() {
+        try (WeldContainer container = startContainer()) {
+            Event<Failure> event = container.event().select(Failure.class);
+            RuntimeException runtimeException = new IllegalStateException();
+            try {
+                event.fire(new Failure(runtimeException));
+                fail();
+            } catch (IllegalStateException e) {
+                assertSame(runtimeException, e);
+            }
+            // NPE and ClassCastException thrown by the method must not be taken for an argument mismatch
+            NullPointerException nullPointerException = new NullPointerException();
+            try {
+                event.fire(new Failure(nullPointerException));
+                fail();
+            } catch (NullPointerException e) {
+                assertSame(nullPointerException, e);
+            }
+            IOException checkedException = new IOException();
+            try {
+                event.fire(new Failure(checkedException));
+                fail();
+            } catch (ObserverException e) {
+                assertSame(checkedException, e.getCause());
+            }
+        }
+    }
+
+    @Test
+    public void testProducerAndDisposerMethods() {
+        try (WeldContainer container = startContainer()) {
+            Instance<Product> staticProduct = container.select(Product.class, Static.Literal.INSTANCE);
+            Product product = staticProduct.get();
+            assertEquals("static", product.getName());
+            staticProduct.destroy(product);
+            Instance<Product> privateProduct = container.select(Product.class, Private.Literal.INSTANCE);
+            product = privateProduct.get();
+            assertEquals("private", product.getName());
+            privateProduct.destroy(product);
+            assertEquals(Arrays.asList("static", "private"), Producers.DISPOSED);
+        }
+    }
+
+    @Test
+    public void testProducerExceptions() {
+        try (WeldContainer container = startContainer()) {
+            container.select(Product.class, Broken.Literal.INSTANCE).get();
+            fail();
+        } catch (CreationException e) {
+            assertTrue(e.getCause() instanceof IOException);
+            assertEquals("broken", e.getCause().getMessage());
+        }
+    }
+
+    private static WeldContainer startContainer() {
+        return new Weld().disableDiscovery().beanClasses(Observers.class, Producers.class).initialize();
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.invocation;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+
+@Dependent
+public class Producers {
+
+    static final List<String> DISPOSED = new CopyOnWriteArrayList<>();
+
+    @Produces
+    @Static
+    static Product produceStatic() {
+        return new Product("static");
+    }
+
+    @Produces
+    @Private
+    private Product producePrivate() {
+        return new Product("private");
+    }
+
+    @Produces
+    @Broken
+    Product produceBroken() throws IOException {
+        throw new IOException("broken");
+    }
+
+    static void disposeStatic(@Disposes @Static Product product) {
+        DISPOSED.add(product.getName());
+    }
+
+    private void disposePrivate(@Disposes @Private Product product) {
+        DISPOSED.add(product.getName());
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.profile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jboss.weld.Container;
+import org.jboss.weld.bootstrap.profile.BootstrapProfiler;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Test;
+
+/**
+ * Tests that the bootstrap profile is exported once the container is initialized and that the profiler is a no-op
+ * afterwards.
+ */
+public class BootstrapProfileTest {
+
+    @Test
+    public void testProfilerClosedAfterExport() throws IOException {
+        Path file = Files.createTempFile("weld-bootstrap-profile", ".json");
+        try (WeldContainer container = new Weld().disableDiscovery().addExtension(new ProfiledExtension())
+                .property(ConfigurationKey.BOOTSTRAP_PROFILE.get(), "json")
+                .property(ConfigurationKey.BOOTSTRAP_PROFILE_FILE.get(), file.toString()).initialize()) {
+            String profile = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            assertTrue(profile, profile.contains(ProfiledExtension.class.getName()));
+            // The profiler stays registered, observer notifications are not recorded anymore
+            BootstrapProfiler profiler = Container.instance(container.getId()).services().get(BootstrapProfiler.class);
+            assertNotNull(profiler);
+            assertSame(profiler.startObserverNotification("Foo", "foo"), profiler.startObserverNotification("Bar", "bar"));
+            profiler.close();
+            assertEquals(profile, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.proxy.pregenerate;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jboss.weld.environment.se.ProxyPregenerator;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Each test uses a different bean class as proxy classes already defined in the JVM are not generated again.
+ */
+public class ProxyPregeneratorTest {
+
+    private static final String INDEX = "META-INF/org.jboss.weld.proxies";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testGeneratedClassesCanBeLoaded() throws Exception {
+        Path outputDirectory = folder.newFolder().toPath();
+        Weld weld = new Weld().disableDiscovery().beanClasses(Counter.class);
+
+        List<String> generated = new ProxyPregenerator(weld, outputDirectory).generate();
+        String proxyName = findProxyOf(Counter.class, generated);
+        assertTrue(Files.isRegularFile(outputDirectory.resolve(proxyName.replace('.', '/') + ".class")));
+        assertEquals(generated, Files.readAllLines(outputDirectory.resolve(INDEX), UTF_8));
+
+        // The proxy class is already defined by the application class loader, the dumped bytes must be defined separately
+        Class<?> proxyClass = new ClassFileLoader(Counter.class.getClassLoader()).define(proxyName,
+                outputDirectory.resolve(proxyName.replace('.', '/') + ".class"));
+        assertEquals(Counter.class, proxyClass.getSuperclass());
+
+        // The builder passed to the generator is not modified and can still be used
+        try (WeldContainer container = weld.initialize()) {
+            Counter counter = container.select(Counter.class).get();
+            assertEquals(proxyName, counter.getClass().getName());
+            assertNotSame(Counter.class, counter.getClass());
+            assertEquals(1, counter.increment());
+        }
+    }
+
+    @Test
+    public void testStaleClassesRemoved() throws IOException {
+        Path outputDirectory = folder.newFolder().toPath();
+        String stale = Tally.class.getPackage().getName() + ".Stale$Proxy$_$$_WeldClientProxy";
+        Path staleFile = outputDirectory.resolve(stale.replace('.', '/') + ".class");
+        Files.createDirectories(staleFile.getParent());
+        Files.write(staleFile, new byte[0]);
+        Files.createDirectories(outputDirectory.resolve(INDEX).getParent());
+        Files.write(outputDirectory.resolve(INDEX), List.of(stale), UTF_8);
+
+        List<String> generated = new ProxyPregenerator(new Weld().disableDiscovery().beanClasses(Tally.class),
+                outputDirectory).generate();
+        assertFalse(Files.exists(staleFile));
+        assertFalse(generated.contains(stale));
+        findProxyOf(Tally.class, generated);
+    }
+
+    @Test
+    public void testMainWithoutOutputDirectory() {
+        try {
+            ProxyPregenerator.main(new String[0]);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            assertTrue(expected.getMessage().contains("Usage"));
+        }
+    }
+
+    private static class ClassFileLoader extends ClassLoader {
+
+        ClassFileLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, Path classFile) throws IOException {
+            byte[] bytes = Files.readAllBytes(classFile);
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+
+    }
+
+    private static String findProxyOf(Class<?> beanClass, List<String> generated) {
+        return generated.stream()
+                .filter(name -> name.startsWith(beanClass.getName() + "$Proxy$"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No proxy of " + beanClass + " found in " + generated));
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.proxy.pregenerate.discovery;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.jboss.weld.environment.se.ProxyPregenerator;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * The proxy classes are pre-generated into the bean archive they are generated for and the application is then bootstrapped
+ * with discovery enabled. The pre-generated proxy classes are scanned but must not become beans, unlike other classes which
+ * implement {@code ProxyObject}.
+ */
+public class ProxyPregeneratorDiscoveryTest {
+
+    private static final String BEANS_XML = "META-INF/beans.xml";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testPregeneratedProxyLoadedFromBeanArchive() throws Exception {
+        Path beanArchive = folder.newFolder().toPath();
+        copyClass(Meter.class, beanArchive);
+        copyClass(Gauge.class, beanArchive);
+        Files.createDirectories(beanArchive.resolve(BEANS_XML).getParent());
+        Files.write(beanArchive.resolve(BEANS_XML),
+                List.of("<beans xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" bean-discovery-mode=\"all\"/>"), UTF_8);
+
+        String proxyName;
+        try (BeanArchiveClassLoader classLoader = new BeanArchiveClassLoader(beanArchive)) {
+            List<String> generated = new ProxyPregenerator(new Weld().setClassLoader(classLoader), beanArchive).generate();
+            proxyName = generated.stream()
+                    .filter(name -> name.startsWith(Meter.class.getName() + "$Proxy$"))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("No proxy of " + Meter.class + " found in " + generated));
+        }
+
+        // A fresh class loader, the proxy class was only defined by the class loader used for the generation
+        try (BeanArchiveClassLoader classLoader = new BeanArchiveClassLoader(beanArchive);
+                WeldContainer container = new Weld().setClassLoader(classLoader).initialize()) {
+            Class<?> meterClass = classLoader.loadClass(Meter.class.getName());
+            assertNotSame(Meter.class, meterClass);
+            // would be ambiguous if the proxy class was discovered as a bean
+            Object meter = container.select(meterClass).get();
+            Class<?> proxyClass = meter.getClass();
+            assertEquals(proxyName, proxyClass.getName());
+            assertSame(classLoader, proxyClass.getClassLoader());
+            assertEquals(beanArchive.toUri().toURL(), proxyClass.getProtectionDomain().getCodeSource().getLocation());
+            assertEquals(1, meterClass.getMethod("increment").invoke(meter));
+            // Only the proxy classes generated by Weld are skipped
+            assertTrue(container.select(classLoader.loadClass(Gauge.class.getName())).isResolvable());
+        }
+    }
+
+    private static void copyClass(Class<?> clazz, Path directory) throws IOException {
+        String path = clazz.getName().replace('.', '/') + ".class";
+        Path target = directory.resolve(path);
+        Files.createDirectories(target.getParent());
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(path)) {
+            Files.copy(in, target);
+        }
+    }
+
+    /**
+     * Loads the classes of this package from the bean archive directory first and only sees the bean archive descriptor of
+     * that directory.
+     */
+    private static class BeanArchiveClassLoader extends URLClassLoader {
+
+        BeanArchiveClassLoader(Path beanArchive) throws IOException {
+            super(new URL[] { beanArchive.toUri().toURL() }, ProxyPregeneratorDiscoveryTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(Meter.class.getPackage().getName() + ".")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    clazz = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(clazz);
+                }
+                return clazz;
+            }
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            return BEANS_XML.equals(name) ? findResources(name) : super.getResources(name);
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.proxy.specialized;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+
+import jakarta.enterprise.context.control.RequestContextController;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests client proxies specialized per scope, see {@link ConfigurationKey#SPECIALIZED_CLIENT_PROXIES}.
+ */
+public class SpecializedClientProxyTest {
+
+    @Before
+    public void reset() {
+        Greeter.COUNTER.set(0);
+    }
+
+    @Test
+    public void testBeansWithSameTypesAndDifferentScopes() {
+        try (WeldContainer container = startContainer()) {
+            RequestContextController controller = container.select(RequestContextController.class).get();
+            Greeter application = container.select(Greeter.class, NamedLiteral.of("application")).get();
+            Greeter request = container.select(Greeter.class, NamedLiteral.of("request")).get();
+            // Only the proxy of the request-scoped bean is specialized
+            assertNotSame(application.getClass(), request.getClass());
+            controller.activate();
+            try {
+                int applicationId = application.getId();
+                int requestId = request.getId();
+                assertNotEquals(applicationId, requestId);
+                assertEquals(applicationId, application.getId());
+                assertEquals(requestId, request.getId());
+            } finally {
+                controller.deactivate();
+            }
+        }
+    }
+
+    @Test
+    public void testThreadLocalCacheInvalidatedAtRequestEnd() {
+        try (WeldContainer container = startContainer()) {
+            RequestContextController controller = container.select(RequestContextController.class).get();
+            Greeter request = container.select(Greeter.class, NamedLiteral.of("request")).get();
+            int firstId;
+            controller.activate();
+            try {
+                firstId = request.getId();
+                assertEquals(firstId, request.getId());
+            } finally {
+                controller.deactivate();
+            }
+            controller.activate();
+            try {
+                // The instance cached during the previous request must not be used
+                int secondId = request.getId();
+                assertNotEquals(firstId, secondId);
+                assertEquals(secondId, request.getId());
+            } finally {
+                controller.deactivate();
+            }
+        }
+    }
+
+    @Test
+    public void testThreadLocalCacheInitializedLazily() throws Exception {
+        try (WeldContainer container = startContainer()) {
+            RequestContextController controller = container.select(RequestContextController.class).get();
+            Greeter request = container.select(Greeter.class, NamedLiteral.of("request")).get();
+            Field cacheField = request.getClass().getDeclaredField("THREAD_LOCAL_CACHE_FIELD");
+            cacheField.setAccessible(true);
+            // Not set when the proxy is created, e.g. the field is never set on a deserialized proxy
+            assertNull(cacheField.get(request));
+            controller.activate();
+            try {
+                int id = request.getId();
+                assertNotNull(cacheField.get(request));
+                Greeter deserialized = deserialize(serialize(request));
+                assertEquals(id, deserialized.getId());
+                assertNotNull(cacheField.get(deserialized));
+            } finally {
+                controller.deactivate();
+            }
+        }
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (T) in.readObject();
+        }
+    }
+
+    private static WeldContainer startContainer() {
+        return new Weld().disableDiscovery().beanClasses(GreeterProducer.class)
+                .property(ConfigurationKey.SPECIALIZED_CLIENT_PROXIES.get(), true).initialize();
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.scopes.application;
+
+import static org.junit.Assert.assertEquals;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.spi.AlterableContext;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the instance cached by the strategy for application-scoped beans is invalidated once the instance is
+ * destroyed.
+ */
+public class ApplicationScopedInstanceCacheTest {
+
+    @Before
+    public void reset() {
+        Counter.CREATED.set(0);
+        Counter.DESTROYED.set(0);
+    }
+
+    @Test
+    public void testClientProxyResolvesNewInstanceAfterDestroy() {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(Counter.class).initialize()) {
+            Counter counter = container.select(Counter.class).get();
+            assertEquals(1, counter.getId());
+            assertEquals(1, counter.getId());
+            assertEquals(1, container.select(Counter.class).get().getId());
+
+            destroy(container.getBeanManager(), Counter.class);
+            assertEquals(1, Counter.DESTROYED.get());
+            // The proxy must not keep the destroyed instance
+            assertEquals(2, counter.getId());
+            assertEquals(2, container.select(Counter.class).get().getId());
+            assertEquals(2, Counter.CREATED.get());
+        }
+        assertEquals(2, Counter.DESTROYED.get());
+    }
+
+    @Test
+    public void testConcurrentAccessCreatesSingleInstance() throws InterruptedException {
+        try (WeldContainer container = new Weld().disableDiscovery().beanClasses(Counter.class).initialize()) {
+            Counter counter = container.select(Counter.class).get();
+            Thread[] threads = new Thread[8];
+            int[] ids = new int[threads.length];
+            for (int i = 0; i < threads.length; i++) {
+                final int idx = i;
+                threads[i] = new Thread(() -> ids[idx] = counter.getId());
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            for (int id : ids) {
+                assertEquals(1, id);
+            }
+            assertEquals(1, Counter.CREATED.get());
+        }
+    }
+
+    private static void destroy(BeanManager beanManager, Class<?> beanClass) {
+        Bean<?> bean = beanManager.resolve(beanManager.getBeans(beanClass));
+        ((AlterableContext) beanManager.getContext(ApplicationScoped.class)).destroy(bean);
+    }
+
+}
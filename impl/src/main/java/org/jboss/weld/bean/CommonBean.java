@@ -36,6 +36,8 @@ public abstract class CommonBean<T> extends ForwardingBeanAttributes<T> implemen
 
     private final BeanIdentifier identifier;
 
+    private volatile int contextSlot = -1;
+
     protected CommonBean(BeanAttributes<T> attributes, BeanIdentifier identifier) {
         this.attributes = attributes;
         this.identifier = identifier;
@@ -88,6 +90,20 @@ public abstract class CommonBean<T> extends ForwardingBeanAttributes<T> implemen
         return identifier;
     }
 
+    /**
+     * The slot is assigned at boot time if indexed bean stores are enabled.
+     *
+     * @return the slot of the bean instance in an indexed bean store, or -1 if no slot was assigned
+     * @see org.jboss.weld.serialization.BeanIdentifierIndex#assignContextSlots(java.util.Set)
+     */
+    public int getContextSlot() {
+        return contextSlot;
+    }
+
+    public void setContextSlot(int contextSlot) {
+        this.contextSlot = contextSlot;
+    }
+
     @Override
     public String toString() {
         return getId();
@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.bean;
 
+import jakarta.enterprise.context.spi.Contextual;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.inject.spi.Bean;
 
@@ -72,6 +73,44 @@ public final class ContextualInstance {
         return bean.getContextualInstanceStrategy().getIfExists(bean, manager);
     }
 
+    /**
+     * Flushes the instance of the given contextual cached for the current thread, leaving the other cached instances intact.
+     *
+     * @param contextual the contextual whose instance was destroyed
+     * @return <code>true</code> if the cache was flushed, <code>false</code> if the contextual is not managed by Weld and the
+     *         whole {@link org.jboss.weld.contexts.cache.RequestScopedCache} should be flushed instead
+     */
+    public static boolean invalidateCache(Contextual<?> contextual) {
+        if (contextual instanceof RIBean<?>) {
+            ((RIBean<?>) contextual).getContextualInstanceStrategy().invalidateCache();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * The returned holder may be kept by the caller as long as {@link ContextualInstanceStrategy.CachedInstance#get()} does not
+     * return <code>null</code>, i.e. the instance was not destroyed.
+     *
+     * @param bean the given bean
+     * @return the instance of the given bean shared by all threads, or <code>null</code> if no such instance is cached
+     */
+    public static <T> ContextualInstanceStrategy.CachedInstance<T> getCachedInstance(Bean<T> bean) {
+        return getStrategy(bean).getCachedInstance();
+    }
+
+    /**
+     * The cache is only populated while a {@link org.jboss.weld.contexts.cache.RequestScopedCache} is active and is flushed
+     * whenever the instance is destroyed. A non-null value is therefore always the current instance.
+     *
+     * @param bean the given bean
+     * @return the cache of the instance for the current thread, or <code>null</code> if instances of the bean are not cached
+     *         per thread
+     */
+    public static <T> ThreadLocal<T> getThreadLocalCache(Bean<T> bean) {
+        return getStrategy(bean).getThreadLocalCache();
+    }
+
     private static <T> ContextualInstanceStrategy<T> getStrategy(Bean<T> bean) {
         if (bean instanceof RIBean<?>) {
             return ((RIBean<T>) bean).getContextualInstanceStrategy();
@@ -18,6 +18,7 @@ package org.jboss.weld.bean;
 
 import java.lang.annotation.Annotation;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.ConversationScoped;
@@ -45,9 +46,10 @@ import org.jboss.weld.util.reflection.Reflections;
  *
  * In addition, specialized implementations are provided.
  *
- * For {@link ApplicationScoped} beans a special strategy is used which caches application-scoped bean instances in a volatile
- * field. This implementation respects
- * the possibility of an instance being destroyed via {@link AlterableContext} and the cached instance is flushed in such case.
+ * For {@link ApplicationScoped} beans a special strategy is used which caches application-scoped bean instances in a
+ * {@link CachedInstance} published atomically. This implementation respects
+ * the possibility of an instance being destroyed via {@link AlterableContext} and the cached instance is invalidated in such
+ * case.
  *
  * For {@link SessionScoped}, {@link ConversationScoped} and {@link RequestScoped} beans a special strategy is used which caches
  * contextual bean instances in
@@ -84,6 +86,61 @@ public abstract class ContextualInstanceStrategy<T> {
 
     abstract void destroy(Bean<T> bean);
 
+    /**
+     * Flushes the instance cached for the current thread, if any.
+     */
+    void invalidateCache() {
+        // noop by default
+    }
+
+    /**
+     *
+     * @return the cached instance shared by all threads, or <code>null</code> if no such instance is cached
+     */
+    CachedInstance<T> getCachedInstance() {
+        return null;
+    }
+
+    /**
+     *
+     * @return the cache of the instance for the current thread, or <code>null</code> if the strategy does not cache
+     *         instances per thread
+     */
+    ThreadLocal<T> getThreadLocalCache() {
+        return null;
+    }
+
+    /**
+     * An instance cached by the {@link ApplicationScoped} strategy. Once the instance is destroyed the holder is
+     * invalidated and {@link #get()} returns <code>null</code>, i.e. the holder itself may be kept by a client proxy.
+     *
+     * @param <T>
+     */
+    public static final class CachedInstance<T> {
+
+        private final T instance;
+
+        private volatile boolean valid;
+
+        private CachedInstance(T instance) {
+            this.instance = instance;
+            this.valid = true;
+        }
+
+        /**
+         *
+         * @return the instance or <code>null</code> if the instance was destroyed
+         */
+        public T get() {
+            return valid ? instance : null;
+        }
+
+        private void invalidate() {
+            valid = false;
+        }
+
+    }
+
     private static class DefaultContextualInstanceStrategy<T> extends ContextualInstanceStrategy<T> {
 
         static final ContextualInstanceStrategy<Object> INSTANCE = new DefaultContextualInstanceStrategy<Object>();
@@ -114,42 +171,46 @@ public abstract class ContextualInstanceStrategy<T> {
 
     private static class ApplicationScopedContextualInstanceStrategy<T> extends DefaultContextualInstanceStrategy<T> {
 
-        private volatile T value;
+        // A new empty holder is set whenever the instance is destroyed so that an instance obtained before the destruction
+        // cannot be published afterwards
+        private final AtomicReference<CachedInstance<T>> cached = new AtomicReference<>(new CachedInstance<>(null));
 
         @Override
         T getIfExists(Bean<T> bean, BeanManagerImpl manager) {
-            T instance = value;
-            if (instance != null) {
-                return instance;
-            }
-            synchronized (this) {
-                if (value == null) {
-                    instance = super.getIfExists(bean, manager);
-                    if (instance != null) {
-                        this.value = instance;
-                    }
+            CachedInstance<T> current = cached.get();
+            T instance = current.instance;
+            if (instance == null) {
+                instance = super.getIfExists(bean, manager);
+                if (instance != null) {
+                    cached.compareAndSet(current, new CachedInstance<>(instance));
                 }
-                return instance;
             }
+            return instance;
         }
 
         @Override
         T get(Bean<T> bean, BeanManagerImpl manager, CreationalContext<?> ctx) {
-            T instance = value;
-            if (instance != null) {
-                return instance;
-            }
-            synchronized (this) {
-                if ((instance = value) == null) {
-                    this.value = instance = super.get(bean, manager, ctx);
+            CachedInstance<T> current = cached.get();
+            T instance = current.instance;
+            if (instance == null) {
+                // The context is responsible for creating a single instance only
+                instance = super.get(bean, manager, ctx);
+                if (instance != null) {
+                    cached.compareAndSet(current, new CachedInstance<>(instance));
                 }
-                return instance;
             }
+            return instance;
         }
 
         @Override
         void destroy(Bean<T> bean) {
-            value = null;
+            cached.getAndSet(new CachedInstance<>(null)).invalidate();
+        }
+
+        @Override
+        CachedInstance<T> getCachedInstance() {
+            CachedInstance<T> current = cached.get();
+            return current.instance != null ? current : null;
         }
     }
 
@@ -185,5 +246,15 @@ public abstract class ContextualInstanceStrategy<T> {
             }
             return cached;
         }
+
+        @Override
+        void invalidateCache() {
+            RequestScopedCache.invalidate(cache);
+        }
+
+        @Override
+        ThreadLocal<T> getThreadLocalCache() {
+            return cache;
+        }
     }
 }
@@ -20,14 +20,23 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
 import org.jboss.weld.exceptions.IllegalStateException;
 import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.metadata.cache.QualifierModel;
+import org.jboss.weld.resolution.QualifierInstance;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
 
 /**
  * Common implementation for binding-type-based helpers
@@ -37,6 +46,9 @@ import org.jboss.weld.manager.BeanManagerImpl;
  */
 public abstract class AbstractFacade<T, X> {
 
+    // The maximum number of child facades cached per facade, see getSelected()
+    private static final int SELECTED_CACHE_CAPACITY = 16;
+
     protected static Type getFacadeType(InjectionPoint injectionPoint) {
         Type genericType = injectionPoint.getType();
         if (genericType instanceof ParameterizedType) {
@@ -51,6 +63,8 @@ public abstract class AbstractFacade<T, X> {
     // The CreationalContext used to create the facade which was injected.
     // This allows us to propagate the CreationalContext when get() is called
     private final CreationalContext<? super T> creationalContext;
+    // Child facades created by select(), only initialized once the deployment is validated
+    private transient volatile SelectedFacades selected;
 
     protected AbstractFacade(InjectionPoint injectionPoint, CreationalContext<? super T> creationalContext,
             BeanManagerImpl beanManager) {
@@ -79,6 +93,49 @@ public abstract class AbstractFacade<T, X> {
         return creationalContext;
     }
 
+    /**
+     * Returns the child facade for the given subtype and additional qualifiers. Child facades are kept in a
+     * {@link ComputingCache} bounded to {@value #SELECTED_CACHE_CAPACITY} entries, so that a repeated selection does not
+     * resolve the beans or observer methods again. The cache is keyed on the {@link QualifierInstance}s used by the
+     * resolution. Selections with a qualifier which declares nonbinding members are not cached as the members are visible
+     * through the injection point of the child facade. Nothing is cached before the deployment is validated as the set of
+     * beans and observer methods may still change.
+     *
+     * @param subtype
+     * @param qualifiers
+     * @param factory creates a new child facade, validates the subtype and the qualifiers
+     * @return the child facade
+     */
+    protected <F> F getSelected(Type subtype, Annotation[] qualifiers, Supplier<F> factory) {
+        if (subtype == null || qualifiers == null) {
+            // Let the factory handle invalid arguments
+            return factory.get();
+        }
+        SelectedFacades selected = getSelectedFacades();
+        if (selected == null) {
+            return factory.get();
+        }
+        QualifierInstance[] qualifierInstances = selected.getQualifierInstances(qualifiers);
+        if (qualifierInstances == null) {
+            return factory.get();
+        }
+        return selected.cache.getCastValue(new SelectedKey(subtype, qualifierInstances, factory));
+    }
+
+    private SelectedFacades getSelectedFacades() {
+        SelectedFacades selected = this.selected;
+        if (selected == null) {
+            ContainerState state = Container.instance(beanManager).getState();
+            if (!state.equals(ContainerState.VALIDATED) && !state.equals(ContainerState.INITIALIZED)) {
+                return null;
+            }
+            // Not atomic but a lost cache does not matter here
+            selected = new SelectedFacades(beanManager.getServices().get(MetaAnnotationStore.class));
+            this.selected = selected;
+        }
+        return selected;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof AbstractFacade<?, ?>) {
@@ -97,6 +154,81 @@ public abstract class AbstractFacade<T, X> {
         return hashCode;
     }
 
+    private static final class SelectedFacades {
+
+        private final MetaAnnotationStore store;
+
+        private final ComputingCache<SelectedKey, Object> cache;
+
+        private SelectedFacades(MetaAnnotationStore store) {
+            this.store = store;
+            this.cache = ComputingCacheBuilder.newBuilder().setMaxSize(SELECTED_CACHE_CAPACITY).build(SelectedKey::create);
+        }
+
+        /**
+         *
+         * @param qualifiers
+         * @return the qualifier instances or <code>null</code> if the selection must not be cached
+         */
+        private QualifierInstance[] getQualifierInstances(Annotation[] qualifiers) {
+            QualifierInstance[] qualifierInstances = new QualifierInstance[qualifiers.length];
+            for (int i = 0; i < qualifiers.length; i++) {
+                Annotation qualifier = qualifiers[i];
+                if (qualifier == null) {
+                    return null;
+                }
+                QualifierModel<?> model = store.getBindingTypeModel(qualifier.annotationType());
+                if (!model.isValid() || model.hasNonBindingMembers()) {
+                    return null;
+                }
+                qualifierInstances[i] = store.getQualifierInstance(qualifier);
+            }
+            return qualifierInstances;
+        }
+
+    }
+
+    private static final class SelectedKey {
+
+        private final Type subtype;
+        private final QualifierInstance[] qualifiers;
+        private final int hashCode;
+        // Creates the child facade, released once the child facade is created
+        private Supplier<?> factory;
+
+        private SelectedKey(Type subtype, QualifierInstance[] qualifiers, Supplier<?> factory) {
+            this.subtype = subtype;
+            this.qualifiers = qualifiers;
+            this.factory = factory;
+            this.hashCode = 31 * subtype.hashCode() + Arrays.hashCode(qualifiers);
+        }
+
+        private Object create() {
+            // Invoked by the cache at most once at a time
+            Object facade = factory.get();
+            factory = null;
+            return facade;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SelectedKey)) {
+                return false;
+            }
+            SelectedKey that = (SelectedKey) obj;
+            return hashCode == that.hashCode && subtype.equals(that.subtype) && Arrays.equals(qualifiers, that.qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
     // Serialization
 
     protected static class AbstractFacadeSerializationProxy<T, X> implements Serializable {
@@ -163,10 +163,12 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements W
     }
 
     private <U extends T> WeldInstance<U> selectInstance(Type subtype, Annotation[] newQualifiers) {
-        InjectionPoint modifiedInjectionPoint = new FacadeInjectionPoint(getBeanManager(), getInjectionPoint(), Instance.class,
-                subtype, getQualifiers(),
-                newQualifiers);
-        return new InstanceImpl<U>(modifiedInjectionPoint, getCreationalContext(), getBeanManager());
+        // Repeated selects return the same child instance which already resolved its beans
+        return getSelected(subtype, newQualifiers, () -> {
+            InjectionPoint modifiedInjectionPoint = new FacadeInjectionPoint(getBeanManager(), getInjectionPoint(),
+                    Instance.class, subtype, getQualifiers(), newQualifiers);
+            return new InstanceImpl<U>(modifiedInjectionPoint, getCreationalContext(), getBeanManager());
+        });
     }
 
     @Override
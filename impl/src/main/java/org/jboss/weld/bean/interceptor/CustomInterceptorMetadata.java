@@ -17,11 +17,14 @@
 package org.jboss.weld.bean.interceptor;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 
 import jakarta.enterprise.inject.spi.Interceptor;
 
 import org.jboss.weld.interceptor.proxy.CustomInterceptorInvocation;
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodInvoker;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 
@@ -65,6 +68,12 @@ public class CustomInterceptorMetadata<T> implements InterceptorClassMetadata<T>
                 jakarta.enterprise.inject.spi.InterceptionType.valueOf(interceptionType.name()));
     }
 
+    @Override
+    public List<InterceptorMethodInvoker> getInterceptorMethodInvokers(InterceptionType interceptionType) {
+        return Collections.singletonList(CustomInterceptorInvocation.invoker(factory.getInterceptor(),
+                jakarta.enterprise.inject.spi.InterceptionType.valueOf(interceptionType.name())));
+    }
+
     @Override
     public String toString() {
         return "CustomInterceptorMetadata [" + getJavaClass().getName() + "]";
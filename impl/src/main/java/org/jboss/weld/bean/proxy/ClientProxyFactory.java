@@ -32,8 +32,13 @@ import org.jboss.classfilewriter.ClassFile;
 import org.jboss.classfilewriter.ClassMethod;
 import org.jboss.classfilewriter.code.BranchEnd;
 import org.jboss.classfilewriter.code.CodeAttribute;
+import org.jboss.classfilewriter.util.DescriptorUtils;
 import org.jboss.weld.Container;
+import org.jboss.weld.bean.ContextualInstance;
+import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bean.proxy.util.SerializableClientProxy;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.exceptions.WeldException;
 import org.jboss.weld.proxy.WeldClientProxy;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
@@ -45,6 +50,12 @@ import org.jboss.weld.util.bytecode.MethodInformation;
 /**
  * Proxy factory that generates client proxies, it uses optimizations that
  * are not valid for other proxy types.
+ * <p>
+ * If {@link ConfigurationKey#SPECIALIZED_CLIENT_PROXIES} is enabled, the proxies of beans whose instances are cached per
+ * thread keep a reference to the thread-local cache. The proxied methods then read the target instance directly and only
+ * fall back to {@link ProxyMethodHandler#getInstance()} if there is no cached instance. Application-scoped instances are
+ * cached by {@link ContextBeanInstance} for all client proxies.
+ * </p>
  *
  * @author Stuart Douglas
  * @author Marius Bogoevici
@@ -52,6 +63,7 @@ import org.jboss.weld.util.bytecode.MethodInformation;
 public class ClientProxyFactory<T> extends ProxyFactory<T> {
 
     private static final String CLIENT_PROXY_SUFFIX = "ClientProxy";
+    private static final String THREAD_LOCAL_CACHED_PREFIX = "ThreadLocalCached";
 
     private static final String HASH_CODE_METHOD = "hashCode";
     private static final String EMPTY_PARENTHESES = "()";
@@ -67,14 +79,25 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
     private static final String BEAN_ID_FIELD = "BEAN_ID_FIELD";
     private static final String CONTEXT_ID_FIELD = "CONTEXT_ID_FIELD";
 
+    // Only used by specialized proxies
+    private static final String THREAD_LOCAL_CACHE_FIELD = "THREAD_LOCAL_CACHE_FIELD";
+    private static final String GET_INSTANCE_METHOD = "weld_getCachedInstance";
+    private static final String RESOLVE_INSTANCE_METHOD = "weld_resolveInstance";
+    private static final String GET_METHOD = "get";
+
     private final BeanIdentifier beanId;
 
+    private final boolean specialized;
+
     private volatile Field beanIdField;
     private volatile Field contextIdField;
 
     public ClientProxyFactory(String contextId, Class<?> proxiedBeanType, Set<? extends Type> typeClosure, Bean<?> bean) {
         super(contextId, proxiedBeanType, typeClosure, bean);
         beanId = Container.instance(contextId).services().get(ContextualStore.class).putIfAbsent(bean);
+        specialized = bean instanceof RIBean<?> && ContextualInstance.getThreadLocalCache(bean) != null
+                && Container.instance(contextId).deploymentManager().getServices().get(WeldConfiguration.class)
+                        .getBooleanProperty(ConfigurationKey.SPECIALIZED_CLIENT_PROXIES);
     }
 
     @Override
@@ -97,7 +120,7 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e);
         } catch (NoSuchFieldException e) {
-            throw new RuntimeException(e.getCause());
+            throw new RuntimeException(e);
         }
     }
 
@@ -114,6 +137,74 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
 
         // add method from WeldClientProxy
         generateWeldClientProxyMethod(proxyClassType);
+
+        if (specialized) {
+            generateGetInstanceMethod(proxyClassType);
+            generateResolveInstanceMethod(proxyClassType);
+        }
+    }
+
+    /**
+     * The corresponding java code:
+     * <code>
+     * ThreadLocal cache = THREAD_LOCAL_CACHE_FIELD;
+     * if (cache != null) {
+     *     Object instance = cache.get();
+     *     if (instance != null) {
+     *         return instance;
+     *     }
+     * }
+     * return weld_resolveInstance();
+     * </code>
+     */
+    private void generateGetInstanceMethod(ClassFile proxyClassType) {
+        final ClassMethod method = proxyClassType.addMethod(AccessFlag.PRIVATE, GET_INSTANCE_METHOD, LJAVA_LANG_OBJECT);
+        final CodeAttribute b = method.getCodeAttribute();
+        b.aload(0);
+        b.getfield(proxyClassType.getName(), THREAD_LOCAL_CACHE_FIELD, ThreadLocal.class);
+        b.dup();
+        final BranchEnd cacheNull = b.ifnull();
+        b.invokevirtual(ThreadLocal.class.getName(), GET_METHOD, EMPTY_PARENTHESES + LJAVA_LANG_OBJECT);
+        b.dup();
+        final BranchEnd instanceNull = b.ifnull();
+        b.returnInstruction();
+        b.branchEnd(cacheNull);
+        b.pop();
+        invokeResolveInstance(proxyClassType, b);
+        b.branchEnd(instanceNull);
+        b.pop();
+        invokeResolveInstance(proxyClassType, b);
+    }
+
+    private void invokeResolveInstance(ClassFile proxyClassType, CodeAttribute b) {
+        b.aload(0);
+        b.invokespecial(proxyClassType.getName(), RESOLVE_INSTANCE_METHOD, EMPTY_PARENTHESES + LJAVA_LANG_OBJECT);
+        b.returnInstruction();
+    }
+
+    /**
+     * The corresponding java code:
+     * <code>
+     * Object instance = methodHandler.getInstance();
+     * THREAD_LOCAL_CACHE_FIELD = methodHandler.getThreadLocalCache();
+     * return instance;
+     * </code>
+     * The cache is obtained lazily so that it is also set on a proxy instance that was deserialized or instantiated without
+     * {@link #create(BeanInstance)}.
+     */
+    private void generateResolveInstanceMethod(ClassFile proxyClassType) {
+        final ClassMethod method = proxyClassType.addMethod(AccessFlag.PRIVATE, RESOLVE_INSTANCE_METHOD, LJAVA_LANG_OBJECT);
+        final CodeAttribute b = method.getCodeAttribute();
+        b.aload(0);
+        getMethodHandlerField(proxyClassType, b);
+        b.invokevirtual(ProxyMethodHandler.class.getName(), "getInstance", EMPTY_PARENTHESES + LJAVA_LANG_OBJECT);
+        b.aload(0);
+        b.aload(0);
+        getMethodHandlerField(proxyClassType, b);
+        b.invokevirtual(ProxyMethodHandler.class.getName(), "getThreadLocalCache",
+                EMPTY_PARENTHESES + DescriptorUtils.makeDescriptor(ThreadLocal.class));
+        b.putfield(proxyClassType.getName(), THREAD_LOCAL_CACHE_FIELD, ThreadLocal.class);
+        b.returnInstruction();
     }
 
     private void generateWeldClientProxyMethod(ClassFile proxyClassType) {
@@ -138,6 +229,10 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
         super.addFields(proxyClassType, initialValueBytecode);
         proxyClassType.addField(AccessFlag.VOLATILE | AccessFlag.PRIVATE, BEAN_ID_FIELD, BeanIdentifier.class);
         proxyClassType.addField(AccessFlag.VOLATILE | AccessFlag.PRIVATE, CONTEXT_ID_FIELD, String.class);
+        if (specialized) {
+            // The cache is shared by all the proxies of the bean and safely published by its final fields
+            proxyClassType.addField(AccessFlag.PRIVATE | AccessFlag.TRANSIENT, THREAD_LOCAL_CACHE_FIELD, ThreadLocal.class);
+        }
     }
 
     @Override
@@ -245,9 +340,13 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
 
     private void loadBeanInstance(ClassFile file, MethodInformation methodInfo, CodeAttribute b) {
         b.aload(0);
-        getMethodHandlerField(file, b);
-        // lets invoke the method
-        b.invokevirtual(ProxyMethodHandler.class.getName(), "getInstance", EMPTY_PARENTHESES + LJAVA_LANG_OBJECT);
+        if (specialized) {
+            b.invokespecial(file.getName(), GET_INSTANCE_METHOD, EMPTY_PARENTHESES + LJAVA_LANG_OBJECT);
+        } else {
+            getMethodHandlerField(file, b);
+            // lets invoke the method
+            b.invokevirtual(ProxyMethodHandler.class.getName(), "getInstance", EMPTY_PARENTHESES + LJAVA_LANG_OBJECT);
+        }
         b.checkcast(methodInfo.getDeclaringClass());
     }
 
@@ -287,7 +386,8 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
 
     @Override
     protected String getProxyNameSuffix() {
-        return CLIENT_PROXY_SUFFIX;
+        // Specialized proxies declare an additional field and must not be mixed up with the regular ones
+        return specialized ? THREAD_LOCAL_CACHED_PREFIX + CLIENT_PROXY_SUFFIX : CLIENT_PROXY_SUFFIX;
     }
 
     @Override
@@ -27,6 +27,7 @@ import jakarta.enterprise.inject.spi.InjectionPoint;
 
 import org.jboss.weld.Container;
 import org.jboss.weld.bean.ContextualInstance;
+import org.jboss.weld.bean.ContextualInstanceStrategy.CachedInstance;
 import org.jboss.weld.contexts.CreationalContextImpl;
 import org.jboss.weld.contexts.WeldCreationalContext;
 import org.jboss.weld.injection.CurrentInjectionPoint;
@@ -60,6 +61,8 @@ public class ContextBeanInstance<T> extends AbstractBeanInstance implements Seri
     private final transient Class<?> instanceType;
     private final transient BeanManagerImpl manager;
     private final transient CurrentInjectionPoint currentInjectionPoint;
+    // The instance shared by all threads, e.g. an application-scoped instance, resolved previously
+    private transient CachedInstance<T> cachedInstance;
 
     private static final ThreadLocal<WeldCreationalContext<?>> currentCreationalContext = new ThreadLocal<WeldCreationalContext<?>>();
 
@@ -80,11 +83,21 @@ public class ContextBeanInstance<T> extends AbstractBeanInstance implements Seri
     }
 
     public T getInstance() {
+        final CachedInstance<T> cached = cachedInstance;
+        if (cached != null) {
+            // The holder is invalidated when the instance is destroyed, incl. container shutdown
+            T instance = cached.get();
+            if (instance != null) {
+                return instance;
+            }
+            cachedInstance = null;
+        }
         if (!Container.isSet(contextId)) {
             throw ContextLogger.LOG.contextualReferenceNotValidAfterShutdown(bean, contextId);
         }
         T existingInstance = ContextualInstance.getIfExists(bean, manager);
         if (existingInstance != null) {
+            cachedInstance = ContextualInstance.getCachedInstance(bean);
             return existingInstance;
         }
         WeldCreationalContext<T> creationalContext;
@@ -98,7 +111,9 @@ public class ContextBeanInstance<T> extends AbstractBeanInstance implements Seri
         // Ensure that there is no injection point associated
         final ThreadLocalStackReference<InjectionPoint> stack = currentInjectionPoint.push(EmptyInjectionPoint.INSTANCE);
         try {
-            return ContextualInstance.get(bean, manager, creationalContext);
+            T instance = ContextualInstance.get(bean, manager, creationalContext);
+            cachedInstance = ContextualInstance.getCachedInstance(bean);
+            return instance;
         } finally {
             stack.pop();
             if (previousCreationalContext == null) {
@@ -109,6 +124,15 @@ public class ContextBeanInstance<T> extends AbstractBeanInstance implements Seri
         }
     }
 
+    /**
+     *
+     * @return the cache of the instance for the current thread, or <code>null</code> if instances of the bean are not cached
+     *         per thread
+     */
+    public ThreadLocal<T> getThreadLocalCache() {
+        return ContextualInstance.getThreadLocalCache(bean);
+    }
+
     public Class<T> getInstanceType() {
         return cast(instanceType);
     }
@@ -96,6 +96,8 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
     public static final String WELD_PROXY_PREFIX = "org.jboss.weld.generated.proxies";
     public static final String DEFAULT_PROXY_PACKAGE = WELD_PROXY_PREFIX + ".default";
     public static final String CONSTRUCTED_FLAG_NAME = "constructed";
+    // Precedes the suffix of the specific proxy factory in the name of every proxy class
+    public static final String WELD_PROXY_NAME_MARKER = "_$$_Weld";
     protected static final BytecodeMethodResolver DEFAULT_METHOD_RESOLVER = new DefaultBytecodeMethodResolver();
     protected static final String LJAVA_LANG_REFLECT_METHOD = "Ljava/lang/reflect/Method;";
     protected static final String LJAVA_LANG_BYTE = "Ljava/lang/Byte;";
@@ -326,6 +328,16 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         }
     }
 
+    /**
+     *
+     * @param className
+     * @return <code>true</code> if the given class name follows the naming pattern of the proxy classes generated by Weld,
+     *         <code>false</code> otherwise
+     */
+    public static boolean isProxyClassName(String className) {
+        return className.contains(WELD_PROXY_NAME_MARKER);
+    }
+
     private static String getDefaultPackageReason(Class<?> clazz) {
         if (clazz.getPackage() == null || clazz.getPackage().getName().isEmpty()) {
             return NO_PACKAGE;
@@ -397,7 +409,7 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
      * @return always the class of the proxy
      */
     public Class<T> getProxyClass() {
-        String suffix = "_$$_Weld" + getProxyNameSuffix();
+        String suffix = WELD_PROXY_NAME_MARKER + getProxyNameSuffix();
         String proxyClassName = getBaseProxyName();
         if (!proxyClassName.endsWith(suffix)) {
             proxyClassName = proxyClassName + suffix;
@@ -135,4 +135,16 @@ public class ProxyMethodHandler implements MethodHandler, Serializable, Metadata
     public Object getInstance() {
         return beanInstance.getInstance();
     }
+
+    /**
+     * Used by specialized client proxies, see {@link ClientProxyFactory}.
+     *
+     * @return the cache of the instance for the current thread, or <code>null</code>
+     */
+    public ThreadLocal<?> getThreadLocalCache() {
+        if (beanInstance instanceof ContextBeanInstance<?>) {
+            return ((ContextBeanInstance<?>) beanInstance).getThreadLocalCache();
+        }
+        return null;
+    }
 }
@@ -21,6 +21,8 @@ import static org.jboss.weld.util.reflection.Reflections.cast;
 import org.jboss.weld.annotated.slim.SlimAnnotatedType;
 import org.jboss.weld.annotated.slim.SlimAnnotatedTypeContext;
 import org.jboss.weld.annotated.slim.backed.BackedAnnotatedType;
+import org.jboss.weld.bean.proxy.ProxyFactory;
+import org.jboss.weld.bean.proxy.ProxyObject;
 import org.jboss.weld.bootstrap.events.ContainerLifecycleEvents;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.resources.ClassTransformer;
@@ -55,7 +57,8 @@ class AnnotatedTypeLoader {
     /**
      * Creates a new {@link SlimAnnotatedTypeContext} instance for a class with the specified class name. This method may return
      * null if there is a problem
-     * loading the class or this class is not needed for further processing (e.g. an annotation or a vetoed class).
+     * loading the class or this class is not needed for further processing (e.g. an annotation, a vetoed class or a proxy class
+     * pre-generated by Weld).
      *
      * @param className the specified class name
      * @param bdaId the identifier of the bean archive this class resides in
@@ -90,9 +93,18 @@ class AnnotatedTypeLoader {
         }
     }
 
+    /**
+     * A proxy class generated by Weld, e.g. pre-generated at build time, may not be a bean. Other classes implementing
+     * {@link ProxyObject} are not skipped.
+     */
+    private static boolean isWeldProxy(Class<?> clazz) {
+        return ProxyFactory.isProxyClassName(clazz.getName()) && ProxyObject.class.isAssignableFrom(clazz);
+    }
+
     protected <T> SlimAnnotatedType<T> internalLoadAnnotatedType(Class<T> clazz, String bdaId) {
-        // do not load if clazz is null, an annotation or anonymous/local class
-        if (clazz != null && !clazz.isAnnotation() && !clazz.isAnonymousClass() && !clazz.isLocalClass()) {
+        // do not load if clazz is null, an annotation, anonymous/local class or a proxy class generated by Weld
+        if (clazz != null && !clazz.isAnnotation() && !clazz.isAnonymousClass() && !clazz.isLocalClass()
+                && !isWeldProxy(clazz)) {
             try {
                 if (!Beans.isVetoed(clazz)) { // may throw ArrayStoreException - see bug http://bugs.sun.com/view_bug.do?bug_id=7183985
                     containerLifecycleEvents.preloadProcessAnnotatedType(clazz);
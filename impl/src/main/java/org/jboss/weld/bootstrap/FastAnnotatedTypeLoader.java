@@ -25,6 +25,8 @@ import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
 
 import org.jboss.weld.annotated.slim.SlimAnnotatedType;
 import org.jboss.weld.annotated.slim.SlimAnnotatedTypeContext;
+import org.jboss.weld.bean.proxy.ProxyFactory;
+import org.jboss.weld.bean.proxy.ProxyObject;
 import org.jboss.weld.bootstrap.events.ContainerLifecycleEvents;
 import org.jboss.weld.event.ContainerLifecycleEventObserverMethod;
 import org.jboss.weld.logging.BootstrapLogger;
@@ -83,6 +85,10 @@ class FastAnnotatedTypeLoader extends AnnotatedTypeLoader {
             if (classFileInfo.isVetoed()) {
                 return null;
             }
+            if (ProxyFactory.isProxyClassName(className) && classFileInfo.isAssignableTo(ProxyObject.class)) {
+                // A proxy class generated by Weld, e.g. pre-generated at build time, may not be a bean
+                return null;
+            }
             if (classFileInfo.getNestingType().equals(NestingType.NESTED_LOCAL)
                     || classFileInfo.getNestingType().equals(NestingType.NESTED_ANONYMOUS)) {
                 return null;
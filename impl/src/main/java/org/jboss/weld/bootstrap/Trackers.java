@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.concurrent.TimeUnit;
 
+import org.jboss.weld.bootstrap.profile.BootstrapProfiler;
 import org.jboss.weld.logging.BootstrapLogger;
 
 /**
@@ -43,6 +44,15 @@ final class Trackers {
         return BootstrapLogger.TRACKER_LOG.isDebugEnabled() ? new LoggingTracker() : NOOP_INSTANCE;
     }
 
+    /**
+     *
+     * @return a tracker which may be attached to a {@link BootstrapProfiler} later
+     * @see ProfilingTracker#attach(BootstrapProfiler, long, String...)
+     */
+    static ProfilingTracker createProfiling() {
+        return new ProfilingTracker(create());
+    }
+
     private static class NoopTracker implements Tracker {
 
         @Override
@@ -124,4 +134,65 @@ final class Trackers {
 
     }
 
+    /**
+     * Records all operations in the attached profiler, if any, and then delegates. Used by the bootstrap thread only.
+     */
+    static final class ProfilingTracker implements Tracker {
+
+        private final Tracker delegate;
+
+        private BootstrapProfiler profiler;
+
+        private ProfilingTracker(Tracker delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         *
+         * @param profiler
+         * @param startNanos the time the already started operations were started
+         * @param startedOperations the operations already started on this tracker
+         */
+        void attach(BootstrapProfiler profiler, long startNanos, String... startedOperations) {
+            for (String operation : startedOperations) {
+                profiler.start(operation, startNanos);
+            }
+            this.profiler = profiler;
+        }
+
+        @Override
+        public Tracker start(String operation) {
+            if (profiler != null) {
+                profiler.start(operation);
+            }
+            delegate.start(operation);
+            return this;
+        }
+
+        @Override
+        public Tracker end() {
+            delegate.end();
+            if (profiler != null) {
+                profiler.end();
+            }
+            return this;
+        }
+
+        @Override
+        public void split(String info) {
+            delegate.split(info);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+            if (profiler != null) {
+                // Exports the profile, the profiler stays registered as a no-op service
+                profiler.close();
+                profiler = null;
+            }
+        }
+
+    }
+
 }
@@ -43,6 +43,7 @@ import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.Decorator;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.Interceptor;
+import jakarta.inject.Singleton;
 
 import org.jboss.weld.Container;
 import org.jboss.weld.ContainerState;
@@ -72,6 +73,7 @@ import org.jboss.weld.bootstrap.events.BeforeBeanDiscoveryImpl;
 import org.jboss.weld.bootstrap.events.ContainerLifecycleEventPreloader;
 import org.jboss.weld.bootstrap.events.ContainerLifecycleEvents;
 import org.jboss.weld.bootstrap.events.RequiredAnnotationDiscovery;
+import org.jboss.weld.bootstrap.profile.BootstrapProfiler;
 import org.jboss.weld.bootstrap.spi.CDI11Deployment;
 import org.jboss.weld.bootstrap.spi.Deployment;
 import org.jboss.weld.bootstrap.spi.Metadata;
@@ -88,6 +90,7 @@ import org.jboss.weld.context.bound.BoundLiteral;
 import org.jboss.weld.context.bound.BoundRequestContext;
 import org.jboss.weld.context.bound.BoundSessionContext;
 import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.jboss.weld.contexts.ActiveContextRegistry;
 import org.jboss.weld.contexts.bound.BoundConversationContextImpl;
 import org.jboss.weld.contexts.bound.BoundRequestContextImpl;
 import org.jboss.weld.contexts.bound.BoundSessionContextImpl;
@@ -103,6 +106,7 @@ import org.jboss.weld.executor.ExecutorServicesFactory;
 import org.jboss.weld.injection.CurrentInjectionPoint;
 import org.jboss.weld.injection.ResourceInjectionFactory;
 import org.jboss.weld.injection.producer.InjectionTargetService;
+import org.jboss.weld.jfr.JfrRecorder;
 import org.jboss.weld.logging.BootstrapLogger;
 import org.jboss.weld.logging.VersionLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -159,7 +163,8 @@ public class WeldStartup {
     private DeploymentVisitor deploymentVisitor;
     private final ServiceRegistry initialServices = new SimpleServiceRegistry();
     private String contextId;
-    private final Tracker tracker = Trackers.create();
+    private final Trackers.ProfilingTracker tracker = Trackers.createProfiling();
+    private BootstrapProfiler profiler;
 
     public WeldStartup() {
     }
@@ -168,6 +173,7 @@ public class WeldStartup {
         if (deployment == null) {
             throw BootstrapLogger.LOG.deploymentRequired();
         }
+        final long start = System.nanoTime();
         tracker.start(Tracker.OP_BOOTSTRAP);
         tracker.start(Tracker.OP_START_CONTAINER);
         checkApiVersion();
@@ -191,6 +197,13 @@ public class WeldStartup {
         this.deployment = deployment;
         this.environment = environment;
 
+        // The profiler must be registered before any extension observer method is created
+        this.profiler = BootstrapProfiler.create(configuration, finalContextId);
+        if (profiler != null) {
+            registry.add(BootstrapProfiler.class, profiler);
+            tracker.attach(profiler, start, Tracker.OP_BOOTSTRAP, Tracker.OP_START_CONTAINER);
+        }
+
         if (this.extensions == null) {
             setExtensions(deployment.getExtensions());
         }
@@ -303,6 +316,11 @@ public class WeldStartup {
         services.add(ContextualStore.class, new ContextualStoreImpl(contextId, beanIdentifierIndex));
         services.add(CurrentInjectionPoint.class, new CurrentInjectionPoint());
         services.add(CurrentEventMetadata.class, new CurrentEventMetadata());
+        services.add(ActiveContextRegistry.class, new ActiveContextRegistry());
+        JfrRecorder jfrRecorder = JfrRecorder.create(configuration, contextId);
+        if (jfrRecorder != null) {
+            services.add(JfrRecorder.class, jfrRecorder);
+        }
         services.add(SpecializationAndEnablementRegistry.class, new SpecializationAndEnablementRegistry());
         services.add(MissingDependenciesRegistry.class, new MissingDependenciesRegistry());
 
@@ -484,6 +502,13 @@ public class WeldStartup {
         }
         getContainer().putBeanDeployments(bdaMapping);
         getContainer().setState(ContainerState.DEPLOYED);
+        if (profiler != null) {
+            for (BeanDeployment beanDeployment : getBeanDeployments()) {
+                profiler.archive(beanDeployment.getBeanDeploymentArchive().getId(),
+                        beanDeployment.getBeanDeploymentArchive().getBeanClasses().size(),
+                        beanDeployment.getBeanManager().getBeans().size());
+            }
+        }
         tracker.end();
     }
 
@@ -502,10 +527,17 @@ public class WeldStartup {
             throw e;
         }
         getContainer().setState(ContainerState.VALIDATED);
+
+        final BeanIdentifierIndex index = deploymentManager.getServices().get(BeanIdentifierIndex.class);
+        if (index != null && deploymentManager.getServices().get(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.CONTEXT_INDEXED_BEAN_STORE)) {
+            // Assign the slots before any bean instance is likely to be created
+            index.assignContextSlots(getBeansForContextSlots());
+        }
+
         tracker.start(Tracker.OP_ADV);
         AfterDeploymentValidationImpl.fire(deploymentManager);
 
-        final BeanIdentifierIndex index = deploymentManager.getServices().get(BeanIdentifierIndex.class);
         if (index != null) {
             // Build a special index of bean identifiers
             index.build(getBeansForBeanIdentifierIndex());
@@ -590,6 +622,7 @@ public class WeldStartup {
             }
         }
         tracker.close();
+        profiler = null;
     }
 
     private void flushCaches() {
@@ -703,6 +736,25 @@ public class WeldStartup {
         return beans;
     }
 
+    /**
+     * Request, application and singleton scoped beans are assigned a slot in the indexed bean stores of the respective
+     * contexts.
+     *
+     * @return the set of beans context slots should be assigned to
+     */
+    private Set<Bean<?>> getBeansForContextSlots() {
+        Set<Bean<?>> beans = new HashSet<Bean<?>>();
+        for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            for (Bean<?> bean : beanDeployment.getBeanManager().getBeans()) {
+                if (bean.getScope().equals(RequestScoped.class) || bean.getScope().equals(ApplicationScoped.class)
+                        || bean.getScope().equals(Singleton.class)) {
+                    beans.add(bean);
+                }
+            }
+        }
+        return beans;
+    }
+
     private void setExtensions(Iterable<Metadata<Extension>> extensions) {
         this.extensions = new ArrayList<Metadata<? extends Extension>>();
         Iterables.addAll(this.extensions, extensions);
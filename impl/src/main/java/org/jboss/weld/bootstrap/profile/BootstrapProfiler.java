@@ -0,0 +1,391 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.profile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.bootstrap.profile.ProfileNode.ObserverStats;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.logging.ConfigurationLogger;
+
+/**
+ * Records a hierarchical timing tree of the bootstrap operations together with the time spent in extension observer methods
+ * and the number of classes and beans per bean archive. The profile is exported once the bootstrap is finished, as a JSON
+ * document and/or as Java Flight Recorder events, see {@link ConfigurationKey#BOOTSTRAP_PROFILE}.
+ *
+ * <p>
+ * Operations are started and ended by the bootstrap thread only, observer notifications may be recorded concurrently.
+ * Once the profile is exported, the profiler stays registered as a service but does not record anything.
+ * </p>
+ *
+ * @see ConfigurationKey#BOOTSTRAP_PROFILE
+ * @see ConfigurationKey#BOOTSTRAP_PROFILE_FILE
+ */
+public final class BootstrapProfiler implements Service {
+
+    static final String FORMAT_JSON = "json";
+
+    static final String FORMAT_JFR = "jfr";
+
+    private static final String DEFAULT_FILE_PREFIX = "weld-bootstrap-profile-";
+
+    private final String contextId;
+
+    private final Path jsonFile;
+
+    private final boolean jfr;
+
+    private final ProfileNode root;
+
+    private final List<Archive> archives;
+
+    private volatile ProfileNode current;
+
+    private volatile boolean closed;
+
+    BootstrapProfiler(String contextId, Path jsonFile, boolean jfr) {
+        this.contextId = contextId;
+        this.jsonFile = jsonFile;
+        this.jfr = jfr;
+        this.root = new ProfileNode(contextId, null);
+        this.current = root;
+        this.archives = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    /**
+     *
+     * @param configuration
+     * @param contextId
+     * @return a new profiler or <code>null</code> if profiling is not enabled
+     */
+    public static BootstrapProfiler create(WeldConfiguration configuration, String contextId) {
+        String formats = configuration.getStringProperty(ConfigurationKey.BOOTSTRAP_PROFILE).trim();
+        if (formats.isEmpty()) {
+            return null;
+        }
+        Path jsonFile = null;
+        boolean jfr = false;
+        for (String format : formats.split(",")) {
+            format = format.trim().toLowerCase(Locale.ROOT);
+            if (FORMAT_JSON.equals(format)) {
+                String file = configuration.getStringProperty(ConfigurationKey.BOOTSTRAP_PROFILE_FILE);
+                jsonFile = file.isEmpty()
+                        ? Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_FILE_PREFIX + sanitize(contextId) + ".json")
+                        : Paths.get(file);
+            } else if (FORMAT_JFR.equals(format)) {
+                jfr = JfrEvents.isAvailable();
+                if (!jfr) {
+                    BootstrapLogger.LOG.bootstrapProfileJfrNotAvailable();
+                }
+            } else {
+                throw ConfigurationLogger.LOG.invalidConfigurationPropertyValue(format,
+                        ConfigurationKey.BOOTSTRAP_PROFILE.get());
+            }
+        }
+        return new BootstrapProfiler(contextId, jsonFile, jfr);
+    }
+
+    /**
+     * Starts a nested operation.
+     *
+     * @param operation
+     */
+    public void start(String operation) {
+        start(operation, System.nanoTime());
+    }
+
+    /**
+     * Starts a nested operation which actually started at the given time, e.g. before the profiler was created.
+     *
+     * @param operation
+     * @param startNanos the value of {@link System#nanoTime()} when the operation started
+     */
+    public void start(String operation, long startNanos) {
+        if (closed) {
+            return;
+        }
+        ProfileNode node = current.child(operation);
+        node.started(startNanos, jfr ? JfrEvents.beginPhase() : null);
+        current = node;
+    }
+
+    /**
+     * Ends the current operation.
+     */
+    public void end() {
+        if (closed) {
+            return;
+        }
+        ProfileNode node = current;
+        if (node == root) {
+            return;
+        }
+        Object event = node.ended(System.nanoTime());
+        if (event != null) {
+            JfrEvents.commitPhase(event, contextId, node.getPath());
+        }
+        current = node.getParent();
+    }
+
+    /**
+     * Records the number of classes and beans of a bean archive.
+     *
+     * @param id
+     * @param classes
+     * @param beans
+     */
+    public void archive(String id, int classes, int beans) {
+        if (closed) {
+            return;
+        }
+        archives.add(new Archive(id, classes, beans));
+        if (jfr) {
+            JfrEvents.commitArchive(contextId, id, classes, beans);
+        }
+    }
+
+    /**
+     * Starts recording a notification of an extension observer method. The returned notification must be ended once the
+     * observer method returns.
+     *
+     * @param eventType the simple name of the container lifecycle event type
+     * @param observer the observer description
+     * @return the notification, a shared no-op notification once the profiler is closed
+     */
+    public ObserverNotification startObserverNotification(String eventType, String observer) {
+        if (closed) {
+            return ObserverNotification.NOOP;
+        }
+        return new ObserverNotification(contextId, current, eventType, observer,
+                jfr ? JfrEvents.beginObserverNotification() : null);
+    }
+
+    /**
+     * Ends all the operations, exports the profile and releases the recorded data. Any subsequent call is a no-op.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        while (current != root) {
+            end();
+        }
+        closed = true;
+        if (jsonFile != null) {
+            try {
+                Path parent = jsonFile.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                try (Writer writer = Files.newBufferedWriter(jsonFile, StandardCharsets.UTF_8)) {
+                    writeJson(writer);
+                }
+                BootstrapLogger.LOG.bootstrapProfileWritten(contextId, jsonFile.toAbsolutePath());
+            } catch (IOException e) {
+                BootstrapLogger.LOG.unableToWriteBootstrapProfile(jsonFile, e);
+            }
+        }
+        release();
+    }
+
+    @Override
+    public void cleanup() {
+        closed = true;
+        release();
+    }
+
+    private void release() {
+        // The profiler may outlive the bootstrap, e.g. referenced by extension observer methods
+        root.clear();
+        archives.clear();
+    }
+
+    void writeJson(Appendable out) throws IOException {
+        out.append("{\"contextId\":");
+        appendString(out, contextId);
+        out.append(",\"operations\":");
+        appendNodes(out, root.getChildren());
+        out.append(",\"archives\":[");
+        List<Archive> sorted;
+        synchronized (archives) {
+            sorted = new ArrayList<>(archives);
+        }
+        for (int i = 0; i < sorted.size(); i++) {
+            Archive archive = sorted.get(i);
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append("{\"id\":");
+            appendString(out, archive.id);
+            out.append(",\"classes\":").append(String.valueOf(archive.classes));
+            out.append(",\"beans\":").append(String.valueOf(archive.beans));
+            out.append('}');
+        }
+        out.append("]}");
+    }
+
+    private void appendNodes(Appendable out, List<ProfileNode> nodes) throws IOException {
+        out.append('[');
+        for (int i = 0; i < nodes.size(); i++) {
+            ProfileNode node = nodes.get(i);
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append("{\"name\":");
+            appendString(out, node.getName());
+            out.append(",\"count\":").append(String.valueOf(node.getCount()));
+            out.append(",\"millis\":").append(toMillis(node.getNanos()));
+            List<ObserverStats> observers = new ArrayList<>(node.getObservers());
+            if (!observers.isEmpty()) {
+                // the most expensive observers first
+                observers.sort(Comparator.comparingLong(ObserverStats::getNanos).reversed());
+                out.append(",\"observers\":[");
+                for (int j = 0; j < observers.size(); j++) {
+                    ObserverStats stats = observers.get(j);
+                    if (j > 0) {
+                        out.append(',');
+                    }
+                    out.append("{\"eventType\":");
+                    appendString(out, stats.getEventType());
+                    out.append(",\"observer\":");
+                    appendString(out, stats.getObserver());
+                    out.append(",\"count\":").append(String.valueOf(stats.getCount()));
+                    out.append(",\"millis\":").append(toMillis(stats.getNanos()));
+                    out.append('}');
+                }
+                out.append(']');
+            }
+            List<ProfileNode> children = node.getChildren();
+            if (!children.isEmpty()) {
+                out.append(",\"children\":");
+                appendNodes(out, children);
+            }
+            out.append('}');
+        }
+        out.append(']');
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static void appendString(Appendable out, String value) throws IOException {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    private static String sanitize(String contextId) {
+        return contextId.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    /**
+     * A notification of an extension observer method in progress.
+     */
+    public static final class ObserverNotification {
+
+        static final ObserverNotification NOOP = new ObserverNotification(null, null, null, null, null);
+
+        private final String contextId;
+
+        private final ProfileNode node;
+
+        private final String eventType;
+
+        private final String observer;
+
+        private final Object event;
+
+        private final long start;
+
+        private ObserverNotification(String contextId, ProfileNode node, String eventType, String observer, Object event) {
+            this.contextId = contextId;
+            this.node = node;
+            this.eventType = eventType;
+            this.observer = observer;
+            this.event = event;
+            this.start = System.nanoTime();
+        }
+
+        public void end() {
+            if (node == null) {
+                return;
+            }
+            node.observerNotified(eventType, observer, System.nanoTime() - start);
+            if (event != null) {
+                JfrEvents.commitObserverNotification(event, contextId, node.getPath(), eventType, observer);
+            }
+        }
+
+    }
+
+    private static final class Archive {
+
+        private final String id;
+
+        private final int classes;
+
+        private final int beans;
+
+        private Archive(String id, int classes, int beans) {
+            this.id = id;
+            this.classes = classes;
+            this.beans = beans;
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.profile;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder events emitted by {@link BootstrapProfiler}. This class must only be loaded if the <code>jdk.jfr</code>
+ * module is available, see {@link #isAvailable()}.
+ */
+final class JfrEvents {
+
+    private static final String AVAILABILITY_CHECK_CLASS = "jdk.jfr.Event";
+
+    private JfrEvents() {
+    }
+
+    static boolean isAvailable() {
+        try {
+            Class.forName(AVAILABILITY_CHECK_CLASS, false, BootstrapProfiler.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    static Object beginPhase() {
+        PhaseEvent event = new PhaseEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commitPhase(Object event, String contextId, String phase) {
+        PhaseEvent phaseEvent = (PhaseEvent) event;
+        phaseEvent.end();
+        if (phaseEvent.shouldCommit()) {
+            phaseEvent.contextId = contextId;
+            phaseEvent.phase = phase;
+            phaseEvent.commit();
+        }
+    }
+
+    static Object beginObserverNotification() {
+        ObserverNotificationEvent event = new ObserverNotificationEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commitObserverNotification(Object event, String contextId, String phase, String eventType, String observer) {
+        ObserverNotificationEvent notificationEvent = (ObserverNotificationEvent) event;
+        notificationEvent.end();
+        if (notificationEvent.shouldCommit()) {
+            notificationEvent.contextId = contextId;
+            notificationEvent.phase = phase;
+            notificationEvent.eventType = eventType;
+            notificationEvent.observer = observer;
+            notificationEvent.commit();
+        }
+    }
+
+    static void commitArchive(String contextId, String archive, int classes, int beans) {
+        ArchiveEvent event = new ArchiveEvent();
+        if (event.shouldCommit()) {
+            event.contextId = contextId;
+            event.archive = archive;
+            event.classes = classes;
+            event.beans = beans;
+            event.commit();
+        }
+    }
+
+    @Name("org.jboss.weld.bootstrap.Phase")
+    @Label("Bootstrap Phase")
+    @Category({ "Weld", "Bootstrap" })
+    @Description("A bootstrap operation, nested operations are separated with '>'")
+    static final class PhaseEvent extends Event {
+
+        @Label("Context Id")
+        String contextId;
+
+        @Label("Phase")
+        String phase;
+
+    }
+
+    @Name("org.jboss.weld.bootstrap.ObserverNotification")
+    @Label("Extension Observer Notification")
+    @Category({ "Weld", "Bootstrap" })
+    @Description("Delivery of a container lifecycle event to an extension observer method")
+    static final class ObserverNotificationEvent extends Event {
+
+        @Label("Context Id")
+        String contextId;
+
+        @Label("Phase")
+        String phase;
+
+        @Label("Event Type")
+        String eventType;
+
+        @Label("Observer")
+        String observer;
+
+    }
+
+    @Name("org.jboss.weld.bootstrap.Archive")
+    @Label("Bean Archive")
+    @Category({ "Weld", "Bootstrap" })
+    @Description("Number of classes and beans of a bean archive")
+    static final class ArchiveEvent extends Event {
+
+        @Label("Context Id")
+        String contextId;
+
+        @Label("Archive")
+        String archive;
+
+        @Label("Classes")
+        int classes;
+
+        @Label("Beans")
+        int beans;
+
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.profile;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A node of the bootstrap profile tree. Operations with the same name started within the same parent operation are merged
+ * into a single node. Children are only modified by the bootstrap thread, observer statistics may be updated concurrently.
+ */
+final class ProfileNode {
+
+    private final String name;
+
+    private final ProfileNode parent;
+
+    private final Map<String, ProfileNode> children;
+
+    private final Map<String, ObserverStats> observers;
+
+    private long count;
+
+    private long nanos;
+
+    private long start;
+
+    private Object event;
+
+    ProfileNode(String name, ProfileNode parent) {
+        this.name = name;
+        this.parent = parent;
+        this.children = new LinkedHashMap<>();
+        this.observers = new ConcurrentHashMap<>();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    ProfileNode getParent() {
+        return parent;
+    }
+
+    String getPath() {
+        return parent == null || parent.parent == null ? name : parent.getPath() + " > " + name;
+    }
+
+    synchronized ProfileNode child(String name) {
+        return children.computeIfAbsent(name, (key) -> new ProfileNode(key, this));
+    }
+
+    synchronized List<ProfileNode> getChildren() {
+        return new ArrayList<>(children.values());
+    }
+
+    synchronized void clear() {
+        children.clear();
+        observers.clear();
+    }
+
+    void started(long start, Object event) {
+        this.start = start;
+        this.event = event;
+    }
+
+    /**
+     * @return the event associated when the node was started, if any
+     */
+    Object ended(long end) {
+        count++;
+        nanos += end - start;
+        Object event = this.event;
+        this.event = null;
+        return event;
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    long getNanos() {
+        return nanos;
+    }
+
+    void observerNotified(String eventType, String observer, long nanos) {
+        observers.computeIfAbsent(eventType + ' ' + observer, (key) -> new ObserverStats(eventType, observer)).add(nanos);
+    }
+
+    Collection<ObserverStats> getObservers() {
+        return observers.values();
+    }
+
+    static final class ObserverStats {
+
+        private final String eventType;
+
+        private final String observer;
+
+        private final LongAdder count;
+
+        private final LongAdder nanos;
+
+        ObserverStats(String eventType, String observer) {
+            this.eventType = eventType;
+            this.observer = observer;
+            this.count = new LongAdder();
+            this.nanos = new LongAdder();
+        }
+
+        void add(long nanos) {
+            this.count.increment();
+            this.nanos.add(nanos);
+        }
+
+        String getEventType() {
+            return eventType;
+        }
+
+        String getObserver() {
+            return observer;
+        }
+
+        long getCount() {
+            return count.sum();
+        }
+
+        long getNanos() {
+            return nanos.sum();
+        }
+
+    }
+
+}
@@ -85,9 +85,9 @@ public enum ConfigurationKey {
     EXECUTOR_THREAD_POOL_DEBUG("org.jboss.weld.executor.threadPoolDebug", false),
 
     /**
-     * The type of the thread pool. Possible values are: FIXED, FIXED_TIMEOUT, NONE, SINGLE_THREAD, COMMON.
+     * The type of the thread pool. Possible values are: FIXED, FIXED_TIMEOUT, NONE, SINGLE_THREAD, COMMON, VIRTUAL.
      */
-    @Description("The type of the Weld thread pool. Possible values are: <ul><li><code>FIXED</code> - Uses a fixed number of threads. The number of threads remains the same throughout the application.</li><li><code>FIXED_TIMEOUT</code> - Uses a fixed number of threads. A thread will be stopped after a configured period of inactivity.</li><li><code>NONE</code> - No dedicated thread pool used.</li><li><code>SINGLE_THREAD</code> - A single-threaded thread pool.</li><li><code>COMMON</code> - The default ForkJoinPool.commonPool() is used.</li>")
+    @Description("The type of the Weld thread pool. Possible values are: <ul><li><code>FIXED</code> - Uses a fixed number of threads. The number of threads remains the same throughout the application.</li><li><code>FIXED_TIMEOUT</code> - Uses a fixed number of threads. A thread will be stopped after a configured period of inactivity.</li><li><code>NONE</code> - No dedicated thread pool used.</li><li><code>SINGLE_THREAD</code> - A single-threaded thread pool.</li><li><code>COMMON</code> - The default ForkJoinPool.commonPool() is used.</li><li><code>VIRTUAL</code> - A new virtual thread is started for each task. Requires Java 21 or newer.</li>")
     EXECUTOR_THREAD_POOL_TYPE("org.jboss.weld.executor.threadPoolType", ""),
 
     /**
@@ -103,11 +103,12 @@ public enum ConfigurationKey {
      * resolver for beans,
      * decorators, disposers, interceptors and observers. Each of them stores resolved injection points in its cache, which
      * maximum size is bounded by a default
-     * value (common to all of them).
+     * value (common to all of them). The bound also applies to the name-based resolver and to the cache of disambiguated beans.
+     * Once the bound is exceeded, the least recently used entries are evicted.
      *
      * @see <a href="https://issues.jboss.org/browse/WELD-1323">WELD-1323</a>
      */
-    @Description("Weld caches already resolved injection points in order to resolve them faster in the future. There exists a separate type safe resolver for beans, decorators, disposers, interceptors and observers. Each of them stores resolved injection points in its cache, which maximum size is bounded by a common default value.")
+    @Description("Weld caches already resolved injection points in order to resolve them faster in the future. There exists a separate type safe resolver for beans, decorators, disposers, interceptors and observers. Each of them stores resolved injection points in its cache, which maximum size is bounded by a common default value. Once the bound is exceeded, the least recently used entries are evicted.")
     RESOLUTION_CACHE_SIZE("org.jboss.weld.resolution.cacheSize", 0x10000L),
 
     /**
@@ -251,6 +252,23 @@ public enum ConfigurationKey {
     @Description("The maximum time to wait on the lock of conversation in milliseconds.")
     CONVERSATION_CONCURRENT_ACCESS_TIMEOUT("org.jboss.weld.conversation.concurrentAccessTimeout", 1000L),
 
+    /**
+     * The interval in milliseconds between two runs of the background task which ends and destroys expired long-running
+     * conversations. By default, the background task is disabled (value 0) and expired conversations are only ended when
+     * another conversation of the same HTTP session is accessed.
+     */
+    @Description("The interval in milliseconds between two runs of the background task which ends and destroys expired long-running conversations. By default, the task is disabled (value 0).")
+    CONVERSATION_REAPER_INTERVAL("org.jboss.weld.conversation.reaperInterval", 0L),
+
+    /**
+     * If set to <code>true</code>, the contextual instances of a long-running conversation are kept in a single session
+     * attribute per conversation instead of a separate session attribute per bean. Restoring or destroying a conversation then
+     * does not need to scan all the session attribute names and the attribute is only written back to the session once per
+     * request if the conversation was modified.
+     */
+    @Description("If set to <code>true</code>, the contextual instances of a long-running conversation are kept in a single session attribute per conversation instead of a separate session attribute per bean.")
+    CONVERSATION_BEAN_STORAGE("org.jboss.weld.conversation.beanStorage", false),
+
     /**
      * This configuration property should only be used if experiencing problems with rolling upgrades.
      * <p>
@@ -364,6 +382,89 @@ public enum ConfigurationKey {
     @Description("If set to true then when a contextual reference for a @SessionScoped or @ConversationScoped bean is obtained from a context backed by an HTTP session the instance is set again using HttpSession.setAttribute(). This allows to trigger session replication in some application servers.")
     RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS("org.jboss.weld.context.resetHttpSessionAttributeOnBeanAccess", false),
 
+    /**
+     * If set to <code>true</code>, the instances of @SessionScoped beans accessed or created during a request are recorded and
+     * set again using HttpSession.setAttribute() in one batch at the end of the request. This allows to trigger session
+     * replication for the instances actually used in the request only. Has no effect if
+     * {@link #RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS} is enabled.
+     */
+    @Description("If set to <code>true</code>, the instances of @SessionScoped beans accessed or created during a request are set again using HttpSession.setAttribute() in one batch at the end of the request.")
+    CONTEXT_SESSION_DIRTY_TRACKING("org.jboss.weld.context.sessionDirtyTracking", false),
+
+    /**
+     * If set to <code>true</code> and {@link #CONTEXT_SESSION_DIRTY_TRACKING} is enabled, an accessed instance of a bean class
+     * which overrides {@link Object#hashCode()} is only set again if its hash code changed during the request.
+     */
+    @Description("If set to <code>true</code> and the session dirty tracking is enabled, an accessed instance of a bean class which overrides hashCode() is only set again if its hash code changed during the request.")
+    CONTEXT_SESSION_MUTATION_DETECTION("org.jboss.weld.context.sessionMutationDetection", false),
+
+    /**
+     * If set to <code>true</code>, the request, application and singleton contexts store the instances of beans known
+     * at boot time in an array indexed by a slot assigned to each bean. A lookup then becomes an array read instead of
+     * a hash map lookup. The bound and HTTP request contexts still write the instances through to their backing storage
+     * and only cache them in the array. Has no effect if {@link #BEAN_IDENTIFIER_INDEX_OPTIMIZATION} is disabled.
+     */
+    @Description("If set to <code>true</code>, the request, application and singleton contexts store the instances of beans known at boot time in an array indexed by a slot assigned to each bean. Has no effect if the bean identifier index optimization is disabled.")
+    CONTEXT_INDEXED_BEAN_STORE("org.jboss.weld.context.indexedBeanStore", false),
+
+    /**
+     * A comma-separated list of formats the bootstrap profile is exported to. Supported formats are <code>json</code>
+     * and <code>jfr</code>. The profile contains a hierarchical timing tree of the bootstrap operations, the time spent
+     * in extension observer methods and the number of classes and beans per bean archive. By default, no profile is
+     * recorded.
+     *
+     * @see #BOOTSTRAP_PROFILE_FILE
+     */
+    @Description("A comma-separated list of formats the bootstrap profile is exported to. Supported formats are <code>json</code> and <code>jfr</code>. By default, no profile is recorded.")
+    BOOTSTRAP_PROFILE("org.jboss.weld.bootstrap.profile", ""),
+
+    /**
+     * The file the JSON bootstrap profile is written to. By default,
+     * <code>weld-bootstrap-profile-{contextId}.json</code> in the temporary directory is used.
+     */
+    @Description("The file the JSON bootstrap profile is written to. By default, <code>weld-bootstrap-profile-{contextId}.json</code> in the temporary directory is used.")
+    BOOTSTRAP_PROFILE_FILE("org.jboss.weld.bootstrap.profile.file", ""),
+
+    /**
+     * If set to <code>true</code>, Java Flight Recorder events are emitted for context activation, bean instance
+     * creation, event notification, asynchronous observer notification, conversation lock waits and resolution cache
+     * misses. The events still have to be enabled in the running recording.
+     */
+    @Description("If set to <code>true</code>, Java Flight Recorder events are emitted for context activation, bean instance creation, event notification, asynchronous observer notification, conversation lock waits and resolution cache misses.")
+    JFR_EVENTS("org.jboss.weld.jfr.events", false),
+
+    /**
+     * If set to <code>true</code>, client proxies of request, session and conversation scoped beans read the thread-local
+     * instance cache directly. The lookup through the method handler is only used if there is no cached instance.
+     */
+    @Description("If set to <code>true</code>, client proxies of request, session and conversation scoped beans read the thread-local instance cache directly instead of looking up the instance through the method handler.")
+    SPECIALIZED_CLIENT_PROXIES("org.jboss.weld.proxy.specializeClientProxies", false),
+
+    /**
+     * If set to <code>true</code>, the interceptor methods and the intercepted business method of an around invoke interception
+     * chain are bound as {@link java.lang.invoke.MethodHandle}s when the chain is built and invoked without
+     * {@link java.lang.reflect.Method#invoke(Object, Object...)}.
+     */
+    @Description("If set to <code>true</code>, interception chains invoke interceptor methods and the intercepted method through method handles instead of reflection.")
+    COMPILED_INTERCEPTION_CHAINS("org.jboss.weld.interceptor.compiledChains", false),
+
+    /**
+     * If set to <code>true</code>, the notifications of transactional observer methods for all the events fired during a JTA
+     * transaction are collected in a single transaction synchronization instead of registering a synchronization for each
+     * event. Requires the TransactionSynchronizationRegistry to be available in JNDI or provided by the integrator (see
+     * <code>org.jboss.weld.module.jta.TransactionSynchronizationRegistryServices</code>).
+     */
+    @Description("If set to <code>true</code>, the notifications of transactional observer methods for all the events fired during a JTA transaction are collected in a single transaction synchronization.")
+    TRANSACTIONAL_OBSERVERS_BATCHING("org.jboss.weld.event.transactionalObservers.batching", false),
+
+    /**
+     * If set to <code>true</code> and {@link #TRANSACTIONAL_OBSERVERS_BATCHING} is enabled, an <code>AFTER_SUCCESS</code>
+     * observer method is only notified of the last of the equal events fired during a transaction. The events are compared
+     * using {@link Object#equals(Object)}.
+     */
+    @Description("If set to <code>true</code> and the transactional observer notifications are batched, an AFTER_SUCCESS observer method is only notified of the last of the equal events (as defined by <code>Object.equals()</code>) fired during a transaction.")
+    TRANSACTIONAL_OBSERVERS_COALESCING("org.jboss.weld.event.transactionalObservers.coalescing", false),
+
     ;
 
     /**
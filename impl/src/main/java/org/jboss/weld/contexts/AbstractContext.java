@@ -22,13 +22,23 @@ import jakarta.enterprise.context.spi.Contextual;
 import jakarta.enterprise.context.spi.CreationalContext;
 
 import org.jboss.weld.Container;
+import org.jboss.weld.bean.CommonBean;
 import org.jboss.weld.bean.WrappedContextual;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.beanstore.AbstractIndexedBeanStore;
 import org.jboss.weld.contexts.beanstore.BeanStore;
+import org.jboss.weld.contexts.beanstore.BoundBeanStore;
+import org.jboss.weld.contexts.beanstore.ConcurrentIndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.IndexedBoundBeanStore;
 import org.jboss.weld.contexts.beanstore.LockedBean;
 import org.jboss.weld.contexts.cache.RequestScopedCache;
+import org.jboss.weld.jfr.JfrRecorder;
 import org.jboss.weld.logging.ContextLogger;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.serialization.spi.ContextualStore;
 import org.jboss.weld.util.Beans;
@@ -49,6 +59,12 @@ public abstract class AbstractContext implements AlterableContext {
 
     private final ServiceRegistry serviceRegistry;
 
+    // Only set if indexed bean stores are enabled
+    private final BeanIdentifierIndex beanIdentifierIndex;
+
+    // Only set if JFR events are enabled
+    private final JfrRecorder jfrRecorder;
+
     /**
      * Constructor
      *
@@ -56,6 +72,11 @@ public abstract class AbstractContext implements AlterableContext {
     public AbstractContext(String contextId, boolean multithreaded) {
         this.multithreaded = multithreaded;
         this.serviceRegistry = Container.instance(contextId).services();
+        WeldConfiguration configuration = serviceRegistry.get(WeldConfiguration.class);
+        this.beanIdentifierIndex = configuration.getBooleanProperty(ConfigurationKey.CONTEXT_INDEXED_BEAN_STORE)
+                ? serviceRegistry.get(BeanIdentifierIndex.class)
+                : null;
+        this.jfrRecorder = serviceRegistry.get(JfrRecorder.class);
     }
 
     /**
@@ -79,25 +100,37 @@ public abstract class AbstractContext implements AlterableContext {
         if (contextual == null) {
             throw ContextLogger.LOG.contextualIsNull();
         }
-        BeanIdentifier id = getId(contextual);
-        ContextualInstance<T> beanInstance = beanStore.get(id);
+        final int slot = getSlot(beanStore, contextual);
+        // The identifier is not needed to look up a contextual with a slot
+        BeanIdentifier id = slot < 0 ? getId(contextual) : null;
+        ContextualInstance<T> beanInstance = beanStore.get(slot, id);
         if (beanInstance != null) {
             return beanInstance.getInstance();
         } else if (creationalContext != null) {
             LockedBean lock = null;
             try {
                 if (multithreaded) {
+                    if (id == null) {
+                        id = getId(contextual);
+                    }
                     lock = beanStore.lock(id);
-                    beanInstance = beanStore.get(id);
+                    beanInstance = beanStore.get(slot, id);
                     if (beanInstance != null) {
                         return beanInstance.getInstance();
                     }
                 }
-                T instance = contextual.create(creationalContext);
+                T instance;
+                if (jfrRecorder == null) {
+                    instance = contextual.create(creationalContext);
+                } else {
+                    Object event = jfrRecorder.beginBeanCreation();
+                    instance = contextual.create(creationalContext);
+                    jfrRecorder.commitBeanCreation(event, this, contextual);
+                }
                 if (instance != null) {
                     beanInstance = new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance,
                             creationalContext, serviceRegistry.get(ContextualStore.class));
-                    beanStore.put(id, beanInstance);
+                    beanStore.put(slot, id, beanInstance);
                 }
                 return instance;
             } finally {
@@ -128,10 +161,12 @@ public abstract class AbstractContext implements AlterableContext {
         if (beanStore == null) {
             throw ContextLogger.LOG.noBeanStoreAvailable(this);
         }
-        BeanIdentifier id = getId(contextual);
-        ContextualInstance<?> beanInstance = beanStore.remove(id);
+        final int slot = getSlot(beanStore, contextual);
+        ContextualInstance<?> beanInstance = beanStore.remove(slot, slot < 0 ? getId(contextual) : null);
         if (beanInstance != null) {
-            RequestScopedCache.invalidate();
+            if (!org.jboss.weld.bean.ContextualInstance.invalidateCache(contextual)) {
+                RequestScopedCache.invalidate();
+            }
             destroyContextualInstance(beanInstance);
         }
     }
@@ -150,12 +185,30 @@ public abstract class AbstractContext implements AlterableContext {
         if (beanStore == null) {
             throw ContextLogger.LOG.noBeanStoreAvailable(this);
         }
+        destroyInstances(beanStore);
+    }
+
+    /**
+     * Destroys all the contextual instances held by the given bean store and clears the bean store. The bean store does not
+     * have to be the one of the current thread and the context does not have to be active.
+     *
+     * @param beanStore
+     */
+    protected void destroyInstances(BeanStore beanStore) {
         for (BeanIdentifier id : beanStore) {
             destroyContextualInstance(beanStore.get(id));
         }
         beanStore.clear();
     }
 
+    /**
+     *
+     * @return the JFR recorder or <code>null</code> if JFR events are not enabled
+     */
+    JfrRecorder getJfrRecorder() {
+        return jfrRecorder;
+    }
+
     /**
      * A method that returns the actual bean store implementation
      *
@@ -186,6 +239,54 @@ public abstract class AbstractContext implements AlterableContext {
         return Beans.getIdentifier(contextual, serviceRegistry);
     }
 
+    private int getSlot(BeanStore beanStore, Contextual<?> contextual) {
+        if (contextual instanceof WrappedContextual<?>) {
+            contextual = ((WrappedContextual<?>) contextual).delegate();
+        }
+        if (beanStore instanceof AbstractIndexedBeanStore && contextual instanceof CommonBean<?>) {
+            CommonBean<?> bean = (CommonBean<?>) contextual;
+            // The slot is only valid for the store of the bean's own scope
+            if (bean.getScope() == getScope()) {
+                return bean.getContextSlot();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Wraps the given bean store in an {@link AbstractIndexedBeanStore} if
+     * {@link ConfigurationKey#CONTEXT_INDEXED_BEAN_STORE} is enabled and the {@link BeanIdentifierIndex} is available.
+     * A thread-confined context gets an {@link IndexedBeanStore} backed by a plain array, a multithreaded one a
+     * {@link ConcurrentIndexedBeanStore}.
+     *
+     * @param beanStore the bean store to wrap
+     * @return the bean store to use
+     */
+    protected BeanStore indexed(BeanStore beanStore) {
+        if (beanIdentifierIndex == null) {
+            return beanStore;
+        }
+        if (multithreaded) {
+            return new ConcurrentIndexedBeanStore(beanIdentifierIndex, getScope(), beanStore);
+        }
+        return new IndexedBeanStore(beanIdentifierIndex, getScope(), beanStore);
+    }
+
+    /**
+     * Wraps the given bound bean store in an {@link IndexedBoundBeanStore} if
+     * {@link ConfigurationKey#CONTEXT_INDEXED_BEAN_STORE} is enabled, the {@link BeanIdentifierIndex} is available and the
+     * context is thread-confined. All instances are still written through to the given bean store.
+     *
+     * @param beanStore the bound bean store to wrap
+     * @return the bound bean store to use
+     */
+    protected BoundBeanStore indexed(BoundBeanStore beanStore) {
+        if (beanIdentifierIndex == null || multithreaded) {
+            return beanStore;
+        }
+        return new IndexedBoundBeanStore(beanIdentifierIndex, getScope(), beanStore);
+    }
+
     protected ServiceRegistry getServiceRegistry() {
         return serviceRegistry;
     }
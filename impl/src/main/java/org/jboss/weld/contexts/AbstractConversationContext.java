@@ -29,28 +29,39 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.enterprise.context.BeforeDestroyed;
 import jakarta.enterprise.context.ConversationScoped;
 import jakarta.enterprise.context.Destroyed;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.Bean;
 
 import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.ConversationContext;
 import org.jboss.weld.context.ManagedConversation;
+import org.jboss.weld.context.RequestContext;
 import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.context.unbound.UnboundLiteral;
 import org.jboss.weld.contexts.beanstore.BoundBeanStore;
+import org.jboss.weld.contexts.beanstore.ConversationBeanStorage;
+import org.jboss.weld.contexts.beanstore.ConversationBeanStore;
 import org.jboss.weld.contexts.beanstore.ConversationNamingScheme;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
 import org.jboss.weld.contexts.conversation.ConversationIdGenerator;
 import org.jboss.weld.contexts.conversation.ConversationImpl;
 import org.jboss.weld.event.FastEvent;
+import org.jboss.weld.jfr.JfrRecorder;
 import org.jboss.weld.logging.ConversationLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.serialization.BeanIdentifierIndex;
 import org.jboss.weld.util.LazyValueHolder;
 
@@ -78,11 +89,17 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     private final boolean resetHttpSessionAttributeOnBeanAccess;
 
+    private final boolean conversationBeanStorage;
+
     private final ThreadLocal<R> associated;
 
     private final BeanManagerImpl manager;
 
     private final BeanIdentifierIndex beanIdentifierIndex;
+
+    // null if expired conversations are not ended in the background
+    private final ConversationReaper<S> reaper;
+
     private final LazyValueHolder<FastEvent<String>> conversationBeforeDestroyedEvent = new LazyValueHolder<FastEvent<String>>() {
         @Override
         protected FastEvent<String> computeValue() {
@@ -108,6 +125,22 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         this.beanIdentifierIndex = services.get(BeanIdentifierIndex.class);
         this.resetHttpSessionAttributeOnBeanAccess = configuration
                 .getBooleanProperty(ConfigurationKey.RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS);
+        this.conversationBeanStorage = configuration.getBooleanProperty(ConfigurationKey.CONVERSATION_BEAN_STORAGE);
+        this.reaper = createReaper(services, configuration.getLongProperty(ConfigurationKey.CONVERSATION_REAPER_INTERVAL));
+    }
+
+    private ConversationReaper<S> createReaper(ServiceRegistry services, long interval) {
+        if (interval <= 0) {
+            return null;
+        }
+        ExecutorServices executorServices = services.get(ExecutorServices.class);
+        ScheduledExecutorService timerExecutor = executorServices != null ? executorServices.getTimerExecutor() : null;
+        if (timerExecutor == null) {
+            ConversationLogger.LOG.conversationReaperNotAvailable();
+            return null;
+        }
+        // The reaper is started once the first conversation is queued
+        return new ConversationReaper<>(this, timerExecutor, interval);
     }
 
     @Override
@@ -256,7 +289,15 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
     }
 
     private boolean lock(ManagedConversation conversation) {
-        return conversation.lock(getConcurrentAccessTimeout());
+        final long timeout = getConcurrentAccessTimeout();
+        JfrRecorder jfrRecorder = getJfrRecorder();
+        if (jfrRecorder == null) {
+            return conversation.lock(timeout);
+        }
+        Object event = jfrRecorder.beginConversationLockWait();
+        boolean acquired = conversation.lock(timeout);
+        jfrRecorder.commitConversationLockWait(event, conversation.getId(), timeout, acquired);
+        return acquired;
     }
 
     @Override
@@ -292,6 +333,13 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                         getBeanStore().attach();
                         getConversationMap().put(getCurrentConversation().getId(), getCurrentConversation());
                     }
+                    if (reaper != null && !getCurrentConversation().isTransient()) {
+                        scheduleExpiration(getCurrentConversation());
+                    }
+                    if (getBeanStore() instanceof ConversationBeanStore) {
+                        // Write the conversation storage back to the session once per request
+                        ((ConversationBeanStore) getBeanStore()).flush();
+                    }
                 }
             } finally {
                 // WELD-1690 always try to unlock the current conversation
@@ -308,6 +356,15 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         }
     }
 
+    private void scheduleExpiration(ManagedConversation conversation) {
+        S session = getSessionFromRequest(getRequest(), false);
+        // Only conversations which can be ended without activating the context are queued
+        if (session != null && conversation instanceof ConversationImpl) {
+            reaper.schedule(session, conversation.getId(), conversation,
+                    conversation.getLastUsed() + conversation.getTimeout());
+        }
+    }
+
     private void cleanUpConversationMap() {
         ManagedConversation currentConversation = getCurrentConversation();
         Map<String, ManagedConversation> conversations = getConversationMap();
@@ -346,7 +403,9 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         synchronized (conversations) {
             for (Entry<String, ManagedConversation> stringManagedConversationEntry : conversations.entrySet()) {
                 ManagedConversation conversation = stringManagedConversationEntry.getValue();
-                if (!currentConversation.equals(conversation) && !conversation.isTransient() && isExpired(conversation)) {
+                // Conversations queued by the reaper are ended in the background
+                if (!currentConversation.equals(conversation) && !conversation.isTransient() && isExpired(conversation)
+                        && (reaper == null || !reaper.isScheduled(conversation))) {
                     // Try to lock the conversation and log warning if not successful - unlocking should not be necessary
                     if (!conversation.lock(0)) {
                         ConversationLogger.LOG.endLockedConversation(conversation.getId());
@@ -357,6 +416,111 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         }
     }
 
+    /**
+     * Ends and destroys the given long-running conversation if it's expired and not locked. This method is invoked by the
+     * {@link ConversationReaper} on the timer thread, i.e. outside of any request. The conversation context is not activated
+     * - the bean storage of the expired conversation is destroyed directly. The request context is activated while the
+     * contextual instances are destroyed, but the session context is not.
+     * <p>
+     * Note that the session is accessed from the timer thread, possibly while a request of the same session is processed.
+     * This relies on the session attributes being safe for concurrent access, as required by the Servlet specification. The
+     * conversation map stored in the session is always guarded by its own monitor and an invalidated session is detected by
+     * the {@link IllegalStateException} thrown when its attributes are accessed.
+     * </p>
+     *
+     * @param session
+     * @param id
+     * @param conversation
+     * @return the time the conversation expires at if it's not expired yet or is locked, {@link ConversationReaper#DONE}
+     *         otherwise
+     * @see ConversationImpl#endIfExpired(java.util.function.BooleanSupplier)
+     */
+    long expireConversation(S session, String id, ManagedConversation conversation) {
+        if (!(conversation instanceof ConversationImpl)) {
+            return ConversationReaper.DONE;
+        }
+        long deadline = ((ConversationImpl) conversation)
+                .endIfExpired(() -> removeExpiredConversation(session, id, conversation));
+        return deadline < 0 ? ConversationReaper.DONE : deadline;
+    }
+
+    private boolean removeExpiredConversation(S session, String id, ManagedConversation conversation) {
+        Object conversationMap;
+        try {
+            conversationMap = getSessionAttributeFromSession(session, CONVERSATIONS_ATTRIBUTE_NAME);
+        } catch (IllegalStateException e) {
+            // The session was invalidated
+            return false;
+        }
+        if (!(conversationMap instanceof Map)) {
+            return false;
+        }
+        Map<String, ManagedConversation> conversations = cast(conversationMap);
+        synchronized (conversations) {
+            if (conversations.get(id) != conversation) {
+                return false;
+            }
+            conversations.remove(id);
+        }
+        destroyExpiredConversation(session, id);
+        ConversationLogger.LOG.expiredConversationDestroyed(id);
+        return true;
+    }
+
+    private void destroyExpiredConversation(S session, String id) {
+        if (manager.isContextActive(RequestScoped.class)) {
+            destroyConversationBeanStore(session, id);
+            return;
+        }
+        // @PreDestroy callbacks and observers of @Destroyed(ConversationScoped.class) may use request scoped beans
+        RequestContext requestContext = getUnboundRequestContext();
+        try {
+            requestContext.activate();
+            manager.fireRequestContextInitialized(id);
+            destroyConversationBeanStore(session, id);
+        } finally {
+            manager.fireRequestContextBeforeDestroyed(id);
+            requestContext.invalidate();
+            requestContext.deactivate();
+            manager.fireRequestContextDestroyed(id);
+        }
+    }
+
+    /**
+     * Unlike {@link #destroyConversation(Object, String, boolean)}, the bean store is not set as the bean store of the
+     * current thread.
+     */
+    private void destroyConversationBeanStore(S session, String id) {
+        conversationBeforeDestroyedEvent.get().fire(id);
+        BoundBeanStore beanStore = createSessionBeanStore(
+                new ConversationNamingScheme(getNamingSchemePrefix(), id, beanIdentifierIndex), session);
+        beanStore.attach();
+        try {
+            destroyInstances(beanStore);
+        } finally {
+            beanStore.detach();
+        }
+        conversationDestroyedEvent.get().fire(id);
+    }
+
+    private RequestContext getUnboundRequestContext() {
+        final Bean<?> bean = manager.resolve(manager.getBeans(RequestContext.class, UnboundLiteral.INSTANCE));
+        final CreationalContext<?> ctx = manager.createCreationalContext(bean);
+        return (RequestContext) manager.getReference(bean, RequestContext.class, ctx);
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the container this context belongs to was shut down, <code>false</code> otherwise
+     */
+    boolean isShutDown() {
+        if (!Container.isSet(manager.getContextId())) {
+            return true;
+        }
+        Container container = Container.instance(manager.getContextId());
+        return container.deploymentManager() != manager || ContainerState.SHUTDOWN.equals(container.getState());
+    }
+
     public boolean destroy(S session) {
         // the context may be active
         // if it is, we need to re-attach the bean store once the other conversations are destroyed
@@ -409,9 +573,17 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
             }
             // Extract contextual instances
             List<ContextualInstance<?>> contextualInstances = new ArrayList<>();
-            for (String id : new ConversationNamingScheme(getNamingSchemePrefix(), entry.getKey(), beanIdentifierIndex)
-                    .filterIds(getSessionAttributeNames(session))) {
-                contextualInstances.add((ContextualInstance<?>) getSessionAttributeFromSession(session, id));
+            ConversationNamingScheme namingScheme = new ConversationNamingScheme(getNamingSchemePrefix(), entry.getKey(),
+                    beanIdentifierIndex);
+            if (conversationBeanStorage) {
+                Object storage = getSessionAttributeFromSession(session, namingScheme.getStorageAttributeName());
+                if (storage instanceof ConversationBeanStorage) {
+                    contextualInstances.addAll(((ConversationBeanStorage) storage).getContextualInstances());
+                }
+            } else {
+                for (String id : namingScheme.filterIds(getSessionAttributeNames(session))) {
+                    contextualInstances.add((ContextualInstance<?>) getSessionAttributeFromSession(session, id));
+                }
             }
             contexts.put(entry.getKey(), contextualInstances);
         }
@@ -601,6 +773,16 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     protected abstract S getSessionFromRequest(R request, boolean create);
 
+    /**
+     *
+     * @return <code>true</code> if the instances of a conversation should be kept in a single {@link ConversationBeanStorage},
+     *         <code>false</code> otherwise
+     * @see ConfigurationKey#CONVERSATION_BEAN_STORAGE
+     */
+    protected boolean isConversationBeanStorageEnabled() {
+        return conversationBeanStorage;
+    }
+
     protected abstract String getNamingSchemePrefix();
 
     /**
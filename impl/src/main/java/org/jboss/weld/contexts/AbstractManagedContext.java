@@ -17,6 +17,7 @@
 package org.jboss.weld.contexts;
 
 import org.jboss.weld.context.ManagedContext;
+import org.jboss.weld.jfr.JfrRecorder;
 import org.jboss.weld.logging.ContextLogger;
 
 /**
@@ -27,6 +28,9 @@ public abstract class AbstractManagedContext extends AbstractContext implements
 
     private final ThreadLocal<ManagedState> state;
 
+    // Only set if the scope is tracked by the ActiveContextRegistry
+    private volatile ActiveContextRegistry.Tracker activeContextTracker;
+
     public AbstractManagedContext(String contextId, boolean multithreaded) {
         super(contextId, multithreaded);
         this.state = new ThreadLocal<ManagedState>();
@@ -38,7 +42,21 @@ public abstract class AbstractManagedContext extends AbstractContext implements
     }
 
     protected void setActive(boolean active) {
-        getManagedState().setActive(active);
+        ActiveContextRegistry.Tracker tracker = activeContextTracker;
+        if (tracker != null) {
+            if (active) {
+                // Fails if another context is active for the scope
+                tracker.activated();
+            } else {
+                tracker.deactivated();
+            }
+        }
+        ManagedState managedState = getManagedState();
+        JfrRecorder jfrRecorder = getJfrRecorder();
+        if (jfrRecorder != null && managedState.isActive() != active) {
+            jfrRecorder.contextActivation(this, active);
+        }
+        managedState.setActive(active);
     }
 
     public void invalidate() {
@@ -68,9 +86,21 @@ public abstract class AbstractManagedContext extends AbstractContext implements
      */
     protected void removeState() {
         ContextLogger.LOG.tracev("State thread-local removed: {0}", this);
+        JfrRecorder jfrRecorder = getJfrRecorder();
+        if (jfrRecorder != null && isActive()) {
+            jfrRecorder.contextActivation(this, false);
+        }
+        ActiveContextRegistry.Tracker tracker = activeContextTracker;
+        if (tracker != null) {
+            tracker.deactivated();
+        }
         state.remove();
     }
 
+    void setActiveContextTracker(ActiveContextRegistry.Tracker tracker) {
+        this.activeContextTracker = tracker;
+    }
+
     private ManagedState getManagedState() {
         ManagedState managedState = state.get();
         if (managedState == null) {
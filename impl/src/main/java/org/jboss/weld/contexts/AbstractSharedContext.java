@@ -29,7 +29,7 @@ public abstract class AbstractSharedContext extends AbstractContext {
      */
     protected AbstractSharedContext(String contextId) {
         super(contextId, true);
-        this.beanStore = new ConcurrentHashMapBeanStore();
+        this.beanStore = indexed(new ConcurrentHashMapBeanStore());
     }
 
     /**
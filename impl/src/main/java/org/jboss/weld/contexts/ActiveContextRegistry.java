@@ -0,0 +1,184 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.spi.Context;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.logging.BeanManagerLogger;
+
+/**
+ * Keeps track of the {@link AbstractManagedContext} active for the current thread so that the active context for a
+ * scope with multiple registered contexts, e.g. the bound and the HTTP request contexts, can be found without invoking
+ * {@link Context#isActive()} on each of them.
+ * <p>
+ * A scope is only tracked if more than one context is registered for the scope and all of them are managed contexts.
+ * Each tracked scope has a single {@link ScopeSlot} holding the context active for the current thread. The managed
+ * contexts of a tracked scope fill and clear the slot on activation and deactivation, the contexts of other scopes do
+ * not pay for the bookkeeping. Activating a context while another context of the same scope is active fails with an
+ * {@link IllegalStateException}, so that the lookup never has to detect ambiguity.
+ * </p>
+ *
+ * @see AbstractManagedContext
+ */
+public class ActiveContextRegistry implements Service {
+
+    private final Map<Class<? extends Annotation>, ScopeSlot> slots;
+
+    public ActiveContextRegistry() {
+        this.slots = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Registers the given context. Must be called for every context registered with the bean manager.
+     *
+     * @param context the context registered with the bean manager
+     */
+    public void addContext(Context context) {
+        slots.computeIfAbsent(context.getScope(), ScopeSlot::new).add(context);
+    }
+
+    /**
+     *
+     * @param scope the scope
+     * @return the slot holding the context active for the given scope or <code>null</code> if the scope is not tracked
+     */
+    public ScopeSlot getSlot(Class<? extends Annotation> scope) {
+        ScopeSlot slot = slots.get(scope);
+        return slot != null && slot.tracked ? slot : null;
+    }
+
+    @Override
+    public void cleanup() {
+        for (ScopeSlot slot : slots.values()) {
+            slot.cleanup();
+        }
+        slots.clear();
+    }
+
+    /**
+     * Holds the context active for the current thread for a tracked scope.
+     */
+    public static final class ScopeSlot {
+
+        private final Class<? extends Annotation> scope;
+
+        private final ThreadLocal<Context> active;
+
+        // Registered context (i.e. possibly wrapped) for each managed context
+        private final Map<AbstractManagedContext, Context> managedContexts;
+
+        private int registeredContexts;
+
+        private boolean unmanagedContexts;
+
+        private volatile boolean tracked;
+
+        private ScopeSlot(Class<? extends Annotation> scope) {
+            this.scope = scope;
+            this.active = new ThreadLocal<>();
+            this.managedContexts = new HashMap<>();
+        }
+
+        /**
+         *
+         * @return the registered context active for the current thread or <code>null</code>
+         */
+        public Context get() {
+            return active.get();
+        }
+
+        private synchronized void add(Context context) {
+            Context unwrapped = PassivatingContextWrapper.unwrap(context);
+            if (unwrapped instanceof AbstractManagedContext) {
+                managedContexts.put((AbstractManagedContext) unwrapped, context);
+            } else {
+                unmanagedContexts = true;
+            }
+            registeredContexts++;
+            boolean tracked = !unmanagedContexts && registeredContexts > 1;
+            for (Map.Entry<AbstractManagedContext, Context> entry : managedContexts.entrySet()) {
+                AbstractManagedContext managed = entry.getKey();
+                if (tracked) {
+                    if (managed.isActive() && active.get() == null) {
+                        // The context was activated before the scope was tracked, e.g. during bootstrap
+                        active.set(entry.getValue());
+                    }
+                    managed.setActiveContextTracker(new Tracker(this, entry.getValue()));
+                } else {
+                    managed.setActiveContextTracker(null);
+                }
+            }
+            if (!tracked) {
+                active.remove();
+            }
+            this.tracked = tracked;
+        }
+
+        private synchronized void cleanup() {
+            for (AbstractManagedContext managed : managedContexts.keySet()) {
+                managed.setActiveContextTracker(null);
+            }
+            managedContexts.clear();
+            active.remove();
+            tracked = false;
+        }
+
+    }
+
+    /**
+     * Fills and clears the slot of a tracked scope on behalf of a managed context.
+     */
+    static final class Tracker {
+
+        private final ScopeSlot slot;
+
+        private final Context registered;
+
+        private Tracker(ScopeSlot slot, Context registered) {
+            this.slot = slot;
+            this.registered = registered;
+        }
+
+        /**
+         *
+         * @throws IllegalStateException if another context is already active for the scope
+         */
+        void activated() {
+            Context current = slot.active.get();
+            if (current == null) {
+                slot.active.set(registered);
+            } else if (current != registered) {
+                throw BeanManagerLogger.LOG.duplicateActiveContexts(slot.scope.getName());
+            }
+            // A context may be activated repeatedly without being deactivated in between
+        }
+
+        void deactivated() {
+            if (slot.active.get() == registered) {
+                slot.active.remove();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.context.ManagedConversation;
+import org.jboss.weld.logging.ConversationLogger;
+
+/**
+ * Ends and destroys expired long-running conversations in the background. Conversations are kept in a queue ordered by the
+ * time they expire at, so that each run of the reaper only visits the conversations which may have expired. The deadline of
+ * a queued conversation is not updated when the conversation is accessed - instead, a conversation which turns out not to
+ * be expired is queued again with its current deadline.
+ * <p>
+ * A conversation which is locked, i.e. used by a request, is never ended by the reaper. The reaper only attempts to lock it
+ * again during the next run.
+ * <p>
+ * The queue only holds weak references to sessions and conversations so that it never prevents an invalidated session
+ * from being garbage collected. A conversation only ends up in the queue once it's used by a request processed on this
+ * node. Expired conversations which are not queued, e.g. after a session failover or once the session object they were
+ * queued with is garbage collected, are ended by {@link AbstractConversationContext#invalidate()}.
+ *
+ * @param <S> the session type
+ * @see AbstractConversationContext#expireConversation(Object, String, ManagedConversation)
+ */
+final class ConversationReaper<S> implements Runnable {
+
+    /**
+     * Returned by {@link AbstractConversationContext#expireConversation(Object, String, ManagedConversation)} if the
+     * conversation should not be queued again.
+     */
+    static final long DONE = -1L;
+
+    private final AbstractConversationContext<?, S> context;
+
+    private final ScheduledExecutorService executor;
+
+    private final long interval;
+
+    // All the fields below are guarded by this
+    private final PriorityQueue<Expiration<S>> queue;
+    private final Set<ManagedConversation> queued;
+    private ScheduledFuture<?> task;
+    private boolean stopped;
+
+    /**
+     * The reaper is not started until the first conversation is queued, so that the timer thread never sees a context which
+     * is not fully constructed.
+     *
+     * @param context
+     * @param executor
+     * @param interval the delay between two runs in milliseconds
+     */
+    ConversationReaper(AbstractConversationContext<?, S> context, ScheduledExecutorService executor, long interval) {
+        this.context = context;
+        this.executor = executor;
+        this.interval = interval;
+        this.queue = new PriorityQueue<>();
+        this.queued = Collections.newSetFromMap(new WeakHashMap<>());
+    }
+
+    /**
+     * Cancels the reaper and clears the queue. Conversations which are not ended yet are destroyed together with their
+     * session.
+     */
+    synchronized void stop() {
+        stopped = true;
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+        queue.clear();
+        queued.clear();
+    }
+
+    /**
+     * Queues the given long-running conversation unless it's already queued. Starts the reaper if not started yet.
+     *
+     * @param session the session the conversation belongs to
+     * @param id the conversation id
+     * @param conversation
+     * @param deadline the time the conversation expires at
+     */
+    synchronized void schedule(S session, String id, ManagedConversation conversation, long deadline) {
+        if (stopped) {
+            return;
+        }
+        if (task == null) {
+            task = executor.scheduleWithFixedDelay(this, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        if (queued.add(conversation)) {
+            queue.add(new Expiration<>(deadline, session, id, conversation));
+        }
+    }
+
+    /**
+     *
+     * @param conversation
+     * @return <code>true</code> if the given conversation is queued, <code>false</code> otherwise
+     */
+    synchronized boolean isScheduled(ManagedConversation conversation) {
+        return queued.contains(conversation);
+    }
+
+    @Override
+    public void run() {
+        if (context.isShutDown()) {
+            stop();
+            return;
+        }
+        List<Expiration<S>> due = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            while (!queue.isEmpty() && queue.peek().deadline <= now) {
+                due.add(queue.poll());
+            }
+        }
+        for (Expiration<S> expiration : due) {
+            S session = expiration.session.get();
+            ManagedConversation conversation = expiration.conversation.get();
+            if (session == null || conversation == null) {
+                // The session or the conversation was garbage collected. A container may also use a new session object
+                // for each request, so the conversation may still be alive and must be queued again by the next request.
+                if (conversation != null) {
+                    synchronized (this) {
+                        queued.remove(conversation);
+                    }
+                }
+                continue;
+            }
+            long deadline = DONE;
+            try {
+                deadline = context.expireConversation(session, expiration.id, conversation);
+            } catch (Exception e) {
+                // Never let the exception propagate - the task would not be executed anymore
+                ConversationLogger.LOG.unableToDestroyExpiredConversation(expiration.id, e);
+                ConversationLogger.LOG.catchingDebug(e);
+            }
+            synchronized (this) {
+                if (stopped) {
+                    return;
+                }
+                if (deadline == DONE) {
+                    queued.remove(conversation);
+                } else {
+                    queue.add(new Expiration<>(deadline, session, expiration.id, conversation));
+                }
+            }
+        }
+    }
+
+    private static final class Expiration<S> implements Comparable<Expiration<S>> {
+
+        private final long deadline;
+        private final WeakReference<S> session;
+        private final String id;
+        private final WeakReference<ManagedConversation> conversation;
+
+        private Expiration(long deadline, S session, String id, ManagedConversation conversation) {
+            this.deadline = deadline;
+            this.session = new WeakReference<>(session);
+            this.id = id;
+            this.conversation = new WeakReference<>(conversation);
+        }
+
+        @Override
+        public int compareTo(Expiration<S> other) {
+            return Long.compare(deadline, other.deadline);
+        }
+
+    }
+
+}
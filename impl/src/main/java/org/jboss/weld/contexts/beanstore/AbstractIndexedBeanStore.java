@@ -0,0 +1,236 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * A bean store which keeps the instances of beans with an assigned context slot in an array, so that a lookup by slot
+ * is a plain array read. Instances of other contextuals, e.g. custom beans or beans added after the slots were
+ * assigned, are kept in the delegate bean store.
+ *
+ * <p>
+ * If no slot is given, e.g. when using the identifier based methods, the slot is resolved through the
+ * {@link BeanIdentifierIndex} which is slower than the slot based lookup. If a slot is given, the identifier may be
+ * <code>null</code> and is only derived from the slot if the delegate has to be consulted. Until an instance is put in
+ * the delegate, a slot miss does not consult the delegate at all. Subclasses decide how the slot array is allocated and
+ * accessed.
+ * </p>
+ *
+ * <p>
+ * A write-through store puts every instance in the delegate as well and treats the slots as a cache only. This is
+ * needed if the delegate is shared with other bean stores, e.g. the attributes of a request.
+ * </p>
+ *
+ * @see BeanIdentifierIndex#assignContextSlots(java.util.Set)
+ * @see IndexedBeanStore
+ * @see ConcurrentIndexedBeanStore
+ */
+public abstract class AbstractIndexedBeanStore implements BeanStore {
+
+    private final BeanIdentifierIndex index;
+
+    private final Class<? extends Annotation> scope;
+
+    private final BeanStore delegate;
+
+    private final boolean writeThrough;
+
+    // Set once the delegate may hold an instance, a slot miss does not need to consult it until then
+    private volatile boolean delegateUsed;
+
+    /**
+     *
+     * @param index the index holding the context slots
+     * @param scope the scope of the beans stored
+     * @param delegate the bean store used for contextuals without an assigned slot, also provides the creation locks
+     */
+    protected AbstractIndexedBeanStore(BeanIdentifierIndex index, Class<? extends Annotation> scope, BeanStore delegate) {
+        this(index, scope, delegate, false);
+    }
+
+    /**
+     *
+     * @param index the index holding the context slots
+     * @param scope the scope of the beans stored
+     * @param delegate the bean store used for contextuals without an assigned slot, also provides the creation locks
+     * @param writeThrough if <code>true</code> all instances are also stored in the delegate
+     */
+    protected AbstractIndexedBeanStore(BeanIdentifierIndex index, Class<? extends Annotation> scope, BeanStore delegate,
+            boolean writeThrough) {
+        this.index = index;
+        this.scope = scope;
+        this.delegate = delegate;
+        this.writeThrough = writeThrough;
+        this.delegateUsed = writeThrough;
+    }
+
+    @Override
+    public <T> ContextualInstance<T> get(int slot, BeanIdentifier id) {
+        slot = resolve(slot, id);
+        if (slot >= 0) {
+            final ContextualInstance<?> instance = getSlot(slot);
+            if (instance != null) {
+                return Reflections.cast(instance);
+            }
+        }
+        if (!delegateUsed) {
+            return null;
+        }
+        // The instance might have been created before the slots were assigned or by another store sharing the delegate
+        final ContextualInstance<T> instance = delegate.get(identifier(slot, id));
+        if (writeThrough && instance != null && slot >= 0) {
+            setSlot(slot, instance);
+        }
+        return instance;
+    }
+
+    @Override
+    public <T> void put(int slot, BeanIdentifier id, ContextualInstance<T> contextualInstance) {
+        slot = resolve(slot, id);
+        if (slot < 0 || !setSlot(slot, contextualInstance) || writeThrough) {
+            delegateUsed = true;
+            delegate.put(identifier(slot, id), contextualInstance);
+        }
+    }
+
+    @Override
+    public <T> ContextualInstance<T> remove(int slot, BeanIdentifier id) {
+        slot = resolve(slot, id);
+        if (slot >= 0) {
+            final ContextualInstance<?> instance = removeSlot(slot);
+            if (writeThrough) {
+                final ContextualInstance<T> removed = delegate.remove(identifier(slot, id));
+                return instance != null ? Reflections.cast(instance) : removed;
+            }
+            if (instance != null) {
+                return Reflections.cast(instance);
+            }
+        }
+        return delegateUsed ? delegate.remove(identifier(slot, id)) : null;
+    }
+
+    @Override
+    public <T> ContextualInstance<T> get(BeanIdentifier id) {
+        return get(-1, id);
+    }
+
+    @Override
+    public <T> void put(BeanIdentifier id, ContextualInstance<T> contextualInstance) {
+        put(-1, id, contextualInstance);
+    }
+
+    @Override
+    public <T> ContextualInstance<T> remove(BeanIdentifier id) {
+        return remove(-1, id);
+    }
+
+    @Override
+    public boolean contains(BeanIdentifier id) {
+        return get(id) != null;
+    }
+
+    @Override
+    public void clear() {
+        clearSlots();
+        delegate.clear();
+    }
+
+    @Override
+    public Iterator<BeanIdentifier> iterator() {
+        final List<BeanIdentifier> ids = new ArrayList<BeanIdentifier>();
+        if (!writeThrough) {
+            final int length = getSlotLength();
+            for (int i = 0; i < length; i++) {
+                if (getSlot(i) != null) {
+                    ids.add(index.getContextSlotIdentifier(scope, i));
+                }
+            }
+        }
+        for (BeanIdentifier id : delegate) {
+            ids.add(id);
+        }
+        return ids.iterator();
+    }
+
+    @Override
+    public LockedBean lock(BeanIdentifier id) {
+        return delegate.lock(id);
+    }
+
+    /**
+     *
+     * @return the number of slots assigned to the beans of the scope, 0 if the slots are not assigned yet
+     */
+    protected int getSlotCount() {
+        return index.getContextSlotCount(scope);
+    }
+
+    /**
+     *
+     * @param slot the slot
+     * @return the instance stored in the given slot or <code>null</code>
+     */
+    protected abstract ContextualInstance<?> getSlot(int slot);
+
+    /**
+     *
+     * @param slot the slot
+     * @param instance the instance to store
+     * @return <code>false</code> if the slot is not available and the instance must be stored in the delegate
+     */
+    protected abstract boolean setSlot(int slot, ContextualInstance<?> instance);
+
+    /**
+     *
+     * @param slot the slot
+     * @return the instance removed from the given slot or <code>null</code>
+     */
+    protected abstract ContextualInstance<?> removeSlot(int slot);
+
+    /**
+     *
+     * @return the length of the slot array, 0 if not allocated
+     */
+    protected abstract int getSlotLength();
+
+    protected abstract void clearSlots();
+
+    private int resolve(int slot, BeanIdentifier id) {
+        // The caller may not know the slot, e.g. if the contextual is wrapped
+        return slot >= 0 ? slot : index.getContextSlot(scope, id);
+    }
+
+    private BeanIdentifier identifier(int slot, BeanIdentifier id) {
+        // The caller may only know the slot
+        return id != null ? id : index.getContextSlotIdentifier(scope, slot);
+    }
+
+    @Override
+    public String toString() {
+        return "indexed " + scope.getSimpleName() + " contextuals " + delegate;
+    }
+
+}
@@ -76,4 +76,41 @@ public interface BeanStore extends Iterable<BeanIdentifier> {
      * @return the removed bean instance of null if there was no bean instance before
      */
     <T> ContextualInstance<T> remove(BeanIdentifier id);
+
+    /**
+     * Gets an instance of a contextual from the store. Bean stores which support indexed access may use the slot
+     * assigned to the contextual to avoid the identifier lookup. A slot is only given to such bean stores.
+     *
+     * @param slot The slot assigned to the contextual or -1 if no slot is assigned
+     * @param id The id of the contextual to return, may be <code>null</code> if a slot is given
+     * @return The instance or null if not found
+     * @see AbstractIndexedBeanStore
+     */
+    default <T> ContextualInstance<T> get(int slot, BeanIdentifier id) {
+        return get(id);
+    }
+
+    /**
+     * Adds a bean instance to the storage.
+     *
+     * @param slot The slot assigned to the contextual or -1 if no slot is assigned
+     * @param id The id of the contextual, may be <code>null</code> if a slot is given
+     * @param contextualInstance the contextual instance
+     * @see AbstractIndexedBeanStore
+     */
+    default <T> void put(int slot, BeanIdentifier id, ContextualInstance<T> contextualInstance) {
+        put(id, contextualInstance);
+    }
+
+    /**
+     * Removes a bean instance identified by the given slot and id.
+     *
+     * @param slot The slot assigned to the contextual or -1 if no slot is assigned
+     * @param id The bean id, may be <code>null</code> if a slot is given
+     * @return the removed bean instance of null if there was no bean instance before
+     * @see AbstractIndexedBeanStore
+     */
+    default <T> ContextualInstance<T> remove(int slot, BeanIdentifier id) {
+        return remove(id);
+    }
 }
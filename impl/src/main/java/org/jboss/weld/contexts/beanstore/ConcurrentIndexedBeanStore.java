@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+
+/**
+ * A thread-safe {@link AbstractIndexedBeanStore} backed by an {@link AtomicReferenceArray}. Used by the contexts shared
+ * by all threads, i.e. the application and singleton contexts. The slot array is allocated lazily, once the slots are
+ * assigned.
+ *
+ * @see IndexedBeanStore
+ */
+public class ConcurrentIndexedBeanStore extends AbstractIndexedBeanStore {
+
+    private volatile AtomicReferenceArray<ContextualInstance<?>> slots;
+
+    /**
+     *
+     * @param index the index holding the context slots
+     * @param scope the scope of the beans stored
+     * @param delegate the bean store used for contextuals without an assigned slot, also provides the creation locks
+     */
+    public ConcurrentIndexedBeanStore(BeanIdentifierIndex index, Class<? extends Annotation> scope, BeanStore delegate) {
+        super(index, scope, delegate);
+    }
+
+    @Override
+    protected ContextualInstance<?> getSlot(int slot) {
+        final AtomicReferenceArray<ContextualInstance<?>> slots = getSlots();
+        return slots != null && slot < slots.length() ? slots.get(slot) : null;
+    }
+
+    @Override
+    protected boolean setSlot(int slot, ContextualInstance<?> instance) {
+        final AtomicReferenceArray<ContextualInstance<?>> slots = getSlots();
+        if (slots == null || slot >= slots.length()) {
+            return false;
+        }
+        slots.set(slot, instance);
+        return true;
+    }
+
+    @Override
+    protected ContextualInstance<?> removeSlot(int slot) {
+        final AtomicReferenceArray<ContextualInstance<?>> slots = getSlots();
+        return slots != null && slot < slots.length() ? slots.getAndSet(slot, null) : null;
+    }
+
+    @Override
+    protected int getSlotLength() {
+        final AtomicReferenceArray<ContextualInstance<?>> slots = this.slots;
+        return slots != null ? slots.length() : 0;
+    }
+
+    @Override
+    protected void clearSlots() {
+        final AtomicReferenceArray<ContextualInstance<?>> slots = this.slots;
+        if (slots != null) {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.set(i, null);
+            }
+        }
+    }
+
+    private AtomicReferenceArray<ContextualInstance<?>> getSlots() {
+        AtomicReferenceArray<ContextualInstance<?>> slots = this.slots;
+        if (slots == null) {
+            final int count = getSlotCount();
+            if (count == 0) {
+                // Slots not assigned yet
+                return null;
+            }
+            synchronized (this) {
+                slots = this.slots;
+                if (slots == null) {
+                    this.slots = slots = new AtomicReferenceArray<ContextualInstance<?>>(count);
+                }
+            }
+        }
+        return slots;
+    }
+
+}
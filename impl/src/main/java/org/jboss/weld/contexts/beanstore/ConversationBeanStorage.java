@@ -0,0 +1,129 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.weld.context.api.ContextualInstance;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Holds all the contextual instances of a single conversation. The storage is kept in one session attribute per conversation
+ * so that the instances of a conversation can be found without scanning all the session attributes.
+ * <p>
+ * The storage tracks whether it was modified since it was last written to the session. The dirty flag is not serialized,
+ * i.e. a deserialized storage is never dirty.
+ *
+ * @see ConversationBeanStore
+ */
+public class ConversationBeanStorage implements Serializable {
+
+    private static final long serialVersionUID = 3376430658151578427L;
+
+    private final ConcurrentMap<String, ContextualInstance<?>> instances;
+
+    @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
+    private transient volatile boolean dirty;
+
+    @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
+    private transient volatile LockStore lockStore;
+
+    public ConversationBeanStorage() {
+        this.instances = new ConcurrentHashMap<>();
+    }
+
+    public ContextualInstance<?> get(String prefixedId) {
+        return instances.get(prefixedId);
+    }
+
+    public void put(String prefixedId, ContextualInstance<?> instance) {
+        instances.put(prefixedId, instance);
+        dirty = true;
+    }
+
+    public ContextualInstance<?> remove(String prefixedId) {
+        ContextualInstance<?> instance = instances.remove(prefixedId);
+        if (instance != null) {
+            dirty = true;
+        }
+        return instance;
+    }
+
+    public boolean isEmpty() {
+        return instances.isEmpty();
+    }
+
+    /**
+     *
+     * @return a snapshot of the prefixed ids of the stored instances
+     */
+    public Iterator<String> getPrefixedIds() {
+        return new ArrayList<>(instances.keySet()).iterator();
+    }
+
+    /**
+     *
+     * @return a snapshot of the stored instances
+     */
+    public Collection<ContextualInstance<?>> getContextualInstances() {
+        return new ArrayList<>(instances.values());
+    }
+
+    /**
+     * Marks the storage as modified, e.g. when an instance stored in the storage was accessed and its state might have changed.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Resets the dirty flag.
+     *
+     * @return <code>true</code> if the storage was modified since the last invocation, <code>false</code> otherwise
+     */
+    public boolean clearDirty() {
+        if (dirty) {
+            dirty = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @return the lock store used to create the instances of this conversation
+     */
+    public LockStore getLockStore() {
+        LockStore lockStore = this.lockStore;
+        if (lockStore == null) {
+            synchronized (this) {
+                lockStore = this.lockStore;
+                if (lockStore == null) {
+                    this.lockStore = lockStore = new LockStore();
+                }
+            }
+        }
+        return lockStore;
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import static org.jboss.weld.util.reflection.Reflections.cast;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * A bound bean store which keeps all the contextual instances of a conversation in a single {@link ConversationBeanStorage}
+ * attribute of the backing store. Unlike the other {@link AttributeBeanStore}s, the attribute names of the whole backing store
+ * never need to be iterated.
+ * <p>
+ * The instances are written through to the storage immediately. However, the storage itself is only written to the backing
+ * store again in {@link #flush()} and only if it was modified, i.e. at most once per request.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @see ConversationBeanStorage
+ */
+public abstract class ConversationBeanStore extends AttributeBeanStore {
+
+    private final ConversationNamingScheme namingScheme;
+
+    private ConversationBeanStorage storage;
+
+    private String storageAttributeName;
+
+    // Used to create the instances of a transient conversation
+    private LockStore detachedLockStore;
+
+    public ConversationBeanStore(ConversationNamingScheme namingScheme) {
+        super(namingScheme, false);
+        this.namingScheme = namingScheme;
+    }
+
+    @Override
+    public <T> ContextualInstance<T> get(BeanIdentifier id) {
+        ContextualInstance<T> instance = super.get(id);
+        if (instance == null && isAttached()) {
+            instance = cast(getAttribute(getNamingScheme().prefix(id)));
+        }
+        return instance;
+    }
+
+    /**
+     * Writes the storage to the backing store if it was modified since it was last written.
+     */
+    public void flush() {
+        ConversationBeanStorage storage = this.storage;
+        if (isAttached() && storage != null && storage.clearDirty()) {
+            setStorageAttribute(storageAttributeName, storage);
+        }
+    }
+
+    /**
+     *
+     * @param create
+     * @return the storage of the current conversation id, or <code>null</code> if no such storage exists and create is
+     *         <code>false</code>
+     */
+    protected ConversationBeanStorage getStorage(boolean create) {
+        // The conversation id changes when a transient conversation becomes long-running
+        String name = namingScheme.getStorageAttributeName();
+        ConversationBeanStorage storage = this.storage;
+        if (storage == null || !name.equals(storageAttributeName)) {
+            Object attribute = getStorageAttribute(name);
+            storage = attribute instanceof ConversationBeanStorage ? (ConversationBeanStorage) attribute : null;
+            if (storage == null) {
+                if (!create) {
+                    return null;
+                }
+                storage = new ConversationBeanStorage();
+                setStorageAttribute(name, storage);
+            }
+            this.storage = storage;
+            this.storageAttributeName = name;
+        }
+        return storage;
+    }
+
+    @Override
+    protected Object getAttribute(String prefixedId) {
+        ConversationBeanStorage storage = getStorage(false);
+        return storage != null ? storage.get(prefixedId) : null;
+    }
+
+    @Override
+    protected void setAttribute(String prefixedId, Object instance) {
+        getStorage(true).put(prefixedId, (ContextualInstance<?>) instance);
+    }
+
+    @Override
+    protected void removeAttribute(String prefixedId) {
+        ConversationBeanStorage storage = getStorage(false);
+        if (storage != null) {
+            storage.remove(prefixedId);
+            if (storage.isEmpty()) {
+                // The conversation was destroyed
+                removeStorageAttribute(storageAttributeName);
+                this.storage = null;
+                this.storageAttributeName = null;
+            }
+        }
+    }
+
+    @Override
+    protected Iterator<String> getAttributeNames() {
+        ConversationBeanStorage storage = getStorage(false);
+        return storage != null ? storage.getPrefixedIds() : Collections.emptyIterator();
+    }
+
+    @Override
+    protected LockStore getLockStore() {
+        if (isAttached()) {
+            return getStorage(true).getLockStore();
+        }
+        if (detachedLockStore == null) {
+            detachedLockStore = new LockStore();
+        }
+        return detachedLockStore;
+    }
+
+    /**
+     * Gets an attribute from the backing store
+     *
+     * @param name The name of the attribute
+     * @return The value
+     */
+    protected abstract Object getStorageAttribute(String name);
+
+    /**
+     * Sets the storage under a key in the backing store
+     *
+     * @param name The name of the attribute
+     * @param storage The storage
+     */
+    protected abstract void setStorageAttribute(String name, ConversationBeanStorage storage);
+
+    /**
+     * Removes an attribute from the backing store
+     *
+     * @param name The name of the attribute to remove
+     */
+    protected abstract void removeStorageAttribute(String name);
+
+}
@@ -30,6 +30,14 @@ public class ConversationNamingScheme extends BeanIdentifierIndexNamingScheme {
         this.cid = cid;
     }
 
+    /**
+     *
+     * @return the name of the session attribute holding the {@link ConversationBeanStorage} of the conversation
+     */
+    public String getStorageAttributeName() {
+        return getPrefix();
+    }
+
     @Override
     protected String getPrefix() {
         return prefixBase + "." + cid;
@@ -0,0 +1,105 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+
+/**
+ * An {@link AbstractIndexedBeanStore} backed by a plain array. This store is not thread-safe and is meant to be used by
+ * contexts whose bean store is confined to a single thread, e.g. the unbound request context. The array is only
+ * allocated once the first instance is stored, so that a request which does not use any bean of the scope does not pay
+ * for it.
+ *
+ * @see ConcurrentIndexedBeanStore
+ */
+public class IndexedBeanStore extends AbstractIndexedBeanStore {
+
+    private ContextualInstance<?>[] slots;
+
+    /**
+     *
+     * @param index the index holding the context slots
+     * @param scope the scope of the beans stored
+     * @param delegate the bean store used for contextuals without an assigned slot
+     */
+    public IndexedBeanStore(BeanIdentifierIndex index, Class<? extends Annotation> scope, BeanStore delegate) {
+        super(index, scope, delegate);
+    }
+
+    /**
+     *
+     * @param index the index holding the context slots
+     * @param scope the scope of the beans stored
+     * @param delegate the bean store used for contextuals without an assigned slot
+     * @param writeThrough if <code>true</code> all instances are also stored in the delegate
+     */
+    protected IndexedBeanStore(BeanIdentifierIndex index, Class<? extends Annotation> scope, BeanStore delegate,
+            boolean writeThrough) {
+        super(index, scope, delegate, writeThrough);
+    }
+
+    @Override
+    protected ContextualInstance<?> getSlot(int slot) {
+        final ContextualInstance<?>[] slots = this.slots;
+        return slots != null && slot < slots.length ? slots[slot] : null;
+    }
+
+    @Override
+    protected boolean setSlot(int slot, ContextualInstance<?> instance) {
+        ContextualInstance<?>[] slots = this.slots;
+        if (slots == null) {
+            final int count = getSlotCount();
+            if (slot >= count) {
+                // Slots not assigned yet
+                return false;
+            }
+            this.slots = slots = new ContextualInstance<?>[count];
+        } else if (slot >= slots.length) {
+            return false;
+        }
+        slots[slot] = instance;
+        return true;
+    }
+
+    @Override
+    protected ContextualInstance<?> removeSlot(int slot) {
+        final ContextualInstance<?>[] slots = this.slots;
+        if (slots == null || slot >= slots.length) {
+            return null;
+        }
+        final ContextualInstance<?> instance = slots[slot];
+        slots[slot] = null;
+        return instance;
+    }
+
+    @Override
+    protected int getSlotLength() {
+        return slots != null ? slots.length : 0;
+    }
+
+    @Override
+    protected void clearSlots() {
+        if (slots != null) {
+            Arrays.fill(slots, null);
+        }
+    }
+
+}
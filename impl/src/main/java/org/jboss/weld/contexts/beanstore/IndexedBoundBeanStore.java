@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.lang.annotation.Annotation;
+
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+
+/**
+ * A write-through {@link IndexedBeanStore} for the bound request contexts. Every instance is stored in the bound
+ * delegate, e.g. in the attributes of a request, and the slots only cache the instances found there. The slots are no
+ * more authoritative than the local map kept by {@link AttributeBeanStore}: an instance removed from the backing
+ * storage behind the back of the context is still returned until the store is dissociated. As the request context
+ * associates a new bean store with each thread, e.g. after an asynchronous dispatch, the slots are never shared between
+ * threads.
+ *
+ * @see AbstractIndexedBeanStore
+ */
+public class IndexedBoundBeanStore extends IndexedBeanStore implements BoundBeanStore {
+
+    private final BoundBeanStore delegate;
+
+    /**
+     *
+     * @param index the index holding the context slots
+     * @param scope the scope of the beans stored
+     * @param delegate the bound bean store holding all the instances
+     */
+    public IndexedBoundBeanStore(BeanIdentifierIndex index, Class<? extends Annotation> scope, BoundBeanStore delegate) {
+        super(index, scope, delegate, true);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean detach() {
+        return delegate.detach();
+    }
+
+    @Override
+    public boolean attach() {
+        return delegate.attach();
+    }
+
+    @Override
+    public boolean isAttached() {
+        return delegate.isAttached();
+    }
+
+    /**
+     *
+     * @return the bound bean store holding all the instances
+     */
+    public BoundBeanStore delegate() {
+        return delegate;
+    }
+
+}
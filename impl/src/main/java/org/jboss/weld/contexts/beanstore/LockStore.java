@@ -18,8 +18,8 @@
 package org.jboss.weld.contexts.beanstore;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.jboss.weld.serialization.spi.BeanIdentifier;
@@ -28,6 +28,10 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * Helper class for bean store creation locking.
+ * <p>
+ * Locks are reference-counted per {@link BeanIdentifier} and the counters are maintained atomically by
+ * {@link ConcurrentMap#compute(Object, java.util.function.BiFunction)}, i.e. there is no monitor shared by all the identifiers
+ * and threads creating different beans do not contend with each other.
  *
  * @author Stuart Douglas
  * @author Marko Luksa
@@ -37,28 +41,37 @@ public class LockStore implements Serializable {
     private static final long serialVersionUID = -698649566870070414L;
 
     @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
-    private transient volatile Map<BeanIdentifier, ReferenceCountedLock> locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
+    private transient volatile ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = new ConcurrentHashMap<BeanIdentifier, ReferenceCountedLock>();
 
     public LockedBean lock(BeanIdentifier id) {
-        ReferenceCountedLock refLock;
-        synchronized (this) {
-            if (locks == null) {
-                locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
+        ReferenceCountedLock refLock = getLocks().compute(id, (key, existing) -> {
+            if (existing != null) {
+                existing.count++;
+                return existing;
             }
-            refLock = locks.get(id);
-            if (refLock != null) {
-                refLock.count++;
-            } else {
-                refLock = new ReferenceCountedLock(id);
-                locks.put(id, refLock);
-            }
-        }
+            return new ReferenceCountedLock(key);
+        });
         refLock.lock.lock();
         return refLock;
     }
 
+    private ConcurrentMap<BeanIdentifier, ReferenceCountedLock> getLocks() {
+        ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = this.locks;
+        if (locks == null) {
+            // Only happens once after deserialization
+            synchronized (this) {
+                locks = this.locks;
+                if (locks == null) {
+                    this.locks = locks = new ConcurrentHashMap<BeanIdentifier, ReferenceCountedLock>();
+                }
+            }
+        }
+        return locks;
+    }
+
     private class ReferenceCountedLock implements LockedBean {
         private final BeanIdentifier key;
+        // Guarded by the map entry - only modified within compute() for the given key
         int count = 1;
         final ReentrantLock lock = new ReentrantLock();
 
@@ -67,13 +80,8 @@ public class LockStore implements Serializable {
         }
 
         public void unlock() {
-            synchronized (LockStore.this) {
-                lock.unlock();
-                --count;
-                if (count == 0) {
-                    locks.remove(key);
-                }
-            }
+            lock.unlock();
+            getLocks().computeIfPresent(key, (id, existing) -> --existing.count == 0 ? null : existing);
         }
     }
 
@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.util.Map;
+
+/**
+ * A {@link ConversationBeanStore} backed by a session map.
+ *
+ * @see SessionMapBeanStore
+ */
+public class SessionMapConversationBeanStore extends ConversationBeanStore {
+
+    private final Map<String, Object> delegate;
+
+    public SessionMapConversationBeanStore(ConversationNamingScheme namingScheme, Map<String, Object> delegate) {
+        super(namingScheme);
+        this.delegate = delegate;
+    }
+
+    @Override
+    protected Object getStorageAttribute(String name) {
+        return delegate.get(name);
+    }
+
+    @Override
+    protected void setStorageAttribute(String name, ConversationBeanStorage storage) {
+        delegate.put(name, storage);
+    }
+
+    @Override
+    protected void removeStorageAttribute(String name) {
+        delegate.remove(name);
+    }
+
+}
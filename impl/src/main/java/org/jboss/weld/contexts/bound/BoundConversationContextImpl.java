@@ -8,8 +8,10 @@ import org.jboss.weld.context.bound.BoundConversationContext;
 import org.jboss.weld.context.bound.BoundRequest;
 import org.jboss.weld.contexts.AbstractConversationContext;
 import org.jboss.weld.contexts.beanstore.BoundBeanStore;
+import org.jboss.weld.contexts.beanstore.ConversationNamingScheme;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
 import org.jboss.weld.contexts.beanstore.SessionMapBeanStore;
+import org.jboss.weld.contexts.beanstore.SessionMapConversationBeanStore;
 
 public class BoundConversationContextImpl extends AbstractConversationContext<BoundRequest, Map<String, Object>>
         implements BoundConversationContext {
@@ -48,11 +50,17 @@ public class BoundConversationContextImpl extends AbstractConversationContext<Bo
 
     @Override
     protected BoundBeanStore createRequestBeanStore(NamingScheme namingScheme, BoundRequest request) {
+        if (isConversationBeanStorageEnabled()) {
+            return new SessionMapConversationBeanStore((ConversationNamingScheme) namingScheme, request.getSessionMap(false));
+        }
         return new SessionMapBeanStore(namingScheme, request.getSessionMap(false));
     }
 
     @Override
     protected BoundBeanStore createSessionBeanStore(NamingScheme namingScheme, Map<String, Object> session) {
+        if (isConversationBeanStorageEnabled()) {
+            return new SessionMapConversationBeanStore((ConversationNamingScheme) namingScheme, session);
+        }
         return new SessionMapBeanStore(namingScheme, session);
     }
 
@@ -27,7 +27,7 @@ public class BoundRequestContextImpl extends AbstractBoundContext<Map<String, Ob
 
     public boolean associate(Map<String, Object> storage) {
         if (getBeanStore() == null) {
-            setBeanStore(new MapBeanStore(namingScheme, storage, true));
+            setBeanStore(indexed(new MapBeanStore(namingScheme, storage, true)));
             getBeanStore().attach();
             return true;
         } else {
@@ -16,18 +16,23 @@
  */
 package org.jboss.weld.contexts.cache;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Caches beans over the life of a request, to allow for efficient bean lookups from proxies.
  * Besides, can hold any ThreadLocals to be removed at the end of the request.
+ * <p>
+ * The items registered for the current request are kept in a plain array which is only allocated once the first item is
+ * added and only grown when needed. {@link ThreadLocal} items are stored as they are so that registering a cached bean
+ * instance does not allocate anything. The array is flushed in place by {@link #invalidate()} and a single item may be
+ * dropped using {@link #invalidate(ThreadLocal)} or {@link #invalidate(RequestScopedItem)} without affecting the rest of
+ * the cache.
  *
  * @author Stuart Douglas
  */
 public class RequestScopedCache {
 
-    private static final ThreadLocal<List<RequestScopedItem>> CACHE = new ThreadLocal<List<RequestScopedItem>>();
+    private static final ThreadLocal<Items> CACHE = new ThreadLocal<Items>();
 
     private RequestScopedCache() {
     }
@@ -36,20 +41,20 @@ public class RequestScopedCache {
         return CACHE.get() != null;
     }
 
-    private static void checkCacheForAdding(final List<RequestScopedItem> cache) {
+    private static void checkCacheForAdding(final Items cache) {
         if (cache == null) {
             throw new IllegalStateException("Unable to add request scoped cache item when request cache is not active");
         }
     }
 
     public static void addItem(final RequestScopedItem item) {
-        final List<RequestScopedItem> cache = CACHE.get();
+        final Items cache = CACHE.get();
         checkCacheForAdding(cache);
         cache.add(item);
     }
 
     public static boolean addItemIfActive(final RequestScopedItem item) {
-        final List<RequestScopedItem> cache = CACHE.get();
+        final Items cache = CACHE.get();
         if (cache != null) {
             cache.add(item);
             return true;
@@ -58,13 +63,9 @@ public class RequestScopedCache {
     }
 
     public static boolean addItemIfActive(final ThreadLocal<?> item) {
-        final List<RequestScopedItem> cache = CACHE.get();
+        final Items cache = CACHE.get();
         if (cache != null) {
-            cache.add(new RequestScopedItem() {
-                public void invalidate() {
-                    item.remove();
-                }
-            });
+            cache.add(item);
             return true;
         }
         return false;
@@ -73,7 +74,7 @@ public class RequestScopedCache {
     public static void beginRequest() {
         // if the previous request was not ended properly for some reason, make sure it is ended now
         endRequest();
-        CACHE.set(new LinkedList<RequestScopedItem>());
+        CACHE.set(new Items());
     }
 
     /**
@@ -81,12 +82,13 @@ public class RequestScopedCache {
      * in which case the cache will be unavailable for the rest of the request.
      */
     public static void endRequest() {
-        final List<RequestScopedItem> result = CACHE.get();
+        final Items result = CACHE.get();
         if (result != null) {
+            // The holder is not kept around for the next request, a thread local value left behind on a pooled
+            // thread would pin the class loader after undeployment. A request which never adds an item only
+            // allocates the empty holder.
             CACHE.remove();
-            for (final RequestScopedItem item : result) {
-                item.invalidate();
-            }
+            result.invalidateAll();
         }
     }
 
@@ -94,9 +96,84 @@ public class RequestScopedCache {
      * Flushes the bean cache. The cache remains available for the rest of the request.
      */
     public static void invalidate() {
-        if (isActive()) {
-            endRequest();
-            beginRequest();
+        final Items cache = CACHE.get();
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Removes the value of the given {@link ThreadLocal} previously registered for the current request and stops tracking it.
+     * Other cached items are not affected.
+     *
+     * @param item the item to invalidate
+     */
+    public static void invalidate(final ThreadLocal<?> item) {
+        item.remove();
+        final Items cache = CACHE.get();
+        if (cache != null) {
+            cache.remove(item);
+        }
+    }
+
+    /**
+     * Invalidates the given item previously registered for the current request and stops tracking it. Other cached
+     * items are not affected.
+     *
+     * @param item the item to invalidate
+     */
+    public static void invalidate(final RequestScopedItem item) {
+        final Items cache = CACHE.get();
+        if (cache != null && cache.remove(item)) {
+            item.invalidate();
+        }
+    }
+
+    /**
+     * Array-backed list of the items registered for a single request. Each slot holds either a {@link RequestScopedItem} or a
+     * {@link ThreadLocal}. Only ever accessed by the owning thread.
+     */
+    private static final class Items {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private static final Object[] EMPTY = new Object[0];
+
+        private Object[] items = EMPTY;
+
+        private int size;
+
+        void add(Object item) {
+            if (size == items.length) {
+                items = size == 0 ? new Object[INITIAL_CAPACITY] : Arrays.copyOf(items, size << 1);
+            }
+            items[size++] = item;
+        }
+
+        boolean remove(Object item) {
+            // most recently added items are the most likely to be removed
+            for (int i = size - 1; i >= 0; i--) {
+                if (items[i] == item) {
+                    // order of invalidation is not significant, move the last item to the free slot
+                    items[i] = items[--size];
+                    items[size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void invalidateAll() {
+            // items may register new items while being invalidated, so always re-read the size
+            while (size > 0) {
+                final Object item = items[--size];
+                items[size] = null;
+                if (item instanceof ThreadLocal<?>) {
+                    ((ThreadLocal<?>) item).remove();
+                } else {
+                    ((RequestScopedItem) item).invalidate();
+                }
+            }
         }
     }
 
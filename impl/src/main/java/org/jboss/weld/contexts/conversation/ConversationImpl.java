@@ -20,6 +20,7 @@ import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 
 import jakarta.enterprise.context.ContextNotActiveException;
 import jakarta.enterprise.context.ConversationScoped;
@@ -190,6 +191,46 @@ public class ConversationImpl implements ManagedConversation, Serializable {
         return !concurrencyLock.isLocked();
     }
 
+    /**
+     * Ends this long-running conversation if it's expired and not locked by a request. Unlike the other methods, this
+     * method does not require the conversation context to be active. It's used to end expired conversations in the
+     * background, outside of any request.
+     *
+     * @param end invoked while the conversation is locked once it's found expired, returns <code>false</code> if the
+     *        conversation must not be ended, e.g. because it was removed from the session in the meantime
+     * @return the time this conversation expires at if it's not expired yet or is locked, <code>-1</code> if it's
+     *         transient or was ended
+     */
+    public long endIfExpired(BooleanSupplier end) {
+        if (_transient) {
+            return -1L;
+        }
+        long now = System.currentTimeMillis();
+        if (now <= lastUsed + timeout) {
+            return lastUsed + timeout;
+        }
+        if (!concurrencyLock.tryLock()) {
+            // The conversation is being used by a request
+            return now;
+        }
+        try {
+            // The conversation might have been accessed before the lock was acquired
+            if (_transient) {
+                return -1L;
+            }
+            if (System.currentTimeMillis() <= lastUsed + timeout) {
+                return lastUsed + timeout;
+            }
+            if (end.getAsBoolean()) {
+                ConversationLogger.LOG.demotedLongRunningConversation(id);
+                _transient = true;
+            }
+            return -1L;
+        } finally {
+            concurrencyLock.unlock();
+        }
+    }
+
     private void verifyConversationContextActive() {
         if (!isContextActive()) {
             throw new ContextNotActiveException("Conversation Context not active when method called on conversation " + this);
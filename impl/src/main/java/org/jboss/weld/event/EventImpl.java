@@ -170,11 +170,14 @@ public class EventImpl<T> extends AbstractFacade<T, WeldEvent<T>> implements Wel
     }
 
     private <U extends T> WeldEvent<U> selectEvent(Type subtype, Annotation[] newQualifiers) {
-        getBeanManager().getGlobalStrictObserverNotifier().checkEventObjectType(subtype);
-        return new EventImpl<U>(
-                new FacadeInjectionPoint(getBeanManager(), getInjectionPoint(), Event.class, subtype, getQualifiers(),
-                        newQualifiers),
-                getBeanManager());
+        // Repeated selects return the same child event which already resolved its observer methods
+        return getSelected(subtype, newQualifiers, () -> {
+            getBeanManager().getGlobalStrictObserverNotifier().checkEventObjectType(subtype);
+            return new EventImpl<U>(
+                    new FacadeInjectionPoint(getBeanManager(), getInjectionPoint(), Event.class, subtype, getQualifiers(),
+                            newQualifiers),
+                    getBeanManager());
+        });
     }
 
     protected Type getEventType(Class<?> runtimeType) {
@@ -35,6 +35,8 @@ import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedParameter;
 import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bean.builtin.ExtensionBean;
 import org.jboss.weld.bootstrap.events.NotificationListener;
+import org.jboss.weld.bootstrap.profile.BootstrapProfiler;
+import org.jboss.weld.bootstrap.profile.BootstrapProfiler.ObserverNotification;
 import org.jboss.weld.injection.InjectionPointFactory;
 import org.jboss.weld.injection.MethodInjectionPoint;
 import org.jboss.weld.injection.MethodInjectionPoint.MethodInjectionPointType;
@@ -57,12 +59,23 @@ public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X>
     private final Container containerLifecycleEventDeliveryLock;
     private final Set<Class<? extends Annotation>> requiredTypeAnnotations;
     private volatile Set<Class<? extends Annotation>> requiredScopeTypeAnnotations;
+    private final BootstrapProfiler profiler;
+    private final String profiledEventType;
+    private final String profiledObserver;
 
     protected ExtensionObserverMethodImpl(EnhancedAnnotatedMethod<T, ? super X> observer, RIBean<X> declaringBean,
             BeanManagerImpl manager, boolean isAsync) {
         super(observer, declaringBean, manager, isAsync);
         this.containerLifecycleEventDeliveryLock = Container.instance(manager);
         this.requiredTypeAnnotations = initRequiredTypeAnnotations(observer);
+        this.profiler = manager.getServices().get(BootstrapProfiler.class);
+        if (profiler != null) {
+            this.profiledEventType = Reflections.getRawType(getObservedType()).getSimpleName();
+            this.profiledObserver = getBeanClass().getName() + "." + observer.getName();
+        } else {
+            this.profiledEventType = null;
+            this.profiledObserver = null;
+        }
     }
 
     protected Set<Class<? extends Annotation>> initRequiredTypeAnnotations(EnhancedAnnotatedMethod<T, ? super X> observer) {
@@ -133,7 +146,16 @@ public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X>
     @Override
     protected void sendEvent(T event, Object receiver, CreationalContext<?> creationalContext) {
         synchronized (containerLifecycleEventDeliveryLock) {
-            super.sendEvent(event, receiver, creationalContext);
+            if (profiler == null) {
+                super.sendEvent(event, receiver, creationalContext);
+                return;
+            }
+            ObserverNotification notification = profiler.startObserverNotification(profiledEventType, profiledObserver);
+            try {
+                super.sendEvent(event, receiver, creationalContext);
+            } finally {
+                notification.end();
+            }
         }
     }
 
@@ -25,6 +25,7 @@ import jakarta.enterprise.inject.spi.ObserverMethod;
 import org.jboss.weld.bootstrap.api.BootstrapService;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.jfr.JfrRecorder;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.module.ObserverNotifierFactory;
@@ -50,7 +51,8 @@ public class GlobalObserverNotifierService implements BootstrapService {
     public GlobalObserverNotifierService(ServiceRegistry services, String contextId) {
         this.beanManagers = new CopyOnWriteArraySet<BeanManagerImpl>();
         TypeSafeObserverResolver resolver = new TypeSafeObserverResolver(services.get(MetaAnnotationStore.class),
-                createGlobalObserverMethodIterable(beanManagers), services.get(WeldConfiguration.class));
+                createGlobalObserverMethodIterable(beanManagers), services.get(WeldConfiguration.class),
+                services.get(JfrRecorder.class));
         final ObserverNotifierFactory factory = services.get(ObserverNotifierFactory.class);
         this.globalLenientObserverNotifier = factory.create(contextId, resolver, services, false);
         this.globalStrictObserverNotifier = factory.create(contextId, resolver, services, true);
@@ -51,6 +51,7 @@ import org.jboss.weld.context.unbound.UnboundLiteral;
 import org.jboss.weld.events.WeldNotificationOptions;
 import org.jboss.weld.events.WeldNotificationOptions.NotificationMode;
 import org.jboss.weld.injection.ThreadLocalStack.ThreadLocalStackReference;
+import org.jboss.weld.jfr.JfrRecorder;
 import org.jboss.weld.logging.EventLogger;
 import org.jboss.weld.logging.UtilLogger;
 import org.jboss.weld.manager.api.ExecutorServices;
@@ -63,6 +64,7 @@ import org.jboss.weld.security.spi.SecurityServices;
 import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.Observers;
 import org.jboss.weld.util.Types;
+import org.jboss.weld.util.cache.CacheStatistics;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.reflection.Reflections;
@@ -93,6 +95,8 @@ public class ObserverNotifier {
     private final ScheduledExecutorService timerExecutor;
     private final SecurityServices securityServices;
     private final LazyValueHolder<RequestContext> requestContextHolder;
+    // Only set if JFR events are enabled
+    private final JfrRecorder jfrRecorder;
 
     protected ObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
         this.resolver = resolver;
@@ -115,6 +119,7 @@ public class ObserverNotifier {
         this.requestContextHolder = LazyValueHolder
                 .forSupplier(() -> Container.instance(contextId).deploymentManager().instance()
                         .select(RequestContext.class, UnboundLiteral.INSTANCE).get());
+        this.jfrRecorder = services.get(JfrRecorder.class);
     }
 
     /**
@@ -216,6 +221,14 @@ public class ObserverNotifier {
         return buildEventResolvable(eventType, Set.of(qualifiers));
     }
 
+    /**
+     *
+     * @return the statistics of the observer resolution cache
+     */
+    public CacheStatistics getResolutionCacheStatistics() {
+        return resolver.getCacheStatistics();
+    }
+
     /**
      * Clears cached observer method resolutions and event type checks.
      */
@@ -290,9 +303,14 @@ public class ObserverNotifier {
         if (!observers.isMetadataRequired()) {
             metadata = null;
         }
+        Object jfrEvent = jfrRecorder != null ? jfrRecorder.beginEventNotification() : null;
         notifySyncObservers(observers.getImmediateSyncObservers(), event, metadata, ObserverExceptionHandler.IMMEDIATE_HANDLER);
         notifyTransactionObservers(observers.getTransactionObservers(), event, metadata,
                 ObserverExceptionHandler.IMMEDIATE_HANDLER);
+        if (jfrEvent != null) {
+            jfrRecorder.commitEventNotification(jfrEvent, event,
+                    observers.getImmediateSyncObservers().size() + observers.getTransactionObservers().size(), false);
+        }
     }
 
     protected <T> void notifySyncObservers(List<ObserverMethod<? super T>> observers, T event, EventMetadata metadata,
@@ -343,7 +361,14 @@ public class ObserverNotifier {
         if (!observers.isMetadataRequired()) {
             metadata = null;
         }
-        return notifyAsyncObservers(observers.getAsyncObservers(), event, metadata, options.getExecutor(), options);
+        if (jfrRecorder == null) {
+            return notifyAsyncObservers(observers.getAsyncObservers(), event, metadata, options.getExecutor(), options);
+        }
+        Object jfrEvent = jfrRecorder.beginEventNotification();
+        CompletionStage<U> stage = notifyAsyncObservers(observers.getAsyncObservers(), event, metadata, options.getExecutor(),
+                options);
+        jfrRecorder.commitEventNotification(jfrEvent, event, observers.getAsyncObservers().size(), true);
+        return stage;
     }
 
     protected <T, U extends T> CompletionStage<U> notifyAsyncObservers(List<ObserverMethod<? super T>> observers, U event,
@@ -363,6 +388,7 @@ public class ObserverNotifier {
         ClassLoader tccl = SecurityActions.getContextClassLoader();
         final ObserverExceptionHandler exceptionHandler;
         CompletableFuture<U> completableFuture;
+        final long firedNanos = jfrRecorder != null ? System.nanoTime() : 0L;
 
         if (observers.size() > 1 && NotificationMode.PARALLEL.equals(mode)) {
             // Attempt to notify async observers in parallel
@@ -371,7 +397,7 @@ public class ObserverNotifier {
             for (ObserverMethod<? super T> observer : observers) {
                 completableFutures.add(CompletableFuture.supplyAsync(
                         createSupplier(tccl, securityContextActionConsumer, event, metadata, exceptionHandler, false, () -> {
-                            notifyAsyncObserver(observer, event, metadata, exceptionHandler);
+                            notifyAsyncObserver(observer, event, metadata, exceptionHandler, firedNanos);
                         }), executor));
             }
             completableFuture = CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[] {}))
@@ -385,7 +411,7 @@ public class ObserverNotifier {
             completableFuture = CompletableFuture.supplyAsync(
                     createSupplier(tccl, securityContextActionConsumer, event, metadata, exceptionHandler, true, () -> {
                         for (ObserverMethod<? super T> observer : observers) {
-                            notifyAsyncObserver(observer, event, metadata, exceptionHandler);
+                            notifyAsyncObserver(observer, event, metadata, exceptionHandler, firedNanos);
                         }
                     }), executor);
         }
@@ -443,11 +469,16 @@ public class ObserverNotifier {
     }
 
     private <T, U extends T> void notifyAsyncObserver(ObserverMethod<? super T> observer, U event, EventMetadata metadata,
-            ObserverExceptionHandler exceptionHandler) {
+            ObserverExceptionHandler exceptionHandler, long firedNanos) {
+        Object jfrEvent = jfrRecorder != null ? jfrRecorder.beginAsyncObserverNotification(firedNanos) : null;
         try {
             Observers.notify(observer, event, metadata);
         } catch (Throwable e) {
             exceptionHandler.handle(e);
+        } finally {
+            if (jfrEvent != null) {
+                jfrRecorder.commitAsyncObserverNotification(jfrEvent, event, observer);
+            }
         }
     }
 
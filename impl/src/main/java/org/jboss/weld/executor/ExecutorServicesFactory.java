@@ -54,6 +54,8 @@ public class ExecutorServicesFactory {
                 return new TimingOutFixedThreadPoolExecutorServices(threadPoolSize, threadPoolKeepAliveTime);
             case COMMON:
                 return new CommonForkJoinPoolExecutorServices();
+            case VIRTUAL:
+                return new VirtualThreadExecutorServices(threadPoolSize);
             default:
                 return new FixedThreadPoolExecutorServices(threadPoolSize);
         }
@@ -80,6 +82,17 @@ public class ExecutorServicesFactory {
                     threadPoolType = ThreadPoolType.FIXED;
                     BootstrapLogger.LOG.commonThreadPoolWithSecurityManagerEnabled(threadPoolType);
                 }
+                if (ThreadPoolType.VIRTUAL == threadPoolType) {
+                    if (!VirtualThreadExecutorServices.isSupported()) {
+                        threadPoolType = ThreadPoolType.FIXED;
+                        BootstrapLogger.LOG.virtualThreadPoolNotAvailable(threadPoolType,
+                                "not supported by Java " + System.getProperty("java.version"));
+                    } else if (System.getSecurityManager() != null) {
+                        // virtual threads have no permissions when a SecurityManager is enabled
+                        threadPoolType = ThreadPoolType.FIXED;
+                        BootstrapLogger.LOG.virtualThreadPoolNotAvailable(threadPoolType, "SecurityManager enabled");
+                    }
+                }
                 return threadPoolType;
             } catch (Exception e) {
                 throw BootstrapLogger.LOG.invalidThreadPoolType(threadPoolTypeString);
@@ -96,6 +109,7 @@ public class ExecutorServicesFactory {
         FIXED_TIMEOUT,
         NONE,
         SINGLE_THREAD,
-        COMMON
+        COMMON,
+        VIRTUAL
     }
 }
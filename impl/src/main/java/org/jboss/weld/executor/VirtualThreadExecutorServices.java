@@ -0,0 +1,96 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.executor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jboss.weld.exceptions.IllegalStateException;
+import org.jboss.weld.logging.BootstrapLogger;
+
+/**
+ * Implementation of {@link org.jboss.weld.manager.api.ExecutorServices} that starts a new virtual thread for each task, see
+ * {@code Executors.newVirtualThreadPerTaskExecutor()}. Virtual threads are only available on Java 21 and newer, use
+ * {@link #isSupported()} to check the current runtime.
+ * <p>
+ * The number of tasks used for concurrent bootstrap is still driven by the configured thread pool size since the bootstrap work
+ * is CPU-bound. Asynchronous observers, on the other hand, are not limited by the number of platform threads.
+ * </p>
+ */
+public class VirtualThreadExecutorServices extends AbstractExecutorServices {
+
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findFactoryMethod();
+
+    private final int threadPoolSize;
+
+    private final ExecutorService executor;
+
+    /**
+     *
+     * @param threadPoolSize the number of tasks the bootstrap work is split into
+     * @throws IllegalStateException if virtual threads are not supported
+     */
+    public VirtualThreadExecutorServices(int threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+        this.executor = newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     *
+     * @return <code>true</code> if virtual threads are supported by the current runtime, <code>false</code> otherwise
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    @Override
+    public ExecutorService getTaskExecutor() {
+        return executor;
+    }
+
+    @Override
+    protected int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadExecutorServices [threadPoolSize=" + threadPoolSize + "]";
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            throw BootstrapLogger.LOG.virtualThreadsNotSupported(System.getProperty("java.version"));
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw BootstrapLogger.LOG.unableToCreateVirtualThreadExecutor(e);
+        }
+    }
+
+    private static Method findFactoryMethod() {
+        // Weld is compiled for Java 11, the method is only present on Java 21+
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+}
@@ -120,6 +120,20 @@ abstract class AbstractInvocationContext implements WeldInvocationContext {
 
     @SuppressFBWarnings("EI_EXPOSE_REP")
     public void setParameters(Object[] params) {
+        checkParameters(params);
+        if (params != null) {
+            this.parameters = params;
+        }
+    }
+
+    /**
+     * Checks that the given parameters may be passed to the intercepted method or constructor.
+     *
+     * @param params
+     * @throws IllegalArgumentException if the parameters do not match the method or constructor
+     * @throws IllegalStateException if invoked during lifecycle invocation
+     */
+    void checkParameters(Object[] params) {
         if (this.method != null || this.constructor != null) {
             // there is no requirement to do anything if params is null
             // but this is theoretically possible only if the target method has no arguments
@@ -183,7 +197,6 @@ abstract class AbstractInvocationContext implements WeldInvocationContext {
                         }
                     }
                 }
-                this.parameters = params;
             }
         } else {
             throw new IllegalStateException("Illegal invocation to setParameters() during lifecycle invocation");
@@ -19,9 +19,9 @@ package org.jboss.weld.interceptor.proxy;
 import static org.jboss.weld.util.reflection.Reflections.unwrapInvocationTargetException;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -30,11 +30,13 @@ import jakarta.interceptor.InvocationContext;
 import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
+import org.jboss.weld.interceptor.WeldInvocationContext;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * For AroundInvoke interception type we use a special type of InvocationContext. Unlike the default one, this one is does not
- * track
- * the position of the interception in a mutable field but is instead immutable.
+ * track the position of the interception in a mutable field but is instead immutable.
  *
  * This allows:
  * <ul>
@@ -42,48 +44,62 @@ import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
  * <li>interception to continue in a different thread - implementing {@link jakarta.ejb.Asynchronous} with interceptors</li>
  * </ul>
  *
- * This however also requires that for each interceptor in the chain we create a new instance of
- * {@link AroundInvokeInvocationContext}.
+ * This however also requires that each interceptor in the chain is given a different {@link InvocationContext}. This context
+ * is passed to the first interceptor and holds the state of the invocation - the chain, the interception context, the
+ * current handler and the context data map, which is only created when {@link #getContextData()} is called for the first
+ * time. The following interceptors are given a {@link Position}, a lightweight view created upon {@link #proceed()} which
+ * only holds the position in the chain and the method parameters and delegates to this context otherwise.
+ *
  * Context data and method parameters are mutable. We do not guard them anyhow - the expectation for them is to be effectively
- * immutable
- * by only being modified before or after dispatch. We also assume that the dispatch safely propagates the state of
- * {@link InvocationContext}
- * from one thread to the other.
+ * immutable by only being modified before or after dispatch. We also assume that the dispatch safely propagates the state of
+ * {@link InvocationContext} from one thread to the other.
  *
  * @author Jozef Hartinger
- * @see TerminalAroundInvokeInvocationContext
- * @see NonTerminalAroundInvokeInvocationContext
  *
  */
-abstract class AroundInvokeInvocationContext extends AbstractInvocationContext {
+final class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     public static AroundInvokeInvocationContext create(Object instance, Method method, Method proceed, Object[] args,
-            List<InterceptorMethodInvocation> chain,
-            Set<Annotation> interceptorBindings, Stack stack) {
+            InterceptionChain chain, InterceptionContext interceptionContext, Stack stack) {
         CombinedInterceptorAndDecoratorStackMethodHandler currentHandler = (stack == null) ? null : stack.peek();
-        if (chain.size() == 1) {
-            return new TerminalAroundInvokeInvocationContext(instance, method, proceed, args, null, interceptorBindings,
-                    currentHandler);
-        } else {
-            return new NonTerminalAroundInvokeInvocationContext(instance, method, proceed, args, interceptorBindings, chain,
-                    currentHandler);
-        }
+        return new AroundInvokeInvocationContext(instance, method, proceed, args, chain, interceptionContext, currentHandler);
     }
 
-    final CombinedInterceptorAndDecoratorStackMethodHandler currentHandler;
+    private final InterceptionChain chain;
+    private final InterceptionContext interceptionContext;
+    private final CombinedInterceptorAndDecoratorStackMethodHandler currentHandler;
 
-    AroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters,
-            Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        super(target, method, proceed, parameters, contextData, interceptorBindings);
+    private AroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters,
+            InterceptionChain chain, InterceptionContext interceptionContext,
+            CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+        super(target, method, proceed, parameters, null, chain.getInterceptorBindings());
+        this.chain = chain;
+        this.interceptionContext = interceptionContext;
         this.currentHandler = currentHandler;
     }
 
     @Override
     public Object proceed() throws Exception {
+        return proceed(0, parameters);
+    }
+
+    /**
+     * Invokes the interceptor following the given position, or the intercepted business method if the position is the last
+     * one in the chain.
+     *
+     * @param position the position of the interceptor calling {@link InvocationContext#proceed()}
+     * @param parameters the parameters of the context passed to the interceptor at the given position
+     * @return the result of the invocation
+     * @throws Exception
+     */
+    Object proceed(int position, Object[] parameters) throws Exception {
         final Stack stack = InterceptionDecorationContext.startIfNotOnTop(currentHandler);
         try {
-            return proceedInternal();
+            int next = position + 1;
+            if (next == chain.size()) {
+                return chain.proceed(proceed, target, parameters);
+            }
+            return chain.invoke(next, interceptionContext, target, new Position(this, next, parameters));
         } catch (InvocationTargetException e) {
             throw unwrapInvocationTargetException(e);
         } finally {
@@ -93,5 +109,85 @@ abstract class AroundInvokeInvocationContext extends AbstractInvocationContext {
         }
     }
 
-    abstract Object proceedInternal() throws Exception;
+    @Override
+    public String toString() {
+        return "AroundInvokeInvocationContext [method=" + method + ", position=0]";
+    }
+
+    /**
+     * The {@link InvocationContext} passed to the interceptor at the given position, except for the first one.
+     */
+    static final class Position implements WeldInvocationContext {
+
+        private final AroundInvokeInvocationContext invocation;
+        private final int position;
+        private Object[] parameters;
+
+        Position(AroundInvokeInvocationContext invocation, int position, Object[] parameters) {
+            this.invocation = invocation;
+            this.position = position;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public Object getTarget() {
+            return invocation.getTarget();
+        }
+
+        @Override
+        public Object getTimer() {
+            return invocation.getTimer();
+        }
+
+        @Override
+        public Method getMethod() {
+            return invocation.getMethod();
+        }
+
+        @Override
+        public Constructor<?> getConstructor() {
+            return invocation.getConstructor();
+        }
+
+        @Override
+        @SuppressFBWarnings("EI_EXPOSE_REP")
+        public Object[] getParameters() {
+            return parameters;
+        }
+
+        @Override
+        @SuppressFBWarnings("EI_EXPOSE_REP")
+        public void setParameters(Object[] params) {
+            invocation.checkParameters(params);
+            if (params != null) {
+                this.parameters = params;
+            }
+        }
+
+        @Override
+        public Map<String, Object> getContextData() {
+            // Context data are shared by all the contexts of an invocation
+            return invocation.getContextData();
+        }
+
+        @Override
+        public Set<Annotation> getInterceptorBindings() {
+            return invocation.getInterceptorBindings();
+        }
+
+        @Override
+        public <T extends Annotation> Set<T> getInterceptorBindingsByType(Class<T> annotationType) {
+            return invocation.getInterceptorBindingsByType(annotationType);
+        }
+
+        @Override
+        public Object proceed() throws Exception {
+            return invocation.proceed(position, parameters);
+        }
+
+        @Override
+        public String toString() {
+            return "AroundInvokeInvocationContext [method=" + invocation.getMethod() + ", position=" + position + ']';
+        }
+    }
 }
@@ -30,6 +30,16 @@ public class CustomInterceptorInvocation<T> implements InterceptorInvocation {
         return Collections.<InterceptorMethodInvocation> singletonList(new CustomInterceptorMethodInvocation());
     }
 
+    /**
+     *
+     * @param interceptor
+     * @param interceptionType
+     * @return an invoker of the given CDI interceptor which is not bound to an interceptor instance
+     */
+    public static <T> InterceptorMethodInvoker invoker(Interceptor<T> interceptor, InterceptionType interceptionType) {
+        return new CustomInterceptorMethodInvoker<T>(interceptor, interceptionType);
+    }
+
     private class CustomInterceptorMethodInvocation implements InterceptorMethodInvocation {
         @Override
         public Object invoke(InvocationContext invocationContext) throws Exception {
@@ -42,4 +52,27 @@ public class CustomInterceptorInvocation<T> implements InterceptorInvocation {
         }
     }
 
+    private static class CustomInterceptorMethodInvoker<T> implements InterceptorMethodInvoker {
+
+        private final Interceptor<T> interceptor;
+
+        private final InterceptionType interceptionType;
+
+        CustomInterceptorMethodInvoker(Interceptor<T> interceptor, InterceptionType interceptionType) {
+            this.interceptor = interceptor;
+            this.interceptionType = interceptionType;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(Object interceptorInstance, InvocationContext invocationContext) throws Exception {
+            return interceptor.intercept(interceptionType, (T) interceptorInstance, invocationContext);
+        }
+
+        @Override
+        public boolean expectsInvocationContext() {
+            return true;
+        }
+    }
+
 }
@@ -0,0 +1,238 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
+import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
+import org.jboss.weld.interceptor.spi.model.InterceptionModel;
+import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.interceptor.util.InterceptionUtils;
+import org.jboss.weld.logging.InterceptorLogger;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.collections.ImmutableList;
+
+/**
+ * An interception chain of a given method (or a lifecycle callback) of an intercepted component. The chain is not bound to
+ * particular interceptor instances - these are obtained from the {@link InterceptionContext} of the intercepted instance upon
+ * invocation. Therefore, a chain is only computed once per {@link InterceptionModel} and shared by all the intercepted
+ * instances. This class is immutable.
+ * <p>
+ * A compiled chain binds the interceptor methods as {@link MethodHandle}s when the chain is built and the intercepted
+ * business method upon the first invocation so that invoking the chain does not involve reflection.
+ *
+ * @see InterceptionChains
+ */
+public final class InterceptionChain {
+
+    static InterceptionChain of(InterceptionModel model, Method method, InterceptionType interceptionType, boolean compiled) {
+        List<InterceptorClassMetadata<?>> interceptors = new ArrayList<>();
+        List<InterceptorMethodInvoker> invokers = new ArrayList<>();
+        for (InterceptorClassMetadata<?> interceptor : model.getInterceptors(interceptionType, method)) {
+            for (InterceptorMethodInvoker invoker : interceptor.getInterceptorMethodInvokers(interceptionType)) {
+                interceptors.add(interceptor);
+                invokers.add(compiled ? invoker.compile() : invoker);
+            }
+        }
+        TargetClassInterceptorMetadata targetClassInterceptorMetadata = model.getTargetClassInterceptorMetadata();
+        if (targetClassInterceptorMetadata != null && targetClassInterceptorMetadata.isEligible(interceptionType)) {
+            for (InterceptorMethodInvoker invoker : targetClassInterceptorMetadata
+                    .getInterceptorMethodInvokers(interceptionType)) {
+                // null stands for the target instance
+                interceptors.add(null);
+                invokers.add(compiled ? invoker.compile() : invoker);
+            }
+        }
+        Set<Annotation> interceptorBindings = method != null ? model.getMemberInterceptorBindings(method)
+                : model.getClassInterceptorBindings();
+        return new InterceptionChain(interceptors.toArray(new InterceptorClassMetadata<?>[0]),
+                invokers.toArray(new InterceptorMethodInvoker[0]), interceptorBindings, compiled);
+    }
+
+    private static final MethodType PROCEED_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final InterceptorClassMetadata<?>[] interceptors;
+    private final InterceptorMethodInvoker[] invokers;
+    private final Set<Annotation> interceptorBindings;
+    private final boolean compiled;
+
+    // The proceed method is not known until the chain is invoked, it's the same for all the instances of a proxy class though
+    // null if the chain is not compiled
+    private final ComputingCache<Method, ProceedInvoker> proceedInvokers;
+
+    private InterceptionChain(InterceptorClassMetadata<?>[] interceptors, InterceptorMethodInvoker[] invokers,
+            Set<Annotation> interceptorBindings, boolean compiled) {
+        this.interceptors = interceptors;
+        this.invokers = invokers;
+        this.interceptorBindings = interceptorBindings;
+        this.compiled = compiled;
+        this.proceedInvokers = compiled ? ComputingCacheBuilder.newBuilder().build(ProceedInvoker::of) : null;
+    }
+
+    public int size() {
+        return invokers.length;
+    }
+
+    public boolean isEmpty() {
+        return invokers.length == 0;
+    }
+
+    public Set<Annotation> getInterceptorBindings() {
+        return interceptorBindings;
+    }
+
+    /**
+     * Invokes the interceptor method at the given position.
+     *
+     * @param position
+     * @param interceptionContext the interception context of the intercepted instance, holds the interceptor instances
+     * @param target the intercepted instance
+     * @param invocationContext
+     * @return the result of the interceptor method invocation
+     * @throws Exception
+     */
+    Object invoke(int position, InterceptionContext interceptionContext, Object target, InvocationContext invocationContext)
+            throws Exception {
+        InterceptorMethodInvoker invoker = invokers[position];
+        return invoker.invoke(getInstance(position, interceptionContext, target),
+                invoker.expectsInvocationContext() ? invocationContext : null);
+    }
+
+    /**
+     * Invokes the intercepted business method, i.e. the last step of an around invoke interception. An exception thrown by the
+     * business method is wrapped in an {@link InvocationTargetException}.
+     *
+     * @param proceed the method which invokes the business method of the intercepted instance
+     * @param target the intercepted instance
+     * @param parameters
+     * @return the result of the business method invocation
+     * @throws Exception
+     */
+    Object proceed(Method proceed, Object target, Object[] parameters) throws Exception {
+        if (!compiled) {
+            return proceed.invoke(target, parameters);
+        }
+        return proceedInvokers.getValue(proceed).invoke(target, parameters);
+    }
+
+    /**
+     * Binds the chain to the interceptor instances of the given intercepted instance.
+     *
+     * @param interceptionContext the interception context of the intercepted instance, holds the interceptor instances
+     * @param target the intercepted instance
+     * @return the list of bound interceptor method invocations
+     */
+    List<InterceptorMethodInvocation> bind(InterceptionContext interceptionContext, Object target) {
+        if (invokers.length == 0) {
+            return Collections.emptyList();
+        }
+        ImmutableList.Builder<InterceptorMethodInvocation> builder = ImmutableList.builder();
+        for (int i = 0; i < invokers.length; i++) {
+            builder.add(new BoundInterceptorMethodInvocation(invokers[i], getInstance(i, interceptionContext, target)));
+        }
+        return builder.build();
+    }
+
+    private Object getInstance(int position, InterceptionContext interceptionContext, Object target) {
+        InterceptorClassMetadata<?> interceptor = interceptors[position];
+        return interceptor == null ? target : interceptionContext.getInterceptorInstance(interceptor);
+    }
+
+    @Override
+    public String toString() {
+        return "InterceptionChain [size=" + invokers.length + ", interceptorBindings=" + interceptorBindings + ", compiled="
+                + compiled + ']';
+    }
+
+    private static final class ProceedInvoker {
+
+        static ProceedInvoker of(Method proceed) {
+            try {
+                return new ProceedInvoker(proceed,
+                        InterceptionUtils.wrapTargetExceptions(MethodHandles.lookup().unreflect(proceed))
+                                .asSpreader(Object[].class, proceed.getParameterCount()).asType(PROCEED_TYPE));
+            } catch (IllegalAccessException e) {
+                InterceptorLogger.LOG.unableToCompileInterceptionChainMethod(proceed, e);
+                return new ProceedInvoker(proceed, null);
+            }
+        }
+
+        private final Method proceed;
+        // null if the method handle cannot be obtained
+        private final MethodHandle handle;
+
+        private ProceedInvoker(Method proceed, MethodHandle handle) {
+            this.proceed = proceed;
+            this.handle = handle;
+        }
+
+        Object invoke(Object target, Object[] parameters) throws Exception {
+            if (handle == null) {
+                return proceed.invoke(target, parameters);
+            }
+            try {
+                return (Object) handle.invokeExact(target, parameters);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                // Should never happen - any throwable thrown by the business method is wrapped
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+    }
+
+    private static class BoundInterceptorMethodInvocation implements InterceptorMethodInvocation {
+
+        private final InterceptorMethodInvoker invoker;
+        private final Object instance;
+
+        BoundInterceptorMethodInvocation(InterceptorMethodInvoker invoker, Object instance) {
+            this.invoker = invoker;
+            this.instance = instance;
+        }
+
+        @Override
+        public Object invoke(InvocationContext invocationContext) throws Exception {
+            return invoker.invoke(instance, invocationContext);
+        }
+
+        @Override
+        public boolean expectsInvocationContext() {
+            return invoker.expectsInvocationContext();
+        }
+
+        @Override
+        public String toString() {
+            return "BoundInterceptorMethodInvocation [invoker=" + invoker + ']';
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.weld.interceptor.spi.model.InterceptionModel;
+import org.jboss.weld.interceptor.spi.model.InterceptionType;
+
+/**
+ * Holds the {@link InterceptionChain}s of an intercepted component. Lifecycle callback chains are computed eagerly, method
+ * chains are computed upon the first invocation of the given method and shared by all the intercepted instances afterwards.
+ *
+ * @see org.jboss.weld.manager.BeanManagerImpl#getInterceptionChains(InterceptionModel)
+ */
+public class InterceptionChains {
+
+    private final InterceptionModel interceptionModel;
+
+    private final Map<InterceptionType, InterceptionChain> lifecycleChains;
+
+    private final ConcurrentMap<Method, InterceptionChain> methodChains;
+
+    private final boolean compiled;
+
+    public InterceptionChains(InterceptionModel interceptionModel) {
+        this(interceptionModel, false);
+    }
+
+    /**
+     *
+     * @param interceptionModel
+     * @param compiled if set to {@code true}, the chains are compiled
+     * @see InterceptionChain
+     */
+    public InterceptionChains(InterceptionModel interceptionModel, boolean compiled) {
+        this.interceptionModel = interceptionModel;
+        this.compiled = compiled;
+        Map<InterceptionType, InterceptionChain> lifecycleChains = new EnumMap<>(InterceptionType.class);
+        for (InterceptionType interceptionType : InterceptionType.values()) {
+            if (interceptionType.isLifecycleCallback() && interceptionType != InterceptionType.AROUND_CONSTRUCT) {
+                lifecycleChains.put(interceptionType,
+                        InterceptionChain.of(interceptionModel, null, interceptionType, compiled));
+            }
+        }
+        this.lifecycleChains = lifecycleChains;
+        this.methodChains = new ConcurrentHashMap<>();
+    }
+
+    /**
+     *
+     * @param method the intercepted method, {@code null} for lifecycle callbacks
+     * @param interceptionType
+     * @return the interception chain
+     */
+    public InterceptionChain get(Method method, InterceptionType interceptionType) {
+        if (method == null) {
+            return lifecycleChains.get(interceptionType);
+        }
+        InterceptionChain chain = methodChains.get(method);
+        if (chain == null) {
+            chain = methodChains.computeIfAbsent(method,
+                    m -> InterceptionChain.of(interceptionModel, m, interceptionType, compiled));
+        }
+        return chain;
+    }
+
+    public InterceptionModel getInterceptionModel() {
+        return interceptionModel;
+    }
+
+}
@@ -36,7 +36,6 @@ import java.util.Set;
 import jakarta.enterprise.context.spi.CreationalContext;
 
 import org.jboss.weld.annotated.slim.SlimAnnotatedType;
-import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
@@ -85,6 +84,7 @@ public class InterceptionContext implements Serializable {
     private static final long serialVersionUID = 7500722360133273633L;
 
     private final transient InterceptionModel interceptionModel;
+    private final transient InterceptionChains interceptionChains;
 
     private final Map<Serializable, Object> interceptorInstances;
     private final BeanManagerImpl manager;
@@ -95,6 +95,7 @@ public class InterceptionContext implements Serializable {
         this.interceptorInstances = interceptorInstances;
         this.manager = manager;
         this.interceptionModel = interceptionModel;
+        this.interceptionChains = manager.getInterceptionChains(interceptionModel);
         this.annotatedType = type;
     }
 
@@ -130,25 +131,14 @@ public class InterceptionContext implements Serializable {
         return new InterceptionContext(interceptorInstances, manager, interceptionModel, annotatedType);
     }
 
-    public List<InterceptorMethodInvocation> buildInterceptorMethodInvocations(Object instance, Method method,
-            InterceptionType interceptionType) {
-        List<? extends InterceptorClassMetadata<?>> interceptorList = interceptionModel.getInterceptors(interceptionType,
-                method);
-        List<InterceptorMethodInvocation> interceptorInvocations = new ArrayList<InterceptorMethodInvocation>(
-                interceptorList.size());
-        for (InterceptorClassMetadata<?> interceptorMetadata : interceptorList) {
-            interceptorInvocations.addAll(
-                    interceptorMetadata.getInterceptorInvocation(getInterceptorInstance(interceptorMetadata), interceptionType)
-                            .getInterceptorMethodInvocations());
-        }
-        TargetClassInterceptorMetadata targetClassInterceptorMetadata = getInterceptionModel()
-                .getTargetClassInterceptorMetadata();
-        if (targetClassInterceptorMetadata != null && targetClassInterceptorMetadata.isEligible(interceptionType)) {
-            interceptorInvocations
-                    .addAll(targetClassInterceptorMetadata.getInterceptorInvocation(instance, interceptionType)
-                            .getInterceptorMethodInvocations());
-        }
-        return ImmutableList.copyOf(interceptorInvocations);
+    /**
+     *
+     * @param method the intercepted method, {@code null} for lifecycle callbacks
+     * @param interceptionType
+     * @return the interception chain shared by all the instances of the intercepted component
+     */
+    public InterceptionChain getInterceptionChain(Method method, InterceptionType interceptionType) {
+        return interceptionChains.get(method, interceptionType);
     }
 
     public List<InterceptorMethodInvocation> buildInterceptorMethodInvocationsForConstructorInterception() {
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+import java.util.List;
+
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.weld.interceptor.spi.metadata.InterceptorMetadata;
+import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.util.collections.ImmutableList;
+
+/**
+ * An {@link InterceptorMethodInvoker} which delegates to the {@link InterceptorInvocation} obtained from
+ * {@link InterceptorMetadata#getInterceptorInvocation(Object, InterceptionType)} for the given interceptor instance upon
+ * each invocation. Used for {@link InterceptorMetadata} implementations which do not provide invokers themselves. This
+ * class is immutable.
+ *
+ * @see InterceptorMetadata#getInterceptorMethodInvokers(InterceptionType)
+ */
+public final class InterceptorInvocationMethodInvoker implements InterceptorMethodInvoker {
+
+    /**
+     * The interceptor methods are found out from an interceptor invocation which is not bound to an interceptor
+     * instance, i.e. {@link InterceptorMetadata#getInterceptorInvocation(Object, InterceptionType)} must accept a
+     * {@code null} interceptor instance.
+     *
+     * @param metadata the interceptor metadata
+     * @param interceptionType the interception type
+     * @return an invoker for each interceptor method of the given type
+     */
+    public static List<InterceptorMethodInvoker> of(InterceptorMetadata metadata, InterceptionType interceptionType) {
+        List<InterceptorMethodInvocation> invocations = metadata.getInterceptorInvocation(null, interceptionType)
+                .getInterceptorMethodInvocations();
+        ImmutableList.Builder<InterceptorMethodInvoker> builder = ImmutableList.builder();
+        for (int i = 0; i < invocations.size(); i++) {
+            builder.add(new InterceptorInvocationMethodInvoker(metadata, interceptionType, i,
+                    invocations.get(i).expectsInvocationContext()));
+        }
+        return builder.build();
+    }
+
+    private final InterceptorMetadata metadata;
+    private final InterceptionType interceptionType;
+    private final int position;
+    private final boolean expectsInvocationContext;
+
+    private InterceptorInvocationMethodInvoker(InterceptorMetadata metadata, InterceptionType interceptionType, int position,
+            boolean expectsInvocationContext) {
+        this.metadata = metadata;
+        this.interceptionType = interceptionType;
+        this.position = position;
+        this.expectsInvocationContext = expectsInvocationContext;
+    }
+
+    @Override
+    public Object invoke(Object interceptorInstance, InvocationContext invocationContext) throws Exception {
+        return metadata.getInterceptorInvocation(interceptorInstance, interceptionType).getInterceptorMethodInvocations()
+                .get(position).invoke(invocationContext);
+    }
+
+    @Override
+    public boolean expectsInvocationContext() {
+        return expectsInvocationContext;
+    }
+
+    @Override
+    public String toString() {
+        return "InterceptorInvocationMethodInvoker [metadata=" + metadata + ", interceptionType=" + interceptionType
+                + ", position=" + position + ']';
+    }
+
+}
@@ -2,15 +2,9 @@ package org.jboss.weld.interceptor.proxy;
 
 import static org.jboss.weld.interceptor.proxy.AroundInvokeInvocationContext.create;
 
-import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
@@ -29,11 +23,9 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     private static final long serialVersionUID = 1L;
 
     private final InterceptionContext ctx;
-    private final transient ConcurrentMap<Method, CachedInterceptionChain> cachedChains;
 
     public InterceptorMethodHandler(InterceptionContext ctx) {
         this.ctx = ctx;
-        this.cachedChains = new ConcurrentHashMap<Method, CachedInterceptionChain>();
     }
 
     @Override
@@ -60,8 +52,9 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
 
     protected Object executeInterception(Object instance, Method method, Method proceed, Object[] args,
             InterceptionType interceptionType, Stack stack) throws Throwable {
-        CachedInterceptionChain chain = getInterceptionChain(instance, method, interceptionType);
-        if (chain.interceptorMethods.isEmpty()) {
+        // The chain is shared by all the instances of the intercepted component
+        InterceptionChain chain = ctx.getInterceptionChain(method, interceptionType);
+        if (chain.isEmpty()) {
             // shortcut if there are no interceptors
             if (proceed == null) {
                 return null;
@@ -77,56 +70,23 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     }
 
     protected Object executeLifecycleInterception(Object instance, Method method, Method proceed, Object[] args,
-            CachedInterceptionChain chain, Stack stack) throws Throwable {
-        return new WeldInvocationContextImpl(instance, method, proceed, args, chain.interceptorMethods,
-                chain.interceptorBindings, stack).proceed();
+            InterceptionChain chain, Stack stack) throws Throwable {
+        return new WeldInvocationContextImpl(instance, method, proceed, args, chain.bind(ctx, instance),
+                chain.getInterceptorBindings(), stack).proceed();
     }
 
     protected Object executeAroundInvoke(Object instance, Method method, Method proceed, Object[] args,
-            CachedInterceptionChain chain, Stack stack) throws Throwable {
-        org.jboss.weld.interceptor.WeldInvocationContext ctx = create(instance, method, proceed, args, chain.interceptorMethods,
-                chain.interceptorBindings, stack);
+            InterceptionChain chain, Stack stack) throws Throwable {
+        org.jboss.weld.interceptor.WeldInvocationContext invocationContext = create(instance, method, proceed, args, chain,
+                ctx, stack);
         try {
-            return chain.interceptorMethods.get(0).invoke(ctx);
+            return chain.invoke(0, ctx, instance, invocationContext);
         } catch (InvocationTargetException e) {
             throw e.getCause();
         }
     }
 
-    private CachedInterceptionChain getInterceptionChain(Object instance, Method method, InterceptionType interceptionType) {
-        if (method != null) {
-            CachedInterceptionChain cachedChain = cachedChains.get(method);
-            if (cachedChain == null) {
-                cachedChain = new CachedInterceptionChain(
-                        ctx.buildInterceptorMethodInvocations(instance, method, interceptionType), ctx.getInterceptionModel()
-                                .getMemberInterceptorBindings(method));
-                CachedInterceptionChain old = cachedChains.putIfAbsent(method, cachedChain);
-                if (old != null) {
-                    cachedChain = old;
-                }
-            }
-            return cachedChain;
-        }
-        return new CachedInterceptionChain(ctx.buildInterceptorMethodInvocations(instance, null, interceptionType),
-                ctx.getInterceptionModel().getClassInterceptorBindings());
-    }
-
     private boolean isInterceptorMethod(Method method) {
         return ctx.getInterceptionModel().getTargetClassInterceptorMetadata().isInterceptorMethod(method);
     }
-
-    private Object readResolve() throws ObjectStreamException {
-        return new InterceptorMethodHandler(ctx);
-    }
-
-    private static class CachedInterceptionChain {
-
-        private final List<InterceptorMethodInvocation> interceptorMethods;
-        private final Set<Annotation> interceptorBindings;
-
-        public CachedInterceptionChain(List<InterceptorMethodInvocation> chain, Set<Annotation> interceptorBindings) {
-            this.interceptorMethods = chain;
-            this.interceptorBindings = interceptorBindings;
-        }
-    }
 }
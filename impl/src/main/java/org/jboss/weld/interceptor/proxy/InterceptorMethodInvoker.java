@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Invokes an interceptor method. Unlike {@link InterceptorMethodInvocation}, an invoker is not bound to a particular
+ * interceptor instance - the instance is passed in upon each invocation. Therefore, an invoker may be shared by all the
+ * intercepted instances of a component.
+ *
+ * @see InterceptionChain
+ */
+public interface InterceptorMethodInvoker {
+
+    /**
+     *
+     * @param interceptorInstance the interceptor instance, or the target instance in case of a target class interceptor method
+     * @param invocationContext the invocation context, or {@code null} if {@link #expectsInvocationContext()} returns false
+     * @return the result of the interceptor method invocation
+     * @throws Exception
+     */
+    Object invoke(Object interceptorInstance, InvocationContext invocationContext) throws Exception;
+
+    boolean expectsInvocationContext();
+
+    /**
+     * An invoker may be compiled when an {@link InterceptionChain} is built so that subsequent invocations do not use
+     * reflection. A compiled invoker must behave exactly like the original one, i.e. an exception thrown by the interceptor
+     * method is wrapped in an {@link java.lang.reflect.InvocationTargetException}.
+     *
+     * @return the compiled invoker, or this invoker if it cannot be compiled
+     */
+    default InterceptorMethodInvoker compile() {
+        return this;
+    }
+
+}
@@ -23,8 +23,10 @@ import java.util.List;
 import java.util.Map;
 
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodInvoker;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.util.collections.ImmutableList;
 
 /**
  * @author <a href="mailto:mariusb@redhat.com">Marius Bogoevici</a>
@@ -63,5 +65,19 @@ public abstract class AbstractInterceptorMetadata implements InterceptorMetadata
                 isTargetClassInterceptor());
     }
 
+    @Override
+    public List<InterceptorMethodInvoker> getInterceptorMethodInvokers(InterceptionType interceptionType) {
+        List<Method> methods = getInterceptorMethods(interceptionType);
+        if (methods.isEmpty()) {
+            return Collections.emptyList();
+        }
+        boolean expectsInvocationContext = !isTargetClassInterceptor() || !interceptionType.isLifecycleCallback();
+        ImmutableList.Builder<InterceptorMethodInvoker> builder = ImmutableList.builder();
+        for (Method method : methods) {
+            builder.add(new SimpleInterceptorMethodInvoker(method, expectsInvocationContext));
+        }
+        return builder.build();
+    }
+
     protected abstract boolean isTargetClassInterceptor();
 }
@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.reader;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.weld.interceptor.proxy.InterceptorMethodInvoker;
+import org.jboss.weld.interceptor.util.InterceptionUtils;
+import org.jboss.weld.logging.InterceptorLogger;
+
+/**
+ * {@link InterceptorMethodInvoker} which invokes the interceptor method through a {@link MethodHandle} bound when the
+ * interception chain is built. An exception thrown by the interceptor method is wrapped in an
+ * {@link InvocationTargetException} so that the invoker is interchangeable with {@link SimpleInterceptorMethodInvoker}. Any
+ * other exception, e.g. a {@link ClassCastException} if the interceptor instance is not of the expected type, is thrown as is.
+ * This class is immutable.
+ *
+ * @see SimpleInterceptorMethodInvoker#compile()
+ */
+final class MethodHandleInterceptorMethodInvoker implements InterceptorMethodInvoker {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, InvocationContext.class);
+
+    /**
+     *
+     * @param method
+     * @param expectsInvocationContext
+     * @param fallback
+     * @return the compiled invoker, or the fallback if a method handle cannot be obtained for the given method
+     */
+    static InterceptorMethodInvoker of(Method method, boolean expectsInvocationContext, InterceptorMethodInvoker fallback) {
+        MethodHandle handle;
+        try {
+            // Only the exceptions thrown by the interceptor method itself are wrapped, not the ones thrown by the adaptations
+            handle = InterceptionUtils.wrapTargetExceptions(MethodHandles.lookup().unreflect(method));
+        } catch (IllegalAccessException e) {
+            InterceptorLogger.LOG.unableToCompileInterceptionChainMethod(method, e);
+            return fallback;
+        }
+        if (method.getParameterCount() == 0) {
+            // Lifecycle callback of a target class - the invocation context is ignored
+            handle = MethodHandles.dropArguments(handle, 1, InvocationContext.class);
+        }
+        return new MethodHandleInterceptorMethodInvoker(method, handle.asType(INVOKER_TYPE), expectsInvocationContext);
+    }
+
+    private final Method method;
+    private final MethodHandle handle;
+    private final boolean expectsInvocationContext;
+
+    private MethodHandleInterceptorMethodInvoker(Method method, MethodHandle handle, boolean expectsInvocationContext) {
+        this.method = method;
+        this.handle = handle;
+        this.expectsInvocationContext = expectsInvocationContext;
+    }
+
+    @Override
+    public Object invoke(Object interceptorInstance, InvocationContext invocationContext) throws Exception {
+        try {
+            return (Object) handle.invokeExact(interceptorInstance, invocationContext);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // Should never happen - any throwable thrown by the interceptor method is wrapped
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    @Override
+    public boolean expectsInvocationContext() {
+        return expectsInvocationContext;
+    }
+
+    @Override
+    public String toString() {
+        return "MethodHandleInterceptorMethodInvoker [method=" + method + ']';
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.reader;
+
+import java.lang.reflect.Method;
+
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.weld.interceptor.proxy.InterceptorMethodInvoker;
+
+/**
+ * Reflective {@link InterceptorMethodInvoker}. This class is immutable.
+ *
+ * @see SimpleInterceptorInvocation
+ */
+class SimpleInterceptorMethodInvoker implements InterceptorMethodInvoker {
+
+    private final Method method;
+    private final boolean expectsInvocationContext;
+
+    SimpleInterceptorMethodInvoker(Method method, boolean expectsInvocationContext) {
+        this.method = method;
+        this.expectsInvocationContext = expectsInvocationContext;
+    }
+
+    @Override
+    public Object invoke(Object interceptorInstance, InvocationContext invocationContext) throws Exception {
+        if (invocationContext != null) {
+            return method.invoke(interceptorInstance, invocationContext);
+        } else {
+            return method.invoke(interceptorInstance);
+        }
+    }
+
+    @Override
+    public boolean expectsInvocationContext() {
+        return expectsInvocationContext;
+    }
+
+    @Override
+    public InterceptorMethodInvoker compile() {
+        return MethodHandleInterceptorMethodInvoker.of(method, expectsInvocationContext, this);
+    }
+
+    @Override
+    public String toString() {
+        return "SimpleInterceptorMethodInvoker [method=" + method + ']';
+    }
+}
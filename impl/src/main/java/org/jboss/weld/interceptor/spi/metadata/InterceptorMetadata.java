@@ -16,7 +16,12 @@
  */
 package org.jboss.weld.interceptor.spi.metadata;
 
+import java.util.List;
+
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
+import org.jboss.weld.interceptor.proxy.InterceptorInvocationMethodInvoker;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodInvocation;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodInvoker;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 
 /**
@@ -39,11 +44,38 @@ public interface InterceptorMetadata {
     /**
      * Creates a {@link InterceptorInvocation} object representing invocation of interceptor methods of a given type on a given
      * interceptor instance.
+     * <p>
+     * Unless {@link #getInterceptorMethodInvokers(InterceptionType)} is overridden, this method is also invoked with a
+     * {@code null} interceptor instance when an interception chain is built. The returned invocation is then only used to
+     * find out the interceptor methods, i.e. {@link InterceptorMethodInvocation#expectsInvocationContext()} is called but
+     * {@link InterceptorMethodInvocation#invoke(jakarta.interceptor.InvocationContext)} is not. The interceptor methods must
+     * be the same, in the same order, as for any interceptor instance.
+     * </p>
      *
-     * @param interceptorInstance the given instance of the interceptor
+     * @param interceptorInstance the given instance of the interceptor, may be {@code null}
      * @param interceptionType the given interception type
      * @return
      */
     InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType);
 
+    /**
+     * Returns {@link InterceptorMethodInvoker}s representing interceptor methods of a given type. Unlike
+     * {@link #getInterceptorInvocation(Object, InterceptionType)}, the invokers are not bound to an interceptor instance
+     * and may be shared.
+     * <p>
+     * This method is invoked once per interception chain, the chain is then shared by all the intercepted instances. The
+     * default implementation finds out the interceptor methods from
+     * {@link #getInterceptorInvocation(Object, InterceptionType)} called with a {@code null} interceptor instance. The
+     * returned invokers delegate to the {@link InterceptorInvocation} obtained for the interceptor instance, which is
+     * created again upon each invocation of an interceptor method. Implementations should override this method to avoid
+     * that. Weld's own implementations do.
+     * </p>
+     *
+     * @param interceptionType the given interception type
+     * @return the invokers, in the order in which they should be invoked
+     */
+    default List<InterceptorMethodInvoker> getInterceptorMethodInvokers(InterceptionType interceptionType) {
+        return InterceptorInvocationMethodInvoker.of(this, interceptionType);
+    }
+
 }
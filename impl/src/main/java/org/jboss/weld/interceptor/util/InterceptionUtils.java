@@ -17,6 +17,11 @@
 
 package org.jboss.weld.interceptor.util;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.concurrent.Callable;
 
 import org.jboss.weld.Container;
@@ -35,6 +40,18 @@ public class InterceptionUtils {
 
     public static final String PRE_DESTROY = "lifecycle_mixin_$$_preDestroy";
 
+    private static final MethodHandle THROW_INVOCATION_TARGET_EXCEPTION;
+
+    static {
+        try {
+            THROW_INVOCATION_TARGET_EXCEPTION = MethodHandles.lookup().findStatic(InterceptionUtils.class,
+                    "throwInvocationTargetException", MethodType.methodType(Object.class, Throwable.class));
+        } catch (ReflectiveOperationException e) {
+            // should never happen
+            throw new IllegalStateException(e);
+        }
+    }
+
     private InterceptionUtils() {
     }
 
@@ -74,6 +91,27 @@ public class InterceptionUtils {
         executePredestroy(proxy, null);
     }
 
+    /**
+     * Wraps any exception thrown by the given method handle in an {@link InvocationTargetException}, the same way
+     * {@link Method#invoke(Object, Object...)} does. The returned method handle should be adapted afterwards so that the
+     * exceptions thrown by the adaptations, e.g. a {@link ClassCastException} if a receiver of a wrong type is passed, are
+     * not wrapped.
+     *
+     * @param target the method handle of the invoked method
+     * @return the method handle which wraps the exceptions thrown by the target
+     */
+    public static MethodHandle wrapTargetExceptions(MethodHandle target) {
+        MethodType type = target.type();
+        MethodHandle handler = THROW_INVOCATION_TARGET_EXCEPTION
+                .asType(MethodType.methodType(type.returnType(), Throwable.class));
+        return MethodHandles.catchException(target, Throwable.class,
+                MethodHandles.dropArguments(handler, 1, type.parameterList()));
+    }
+
+    private static Object throwInvocationTargetException(Throwable cause) throws InvocationTargetException {
+        throw new InvocationTargetException(cause);
+    }
+
     static boolean isAnnotationClassExpected(InterceptionType interceptionType) {
         if (InterceptionType.POST_ACTIVATE.equals(interceptionType)
                 || InterceptionType.PRE_PASSIVATE.equals(interceptionType)) {
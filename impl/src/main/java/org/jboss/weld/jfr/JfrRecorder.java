@@ -0,0 +1,185 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.jfr;
+
+import jakarta.enterprise.context.spi.Context;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.jfr.RuntimeEvents.AsyncObserverNotificationEvent;
+import org.jboss.weld.jfr.RuntimeEvents.BeanCreationEvent;
+import org.jboss.weld.jfr.RuntimeEvents.ContextActivationEvent;
+import org.jboss.weld.jfr.RuntimeEvents.ConversationLockWaitEvent;
+import org.jboss.weld.jfr.RuntimeEvents.EventNotificationEvent;
+import org.jboss.weld.jfr.RuntimeEvents.ResolutionCacheMissEvent;
+import org.jboss.weld.logging.BootstrapLogger;
+
+/**
+ * Emits Java Flight Recorder events for runtime container operations. The recorder is only registered if enabled through
+ * {@link ConfigurationKey#JFR_EVENTS}, components look it up once and skip the instrumentation altogether if it is not
+ * available. Once registered, the cost of an event which is not enabled in the running recording is negligible.
+ *
+ * <p>
+ * The <code>begin</code> methods return an opaque event object which must be passed to the corresponding <code>commit</code>
+ * method so that the callers never refer to the <code>jdk.jfr</code> types.
+ * </p>
+ *
+ * @see ConfigurationKey#JFR_EVENTS
+ */
+public final class JfrRecorder implements Service {
+
+    private static final String AVAILABILITY_CHECK_CLASS = "jdk.jfr.Event";
+
+    private final String contextId;
+
+    JfrRecorder(String contextId) {
+        this.contextId = contextId;
+    }
+
+    /**
+     *
+     * @param configuration
+     * @param contextId
+     * @return a new recorder or <code>null</code> if the events are not enabled or JFR is not available
+     */
+    public static JfrRecorder create(WeldConfiguration configuration, String contextId) {
+        if (!configuration.getBooleanProperty(ConfigurationKey.JFR_EVENTS)) {
+            return null;
+        }
+        try {
+            Class.forName(AVAILABILITY_CHECK_CLASS, false, JfrRecorder.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            BootstrapLogger.LOG.jfrEventsNotAvailable();
+            return null;
+        }
+        return new JfrRecorder(contextId);
+    }
+
+    public void contextActivation(Context context, boolean active) {
+        ContextActivationEvent event = new ContextActivationEvent();
+        if (event.shouldCommit()) {
+            event.contextId = contextId;
+            event.scope = context.getScope().getName();
+            event.active = active;
+            event.commit();
+        }
+    }
+
+    public Object beginBeanCreation() {
+        BeanCreationEvent event = new BeanCreationEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commitBeanCreation(Object event, Context context, Contextual<?> contextual) {
+        BeanCreationEvent creationEvent = (BeanCreationEvent) event;
+        creationEvent.end();
+        if (creationEvent.shouldCommit()) {
+            creationEvent.contextId = contextId;
+            creationEvent.scope = context.getScope().getName();
+            creationEvent.bean = contextual instanceof CommonBean<?> ? ((CommonBean<?>) contextual).getIdentifier().asString()
+                    : contextual.toString();
+            creationEvent.commit();
+        }
+    }
+
+    public Object beginEventNotification() {
+        EventNotificationEvent event = new EventNotificationEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commitEventNotification(Object event, Object eventObject, int observers, boolean async) {
+        EventNotificationEvent notificationEvent = (EventNotificationEvent) event;
+        notificationEvent.end();
+        if (notificationEvent.shouldCommit()) {
+            notificationEvent.contextId = contextId;
+            notificationEvent.eventType = eventObject.getClass().getName();
+            notificationEvent.observers = observers;
+            notificationEvent.async = async;
+            notificationEvent.commit();
+        }
+    }
+
+    /**
+     *
+     * @param firedNanos the value of {@link System#nanoTime()} when the event was fired
+     * @return the event
+     */
+    public Object beginAsyncObserverNotification(long firedNanos) {
+        long latency = System.nanoTime() - firedNanos;
+        AsyncObserverNotificationEvent event = new AsyncObserverNotificationEvent();
+        event.latency = latency;
+        event.begin();
+        return event;
+    }
+
+    public void commitAsyncObserverNotification(Object event, Object eventObject, ObserverMethod<?> observer) {
+        AsyncObserverNotificationEvent notificationEvent = (AsyncObserverNotificationEvent) event;
+        notificationEvent.end();
+        if (notificationEvent.shouldCommit()) {
+            notificationEvent.contextId = contextId;
+            notificationEvent.eventType = eventObject.getClass().getName();
+            notificationEvent.observer = observer.toString();
+            notificationEvent.commit();
+        }
+    }
+
+    public Object beginConversationLockWait() {
+        ConversationLockWaitEvent event = new ConversationLockWaitEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commitConversationLockWait(Object event, String conversationId, long timeout, boolean acquired) {
+        ConversationLockWaitEvent lockEvent = (ConversationLockWaitEvent) event;
+        lockEvent.end();
+        if (lockEvent.shouldCommit()) {
+            lockEvent.contextId = contextId;
+            lockEvent.conversationId = conversationId;
+            lockEvent.timeout = timeout;
+            lockEvent.acquired = acquired;
+            lockEvent.commit();
+        }
+    }
+
+    public Object beginResolution() {
+        ResolutionCacheMissEvent event = new ResolutionCacheMissEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commitResolutionCacheMiss(Object event, Object resolver, Object resolvable) {
+        ResolutionCacheMissEvent missEvent = (ResolutionCacheMissEvent) event;
+        missEvent.end();
+        if (missEvent.shouldCommit()) {
+            missEvent.contextId = contextId;
+            missEvent.resolver = resolver.getClass().getSimpleName();
+            missEvent.resolvable = resolvable.toString();
+            missEvent.commit();
+        }
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+}
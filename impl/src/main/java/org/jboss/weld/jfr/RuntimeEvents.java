@@ -0,0 +1,154 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder events emitted by {@link JfrRecorder}. This class must only be loaded if the <code>jdk.jfr</code> module
+ * is available.
+ */
+final class RuntimeEvents {
+
+    private static final String CATEGORY = "Weld";
+
+    private RuntimeEvents() {
+    }
+
+    @Name("org.jboss.weld.ContextActivation")
+    @Label("Context Activation")
+    @Category({ CATEGORY, "Contexts" })
+    @Description("A context was activated or deactivated on the current thread")
+    @StackTrace(false)
+    static final class ContextActivationEvent extends Event {
+
+        @Label("Context Id")
+        String contextId;
+
+        @Label("Scope")
+        String scope;
+
+        @Label("Active")
+        boolean active;
+
+    }
+
+    @Name("org.jboss.weld.BeanCreation")
+    @Label("Bean Instance Creation")
+    @Category({ CATEGORY, "Contexts" })
+    @Description("A new contextual instance was created by a context")
+    static final class BeanCreationEvent extends Event {
+
+        @Label("Context Id")
+        String contextId;
+
+        @Label("Scope")
+        String scope;
+
+        @Label("Bean")
+        String bean;
+
+    }
+
+    @Name("org.jboss.weld.EventNotification")
+    @Label("Event Notification")
+    @Category({ CATEGORY, "Events" })
+    @Description("An event was fired; for asynchronous events the duration only covers scheduling")
+    static final class EventNotificationEvent extends Event {
+
+        @Label("Context Id")
+        String contextId;
+
+        @Label("Event Type")
+        String eventType;
+
+        @Label("Observers")
+        int observers;
+
+        @Label("Asynchronous")
+        boolean async;
+
+    }
+
+    @Name("org.jboss.weld.AsyncObserverNotification")
+    @Label("Asynchronous Observer Notification")
+    @Category({ CATEGORY, "Events" })
+    @Description("An asynchronous observer method was notified")
+    @StackTrace(false)
+    static final class AsyncObserverNotificationEvent extends Event {
+
+        @Label("Context Id")
+        String contextId;
+
+        @Label("Event Type")
+        String eventType;
+
+        @Label("Observer")
+        String observer;
+
+        @Label("Latency")
+        @Description("The time elapsed between firing the event and the start of the notification")
+        @Timespan(Timespan.NANOSECONDS)
+        long latency;
+
+    }
+
+    @Name("org.jboss.weld.ConversationLockWait")
+    @Label("Conversation Lock Wait")
+    @Category({ CATEGORY, "Contexts" })
+    @Description("Waiting for the concurrent access lock of a conversation")
+    static final class ConversationLockWaitEvent extends Event {
+
+        @Label("Context Id")
+        String contextId;
+
+        @Label("Conversation Id")
+        String conversationId;
+
+        @Label("Timeout")
+        @Timespan(Timespan.MILLISECONDS)
+        long timeout;
+
+        @Label("Acquired")
+        boolean acquired;
+
+    }
+
+    @Name("org.jboss.weld.ResolutionCacheMiss")
+    @Label("Resolution Cache Miss")
+    @Category({ CATEGORY, "Resolution" })
+    @Description("A typesafe resolution result was not cached and had to be computed")
+    static final class ResolutionCacheMissEvent extends Event {
+
+        @Label("Context Id")
+        String contextId;
+
+        @Label("Resolver")
+        String resolver;
+
+        @Label("Resolvable")
+        String resolvable;
+
+    }
+
+}
@@ -348,4 +348,30 @@ public interface BootstrapLogger extends WeldLogger {
     @Message(id = 184, value = "BeforeBeanDiscovery.addInvokable() called by {0} for {1}", format = Format.MESSAGE_FORMAT)
     void addInvokableCalled(Object extensionName, Object type);
 
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 185, value = "org.jboss.weld.executor.threadPoolType=VIRTUAL detected but virtual threads cannot be used: {1}, switching to {0} thread pool", format = Format.MESSAGE_FORMAT)
+    void virtualThreadPoolNotAvailable(Object threadPoolType, Object reason);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 186, value = "Bootstrap profile of {0} written to {1}", format = Format.MESSAGE_FORMAT)
+    void bootstrapProfileWritten(Object contextId, Object file);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 187, value = "Unable to write bootstrap profile to {0}", format = Format.MESSAGE_FORMAT)
+    void unableToWriteBootstrapProfile(Object file, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 188, value = "Java Flight Recorder is not available - bootstrap profile JFR events will not be recorded")
+    void bootstrapProfileJfrNotAvailable();
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 189, value = "org.jboss.weld.jfr.events=true detected but Java Flight Recorder is not available - no events will be emitted")
+    void jfrEventsNotAvailable();
+
+    @Message(id = 190, value = "Virtual threads are not supported by Java {0}", format = Format.MESSAGE_FORMAT)
+    IllegalStateException virtualThreadsNotSupported(Object javaVersion);
+
+    @Message(id = 191, value = "Unable to create a virtual thread per task executor", format = Format.MESSAGE_FORMAT)
+    IllegalStateException unableToCreateVirtualThreadExecutor(@Cause Throwable cause);
+
 }
@@ -134,4 +134,16 @@ public interface ConversationLogger extends WeldLogger {
     @Message(id = 343, value = "Unable to load the current conversation from the associated request - {0}: {1}, request: {2}", format = Format.MESSAGE_FORMAT)
     IllegalStateException unableToLoadCurrentConversation(String attributeName, Object attributeValue, Object request);
 
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 344, value = "Expired conversation with id {0} ended and destroyed by the conversation reaper", format = Format.MESSAGE_FORMAT)
+    void expiredConversationDestroyed(String cid);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 345, value = "Unable to destroy expired conversation with id {0}: {1}", format = Format.MESSAGE_FORMAT)
+    void unableToDestroyExpiredConversation(String cid, Object cause);
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 346, value = "Conversation reaper is not available - no timer executor found. Expired conversations are only ended when another conversation of the same session is accessed.", format = Format.MESSAGE_FORMAT)
+    void conversationReaperNotAvailable();
+
 }
@@ -82,4 +82,8 @@ public interface InterceptorLogger extends WeldLogger {
     @Message(id = 1711, value = "InterceptionFactory is not supported on interfaces. Check InterceptionFactory<{0}>", format = Format.MESSAGE_FORMAT)
     IllegalStateException interceptionFactoryNotOnInstance(Object param1);
 
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 1712, value = "Unable to compile {0} to a method handle, reflection is used instead: {1}", format = Format.MESSAGE_FORMAT)
+    void unableToCompileInterceptionChainMethod(Object method, Object cause);
+
 }
\ No newline at end of file
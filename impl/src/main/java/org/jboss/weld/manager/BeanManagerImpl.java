@@ -114,6 +114,7 @@ import org.jboss.weld.bootstrap.spi.CDI11Deployment;
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.ConfigurationKey.UnusedBeans;
 import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.contexts.ActiveContextRegistry;
 import org.jboss.weld.contexts.CreationalContextImpl;
 import org.jboss.weld.contexts.PassivatingContextWrapper;
 import org.jboss.weld.contexts.WeldCreationalContext;
@@ -140,9 +141,11 @@ import org.jboss.weld.injection.attributes.InferringFieldInjectionPointAttribute
 import org.jboss.weld.injection.attributes.InferringParameterInjectionPointAttributes;
 import org.jboss.weld.injection.attributes.ParameterInjectionPointAttributes;
 import org.jboss.weld.injection.producer.WeldInjectionTargetBuilderImpl;
+import org.jboss.weld.interceptor.proxy.InterceptionChains;
 import org.jboss.weld.interceptor.reader.InterceptorMetadataReader;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
 import org.jboss.weld.invokable.AbstractInvokerBuilder;
+import org.jboss.weld.jfr.JfrRecorder;
 import org.jboss.weld.logging.BeanManagerLogger;
 import org.jboss.weld.logging.BootstrapLogger;
 import org.jboss.weld.manager.api.WeldInjectionTargetBuilder;
@@ -182,6 +185,8 @@ import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.Observers;
 import org.jboss.weld.util.Preconditions;
 import org.jboss.weld.util.Types;
+import org.jboss.weld.util.cache.CacheStatistics;
+import org.jboss.weld.util.collections.ImmutableMap;
 import org.jboss.weld.util.collections.ImmutableSet;
 import org.jboss.weld.util.collections.SetMultimap;
 import org.jboss.weld.util.collections.WeldCollections;
@@ -216,6 +221,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
 
     // Contexts are shared across the application
     private final transient Map<Class<? extends Annotation>, List<Context>> contexts;
+    private final transient ActiveContextRegistry activeContextRegistry;
 
     // Client proxies can be used application wide
     private final transient ClientProxyProvider clientProxyProvider;
@@ -296,6 +302,10 @@ public class BeanManagerImpl implements WeldManager, Serializable {
      * Interception model
      */
     private final transient ConcurrentMap<SlimAnnotatedType<?>, InterceptionModel> interceptorModelRegistry = new ConcurrentHashMap<SlimAnnotatedType<?>, InterceptionModel>();
+    /**
+     * Interception chains shared by all the intercepted instances
+     */
+    private final transient ConcurrentMap<InterceptionModel, InterceptionChains> interceptionChains = new ConcurrentHashMap<InterceptionModel, InterceptionChains>();
     private final transient InterceptorMetadataReader interceptorMetadataReader = new InterceptorMetadataReader(this);
 
     private final transient ContainerLifecycleEvents containerLifecycleEvents;
@@ -306,6 +316,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
      */
     private final transient CurrentInjectionPoint currentInjectionPoint;
     private final transient boolean clientProxyOptimization;
+    private final transient boolean compiledInterceptionChains;
 
     private final transient List<BiConsumer<Exception, Environment>> validationFailureCallbacks;
 
@@ -384,7 +395,8 @@ public class BeanManagerImpl implements WeldManager, Serializable {
 
         TypeSafeObserverResolver accessibleObserverResolver = new TypeSafeObserverResolver(
                 getServices().get(MetaAnnotationStore.class),
-                createDynamicAccessibleIterable(BeanManagerImpl::getObservers), getServices().get(WeldConfiguration.class));
+                createDynamicAccessibleIterable(BeanManagerImpl::getObservers), getServices().get(WeldConfiguration.class),
+                getServices().get(JfrRecorder.class));
         this.accessibleLenientObserverNotifier = getServices().get(ObserverNotifierFactory.class).create(contextId,
                 accessibleObserverResolver, getServices(),
                 false);
@@ -395,8 +407,11 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         this.containerLifecycleEvents = serviceRegistry.get(ContainerLifecycleEvents.class);
         this.registry = getServices().get(SpecializationAndEnablementRegistry.class);
         this.currentInjectionPoint = getServices().get(CurrentInjectionPoint.class);
+        this.activeContextRegistry = getServices().get(ActiveContextRegistry.class);
         this.clientProxyOptimization = getServices().get(WeldConfiguration.class)
                 .getBooleanProperty(ConfigurationKey.INJECTABLE_REFERENCE_OPTIMIZATION);
+        this.compiledInterceptionChains = getServices().get(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.COMPILED_INTERCEPTION_CHAINS);
         this.requestInitializedEvent = LazyValueHolder
                 .forSupplier(() -> FastEvent.of(Object.class, this, Initialized.Literal.REQUEST));
         this.requestBeforeDestroyedEvent = LazyValueHolder
@@ -635,6 +650,9 @@ public class BeanManagerImpl implements WeldManager, Serializable {
             contexts.put(scope, contextList);
         }
         contextList.add(context);
+        if (activeContextRegistry != null) {
+            activeContextRegistry.addContext(context);
+        }
     }
 
     /**
@@ -694,6 +712,13 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         if (ctx == null) {
             return null;
         }
+        if (ctx.size() > 1 && activeContextRegistry != null) {
+            // Ambiguity of a tracked scope is detected on activation
+            ActiveContextRegistry.ScopeSlot slot = activeContextRegistry.getSlot(scopeType);
+            if (slot != null) {
+                return slot.get();
+            }
+        }
         for (Context context : ctx) {
             if (context.isActive()) {
                 if (activeContext == null) {
@@ -951,6 +976,23 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         return nameBasedResolver;
     }
 
+    /**
+     * The statistics of the resolution caches of this bean manager, i.e. bean, disambiguation, observer, decorator, interceptor
+     * and name-based resolution. For internal use.
+     *
+     * @return an immutable map of statistics keyed by the resolver name
+     */
+    public Map<String, CacheStatistics> getResolutionCacheStatistics() {
+        return ImmutableMap.<String, CacheStatistics> builder()
+                .put("bean", beanResolver.getCacheStatistics())
+                .put("disambiguation", beanResolver.getDisambiguationCacheStatistics())
+                .put("observer", globalLenientObserverNotifier.getResolutionCacheStatistics())
+                .put("decorator", decoratorResolver.getCacheStatistics())
+                .put("interceptor", interceptorResolver.getCacheStatistics())
+                .put("name", nameBasedResolver.getCacheStatistics())
+                .build();
+    }
+
     /**
      * Get the lenient observer notifier for accessible observer methods. Should never be exposed to an application.
      *
@@ -1232,6 +1274,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         this.enterpriseBeans.clear();
         this.interceptorResolver.clear();
         this.interceptors.clear();
+        this.interceptionChains.clear();
         this.nameBasedResolver.clear();
         this.namespaces.clear();
         this.accessibleLenientObserverNotifier.clear();
@@ -1281,6 +1324,15 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         return interceptorModelRegistry;
     }
 
+    public InterceptionChains getInterceptionChains(InterceptionModel interceptionModel) {
+        InterceptionChains chains = interceptionChains.get(interceptionModel);
+        if (chains == null) {
+            chains = interceptionChains.computeIfAbsent(interceptionModel,
+                    model -> new InterceptionChains(model, compiledInterceptionChains));
+        }
+        return chains;
+    }
+
     public InterceptorMetadataReader getInterceptorMetadataReader() {
         return interceptorMetadataReader;
     }
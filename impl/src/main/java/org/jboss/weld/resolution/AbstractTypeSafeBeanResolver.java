@@ -38,14 +38,17 @@ import jakarta.enterprise.inject.spi.InterceptionFactory;
 import jakarta.inject.Provider;
 
 import org.jboss.weld.bean.AbstractProducerBean;
+import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.events.WeldEvent;
 import org.jboss.weld.inject.WeldInstance;
+import org.jboss.weld.jfr.JfrRecorder;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.util.Beans;
 import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.Primitives;
+import org.jboss.weld.util.cache.CacheStatistics;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.ImmutableSet;
@@ -140,9 +143,13 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     }
 
     public AbstractTypeSafeBeanResolver(BeanManagerImpl beanManager, final Iterable<T> beans) {
-        super(beans, beanManager.getServices().get(WeldConfiguration.class));
+        super(beans, beanManager.getServices().get(WeldConfiguration.class),
+                beanManager.getServices().get(JfrRecorder.class));
         this.beanManager = beanManager;
-        this.disambiguatedBeans = ComputingCacheBuilder.newBuilder().build(new BeanDisambiguation());
+        this.disambiguatedBeans = ComputingCacheBuilder.newBuilder()
+                .setMaxSize(beanManager.getServices().get(WeldConfiguration.class)
+                        .getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE))
+                .recordStatistics().build(new BeanDisambiguation());
         this.store = beanManager.getServices().get(MetaAnnotationStore.class);
         // beansByType stores a map of a type to all beans that are assignable to
         // that type. This means that it most cases we do not need to loop through
@@ -285,6 +292,14 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         this.beansByType.clear();
     }
 
+    /**
+     *
+     * @return the statistics of the disambiguation cache
+     */
+    public CacheStatistics getDisambiguationCacheStatistics() {
+        return disambiguatedBeans.getStatistics();
+    }
+
     MetaAnnotationStore getStore() {
         return store;
     }
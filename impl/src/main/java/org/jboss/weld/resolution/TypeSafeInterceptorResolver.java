@@ -25,6 +25,7 @@ import java.util.Set;
 import jakarta.enterprise.inject.spi.Interceptor;
 
 import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.jfr.JfrRecorder;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.Beans;
 
@@ -37,7 +38,7 @@ public class TypeSafeInterceptorResolver
     private final BeanManagerImpl manager;
 
     public TypeSafeInterceptorResolver(BeanManagerImpl manager, Iterable<Interceptor<?>> interceptors) {
-        super(interceptors, manager.getServices().get(WeldConfiguration.class));
+        super(interceptors, manager.getServices().get(WeldConfiguration.class), manager.getServices().get(JfrRecorder.class));
         this.manager = manager;
     }
 
@@ -32,6 +32,7 @@ import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeEventResolvable;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.event.ContainerLifecycleEventObserverMethod;
 import org.jboss.weld.event.ResolvedObservers;
+import org.jboss.weld.jfr.JfrRecorder;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.util.Beans;
 import org.jboss.weld.util.Observers;
@@ -62,7 +63,12 @@ public class TypeSafeObserverResolver
 
     public TypeSafeObserverResolver(MetaAnnotationStore metaAnnotationStore, Iterable<ObserverMethod<?>> observers,
             WeldConfiguration configuration) {
-        super(observers, configuration);
+        this(metaAnnotationStore, observers, configuration, null);
+    }
+
+    public TypeSafeObserverResolver(MetaAnnotationStore metaAnnotationStore, Iterable<ObserverMethod<?>> observers,
+            WeldConfiguration configuration, JfrRecorder jfrRecorder) {
+        super(observers, configuration, jfrRecorder);
         this.metaAnnotationStore = metaAnnotationStore;
         this.rules = EventTypeAssignabilityRules.instance();
     }
@@ -26,6 +26,8 @@ import java.util.function.Function;
 
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.jfr.JfrRecorder;
+import org.jboss.weld.util.cache.CacheStatistics;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.ImmutableList;
@@ -55,6 +57,27 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
 
     }
 
+    private static class RecordingResolvableToBeanCollection<R extends Resolvable, T, C extends Collection<T>, F>
+            implements Function<R, F> {
+
+        private final ResolvableToBeanCollection<R, T, C, F> delegate;
+
+        private final JfrRecorder jfrRecorder;
+
+        private RecordingResolvableToBeanCollection(ResolvableToBeanCollection<R, T, C, F> delegate, JfrRecorder jfrRecorder) {
+            this.delegate = delegate;
+            this.jfrRecorder = jfrRecorder;
+        }
+
+        public F apply(R from) {
+            Object event = jfrRecorder.beginResolution();
+            F result = delegate.apply(from);
+            jfrRecorder.commitResolutionCacheMiss(event, delegate.resolver, from);
+            return result;
+        }
+
+    }
+
     // The resolved injection points
     private final ComputingCache<R, F> resolved;
     // The beans to search
@@ -65,9 +88,22 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
      * Constructor
      */
     public TypeSafeResolver(Iterable<? extends T> allBeans, WeldConfiguration configuration) {
+        this(allBeans, configuration, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param allBeans
+     * @param configuration
+     * @param jfrRecorder the recorder notified about cache misses, may be <code>null</code>
+     */
+    public TypeSafeResolver(Iterable<? extends T> allBeans, WeldConfiguration configuration, JfrRecorder jfrRecorder) {
         this.resolverFunction = new ResolvableToBeanCollection<R, T, C, F>(this);
         this.resolved = ComputingCacheBuilder.newBuilder()
-                .setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).build(resolverFunction);
+                .setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).recordStatistics()
+                .build(jfrRecorder != null ? new RecordingResolvableToBeanCollection<>(resolverFunction, jfrRecorder)
+                        : resolverFunction);
         this.allBeans = allBeans;
     }
 
@@ -140,6 +176,14 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         return resolvable;
     }
 
+    /**
+     *
+     * @return the statistics of the resolution cache
+     */
+    public CacheStatistics getCacheStatistics() {
+        return resolved.getStatistics();
+    }
+
     public boolean isCached(R resolvable) {
         return resolved.getValueIfPresent(wrap(resolvable)) != null;
     }
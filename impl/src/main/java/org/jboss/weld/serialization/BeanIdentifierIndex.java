@@ -16,10 +16,12 @@
  */
 package org.jboss.weld.serialization;
 
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,6 +48,11 @@ import org.jboss.weld.util.collections.ImmutableMap;
  * are included). Identifiers are sorted into ascending order, according to the {@link BeanIdentifier#asString()} natural
  * ordering.
  *
+ * <p>
+ * In addition, the index may assign a context slot to beans of selected scopes, see {@link #assignContextSlots(Set)}. Slots are
+ * numbered densely per scope and are independent of the positions described above, i.e. they are not part of the index hash.
+ * </p>
+ *
  * @author Martin Kouba
  */
 public class BeanIdentifierIndex implements Service {
@@ -58,6 +65,10 @@ public class BeanIdentifierIndex implements Service {
 
     private final AtomicBoolean indexBuilt = new AtomicBoolean(false);
 
+    private volatile Map<Class<? extends Annotation>, BeanIdentifier[]> contextSlots = Collections.emptyMap();
+
+    private volatile Map<BeanIdentifier, Integer> reverseContextSlots = Collections.emptyMap();
+
     /**
      *
      * @param identifier
@@ -147,6 +158,79 @@ public class BeanIdentifierIndex implements Service {
         indexBuilt.set(true);
     }
 
+    /**
+     * Assigns a context slot to each of the given beans which is an instance of {@link CommonBean}. Slots are numbered
+     * from zero per scope, in ascending order of {@link BeanIdentifier#asString()}.
+     *
+     * Note that slots can only be assigned once.
+     *
+     * @param beans The set of beans slots should be assigned to
+     * @throws IllegalStateException If slots are already assigned
+     * @see CommonBean#getContextSlot()
+     */
+    public void assignContextSlots(Set<Bean<?>> beans) {
+        if (!contextSlots.isEmpty()) {
+            throw new IllegalStateException("Context slots are already assigned!");
+        }
+        Map<Class<? extends Annotation>, List<CommonBean<?>>> beansByScope = new HashMap<>();
+        for (Bean<?> bean : beans) {
+            if (bean instanceof CommonBean<?>) {
+                beansByScope.computeIfAbsent(bean.getScope(), (scope) -> new ArrayList<>()).add((CommonBean<?>) bean);
+            }
+        }
+        ImmutableMap.Builder<Class<? extends Annotation>, BeanIdentifier[]> slotsBuilder = ImmutableMap.builder();
+        ImmutableMap.Builder<BeanIdentifier, Integer> reverseBuilder = ImmutableMap.builder();
+        for (Map.Entry<Class<? extends Annotation>, List<CommonBean<?>>> entry : beansByScope.entrySet()) {
+            List<CommonBean<?>> scopeBeans = entry.getValue();
+            scopeBeans.sort(Comparator.comparing(CommonBean::getId));
+            BeanIdentifier[] identifiers = new BeanIdentifier[scopeBeans.size()];
+            for (int i = 0; i < identifiers.length; i++) {
+                CommonBean<?> bean = scopeBeans.get(i);
+                identifiers[i] = bean.getIdentifier();
+                reverseBuilder.put(identifiers[i], i);
+                bean.setContextSlot(i);
+            }
+            slotsBuilder.put(entry.getKey(), identifiers);
+        }
+        reverseContextSlots = reverseBuilder.build();
+        contextSlots = slotsBuilder.build();
+    }
+
+    /**
+     *
+     * @param scope
+     * @return the number of context slots assigned to beans of the given scope
+     */
+    public int getContextSlotCount(Class<? extends Annotation> scope) {
+        BeanIdentifier[] identifiers = contextSlots.get(scope);
+        return identifiers != null ? identifiers.length : 0;
+    }
+
+    /**
+     *
+     * @param scope
+     * @param identifier
+     * @return the context slot assigned to the bean with the given identifier and scope, or -1 if no slot was assigned
+     */
+    public int getContextSlot(Class<? extends Annotation> scope, BeanIdentifier identifier) {
+        Integer slot = reverseContextSlots.get(identifier);
+        if (slot == null || !identifier.equals(getContextSlotIdentifier(scope, slot))) {
+            return -1;
+        }
+        return slot;
+    }
+
+    /**
+     *
+     * @param scope
+     * @param slot
+     * @return the identifier of the bean the given context slot is assigned to, or null if no such slot exists
+     */
+    public BeanIdentifier getContextSlotIdentifier(Class<? extends Annotation> scope, int slot) {
+        BeanIdentifier[] identifiers = contextSlots.get(scope);
+        return identifiers != null && slot >= 0 && slot < identifiers.length ? identifiers[slot] : null;
+    }
+
     /**
      *
      * @return <code>true</code> if the index is built, <code>false</code> otherwise
@@ -165,6 +249,8 @@ public class BeanIdentifierIndex implements Service {
     @Override
     public void cleanup() {
         index = null;
+        contextSlots = Collections.emptyMap();
+        reverseContextSlots = Collections.emptyMap();
     }
 
     private void checkIsBuilt() {
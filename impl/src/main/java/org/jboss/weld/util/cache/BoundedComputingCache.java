@@ -0,0 +1,235 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.weld.util.ValueHolder;
+
+/**
+ * A reentrant {@link ComputingCache} with an upper bound. Once the bound is exceeded, the least recently used entries
+ * are evicted.
+ * <p>
+ * The recency is approximated by the CLOCK algorithm: a hit only sets the referenced flag of an entry (and only if not
+ * already set), so that lookups do not need to reorder a shared list. Entries are queued in the insertion order and the
+ * eviction gives a second chance to every entry which was referenced since the hand last passed it. Invalidated entries
+ * are left in the queue and skipped by the eviction, they are only purged once there are more of them than the bound.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+class BoundedComputingCache<K, V> implements ComputingCache<K, V>, Iterable<V> {
+
+    private final ConcurrentMap<K, Entry<K, V>> map;
+    private final Queue<Entry<K, V>> clock;
+    private final long maxSize;
+    private final Function<K, ValueHolder<V>> function;
+    private final StatisticsCounter statistics;
+    private final ReentrantLock evictionLock;
+    private final AtomicLong staleEntries;
+
+    BoundedComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction,
+            long maxSize, StatisticsCounter statistics) {
+        this.map = new ConcurrentHashMap<>();
+        this.clock = new ConcurrentLinkedQueue<>();
+        this.maxSize = maxSize;
+        this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+        this.statistics = statistics;
+        this.evictionLock = new ReentrantLock();
+        this.staleEntries = new AtomicLong();
+    }
+
+    @Override
+    public V getValue(K key) {
+        Entry<K, V> entry = map.get(key);
+        if (entry != null) {
+            statistics.hit();
+            entry.touch();
+            return entry.value.get();
+        }
+        statistics.miss();
+        entry = new Entry<>(key, function.apply(key));
+        Entry<K, V> previous = map.putIfAbsent(key, entry);
+        if (previous != null) {
+            previous.touch();
+            return previous.value.get();
+        }
+        clock.offer(entry);
+        if (map.size() > maxSize) {
+            evict(entry);
+        }
+        // Compute the value outside of any lock, the computation may be reentrant
+        return entry.value.get();
+    }
+
+    /**
+     * Evicts entries until the bound is no longer exceeded.
+     *
+     * @param inserted the entry whose insertion exceeded the bound, it is never evicted by this sweep
+     */
+    private void evict(Entry<K, V> inserted) {
+        if (!evictionLock.tryLock()) {
+            // Another thread is evicting already
+            return;
+        }
+        try {
+            // Referenced entries may be skipped at most twice per entry, afterwards evict whatever comes next
+            long secondChances = 2 * maxSize;
+            boolean insertedPassed = false;
+            while (map.size() > maxSize) {
+                Entry<K, V> entry = clock.poll();
+                if (entry == null) {
+                    return;
+                }
+                if (map.get(entry.key) != entry) {
+                    // Stale entry - invalidated or replaced
+                    continue;
+                }
+                if (entry == inserted) {
+                    clock.offer(entry);
+                    if (insertedPassed) {
+                        // A full sweep without any candidate
+                        return;
+                    }
+                    insertedPassed = true;
+                } else if (entry.referenced && secondChances-- > 0) {
+                    entry.referenced = false;
+                    clock.offer(entry);
+                } else if (map.remove(entry.key, entry)) {
+                    statistics.eviction();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getCastValue(Object key) {
+        return (T) getValue((K) key);
+    }
+
+    @Override
+    public V getValueIfPresent(K key) {
+        Entry<K, V> entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        return entry.value.getIfPresent();
+    }
+
+    @Override
+    public long size() {
+        return map.size();
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+        clock.clear();
+        staleEntries.set(0);
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        // The entry is not removed from the clock queue, which would be a linear operation
+        if (map.remove(key) != null && staleEntries.incrementAndGet() > maxSize) {
+            purgeStaleEntries();
+        }
+    }
+
+    private void purgeStaleEntries() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            staleEntries.set(0);
+            clock.removeIf((entry) -> map.get(entry.key) != entry);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public Iterable<V> getAllPresentValues() {
+        return this;
+    }
+
+    @Override
+    public void forEachValue(Consumer<? super V> consumer) {
+        for (Entry<K, V> entry : map.values()) {
+            V value = entry.value.getIfPresent();
+            if (value != null) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics.snapshot(map.size());
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new PresentValuesIterator<>(map.values().iterator(), (entry) -> entry.value);
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+
+        private final ValueHolder<V> value;
+
+        private volatile boolean referenced;
+
+        private Entry(K key, ValueHolder<V> value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        void touch() {
+            // Avoid the volatile write if possible
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value.getIfPresent());
+        }
+
+    }
+
+}
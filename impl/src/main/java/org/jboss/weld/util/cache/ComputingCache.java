@@ -81,4 +81,11 @@ public interface ComputingCache<K, V> {
      */
     void forEachValue(Consumer<? super V> consumer);
 
+    /**
+     * The hit, miss and eviction counts are only recorded if enabled, see {@link ComputingCacheBuilder#recordStatistics()}.
+     *
+     * @return a snapshot of the cache statistics
+     */
+    CacheStatistics getStatistics();
+
 }
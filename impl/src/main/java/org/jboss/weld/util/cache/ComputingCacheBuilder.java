@@ -18,7 +18,10 @@ package org.jboss.weld.util.cache;
 
 import java.lang.ref.WeakReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.jboss.weld.util.LazyValueHolder;
+import org.jboss.weld.util.ValueHolder;
 import org.jboss.weld.util.WeakLazyValueHolder;
 
 /**
@@ -33,6 +36,8 @@ public final class ComputingCacheBuilder {
 
     private boolean weakValues;
 
+    private boolean recordStatistics;
+
     private ComputingCacheBuilder() {
     }
 
@@ -65,14 +70,29 @@ public final class ComputingCacheBuilder {
     }
 
     /**
+     * The cache should record the hit, miss and eviction counts.
+     *
+     * @return self
+     * @see ComputingCache#getStatistics()
+     */
+    public ComputingCacheBuilder recordStatistics() {
+        this.recordStatistics = true;
+        return this;
+    }
+
+    /**
+     * If the max size is set, the least recently used entries are evicted once the bound is exceeded.
      *
      * @param computingFunction
      * @return a new ComputingCache instance
      */
     public <K, V> ComputingCache<K, V> build(Function<K, V> computingFunction) {
-        if (weakValues) {
-            return new ReentrantMapBackedComputingCache<>(computingFunction, WeakLazyValueHolder::forSupplier, maxSize);
+        Function<Supplier<V>, ValueHolder<V>> valueHolderFunction = weakValues ? WeakLazyValueHolder::forSupplier
+                : LazyValueHolder::forSupplier;
+        StatisticsCounter statistics = recordStatistics ? new StatisticsCounter() : StatisticsCounter.DISABLED;
+        if (maxSize != null) {
+            return new BoundedComputingCache<>(computingFunction, valueHolderFunction, maxSize, statistics);
         }
-        return new ReentrantMapBackedComputingCache<>(computingFunction, maxSize);
+        return new ReentrantMapBackedComputingCache<>(computingFunction, valueHolderFunction, statistics);
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.jboss.weld.util.ValueHolder;
+
+/**
+ * Iterates over the values which are already computed, i.e. skips the values which are not present.
+ *
+ * @param <E> the cache entry type
+ * @param <V> the value type
+ */
+class PresentValuesIterator<E, V> implements Iterator<V> {
+
+    private final Iterator<E> delegate;
+    private final Function<E, ValueHolder<V>> valueHolder;
+    private V next;
+
+    PresentValuesIterator(Iterator<E> delegate, Function<E, ValueHolder<V>> valueHolder) {
+        this.delegate = delegate;
+        this.valueHolder = valueHolder;
+        this.next = findNext();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    private V findNext() {
+        while (delegate.hasNext()) {
+            V next = valueHolder.apply(delegate.next()).getIfPresent();
+            if (next != null) {
+                return next;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public V next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        V current = next;
+        this.next = findNext();
+        return current;
+    }
+
+}
@@ -18,7 +18,6 @@ package org.jboss.weld.util.cache;
 
 import java.util.Iterator;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
@@ -43,33 +42,28 @@ import org.jboss.weld.util.ValueHolder;
 class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, Iterable<V> {
 
     private final ConcurrentMap<K, ValueHolder<V>> map;
-    private final Long maxSize;
     private final Function<K, ValueHolder<V>> function;
-
-    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Long maxSize) {
-        this(computingFunction, LazyValueHolder::forSupplier, maxSize);
-    }
+    private final StatisticsCounter statistics;
 
     ReentrantMapBackedComputingCache(Function<K, V> computingFunction,
-            Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize) {
+            Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, StatisticsCounter statistics) {
         this.map = new ConcurrentHashMap<>();
-        this.maxSize = maxSize;
         this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+        this.statistics = statistics;
     }
 
     @Override
     public V getValue(final K key) {
         ValueHolder<V> value = map.get(key);
         if (value == null) {
+            statistics.miss();
             value = function.apply(key);
             ValueHolder<V> previous = map.putIfAbsent(key, value);
             if (previous != null) {
                 value = previous;
             }
-            // finally, check that we are not over the bound
-            if (maxSize != null && size() > maxSize) {
-                clear();
-            }
+        } else {
+            statistics.hit();
         }
         return value.get();
     }
@@ -109,6 +103,11 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
         return this;
     }
 
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics.snapshot(map.size());
+    }
+
     @Override
     public String toString() {
         return map.toString();
@@ -126,35 +125,6 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
 
     @Override
     public Iterator<V> iterator() {
-        return new Iterator<V>() {
-
-            private final Iterator<ValueHolder<V>> delegate = map.values().iterator();
-            private V next = findNext();
-
-            @Override
-            public boolean hasNext() {
-                return next != null;
-            }
-
-            private V findNext() {
-                while (delegate.hasNext()) {
-                    V next = delegate.next().getIfPresent();
-                    if (next != null) {
-                        return next;
-                    }
-                }
-                return null;
-            }
-
-            @Override
-            public V next() {
-                if (!hasNext()) {
-                    throw new NoSuchElementException();
-                }
-                V current = next;
-                this.next = findNext();
-                return current;
-            }
-        };
+        return new PresentValuesIterator<>(map.values().iterator(), Function.identity());
     }
 }
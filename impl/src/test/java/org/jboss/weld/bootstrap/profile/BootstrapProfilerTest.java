@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.profile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jboss.weld.bootstrap.profile.BootstrapProfiler.ObserverNotification;
+import org.junit.Test;
+
+public class BootstrapProfilerTest {
+
+    @Test
+    public void testJson() throws IOException {
+        Path file = Files.createTempFile("weld-bootstrap-profile", ".json");
+        BootstrapProfiler profiler = new BootstrapProfiler("my\"app", file, false);
+        profiler.start("Bootstrap");
+        profiler.start("BeforeBeanDiscovery");
+        ObserverNotification notification = profiler.startObserverNotification("BeforeBeanDiscovery", "com.acme.Ext.bbd");
+        notification.end();
+        profiler.end();
+        profiler.start("BeforeBeanDiscovery");
+        profiler.end();
+        profiler.archive("acme.jar", 10, 7);
+        // the open Bootstrap operation is ended on close
+        profiler.close();
+        // ignored once closed
+        profiler.start("Foo");
+
+        String value;
+        try {
+            value = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } finally {
+            Files.delete(file);
+        }
+        assertTrue(value,
+                value.startsWith("{\"contextId\":\"my\\\"app\",\"operations\":[{\"name\":\"Bootstrap\",\"count\":1,"));
+        assertTrue(value, value.contains(
+                "\"children\":[{\"name\":\"BeforeBeanDiscovery\",\"count\":2,"));
+        assertTrue(value, value.contains(
+                "\"observers\":[{\"eventType\":\"BeforeBeanDiscovery\",\"observer\":\"com.acme.Ext.bbd\",\"count\":1,"));
+        assertTrue(value, value.endsWith("\"archives\":[{\"id\":\"acme.jar\",\"classes\":10,\"beans\":7}]}"));
+        assertEquals(-1, value.indexOf("Foo"));
+    }
+
+    @Test
+    public void testNoopAfterClose() throws IOException {
+        BootstrapProfiler profiler = new BootstrapProfiler("app", null, false);
+        profiler.start("Bootstrap");
+        profiler.archive("acme.jar", 10, 7);
+        profiler.close();
+
+        ObserverNotification notification = profiler.startObserverNotification("ProcessAnnotatedType", "com.acme.Ext.pat");
+        assertSame(ObserverNotification.NOOP, notification);
+        notification.end();
+
+        // the recorded data is released once exported
+        StringBuilder json = new StringBuilder();
+        profiler.writeJson(json);
+        assertEquals("{\"contextId\":\"app\",\"operations\":[],\"archives\":[]}", json.toString());
+    }
+
+}
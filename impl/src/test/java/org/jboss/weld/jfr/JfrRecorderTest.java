@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrRecorderTest {
+
+    @Test
+    public void testEventsCommitted() throws Exception {
+        JfrRecorder recorder = new JfrRecorder("foo");
+        Path file = Files.createTempFile("weld-jfr", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.jboss.weld.ConversationLockWait");
+            recording.enable("org.jboss.weld.ResolutionCacheMiss");
+            recording.disable("org.jboss.weld.EventNotification");
+            recording.start();
+            recorder.commitConversationLockWait(recorder.beginConversationLockWait(), "1", 100L, false);
+            recorder.commitResolutionCacheMiss(recorder.beginResolution(), this, "resolvable");
+            // disabled in the recording
+            recorder.commitEventNotification(recorder.beginEventNotification(), "event", 1, false);
+            recording.stop();
+            recording.dump(file);
+        }
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().startsWith("org.jboss.weld.")).collect(Collectors.toList());
+            assertEquals(2, events.size());
+            for (RecordedEvent event : events) {
+                assertEquals("foo", event.getString("contextId"));
+                if (event.getEventType().getName().equals("org.jboss.weld.ConversationLockWait")) {
+                    assertEquals("1", event.getString("conversationId"));
+                    assertFalse(event.getBoolean("acquired"));
+                } else {
+                    assertEquals(JfrRecorderTest.class.getSimpleName(), event.getString("resolver"));
+                    assertEquals("resolvable", event.getString("resolvable"));
+                }
+                assertTrue(event.getDuration().toNanos() >= 0);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.bean.attributes.ImmutableBeanAttributes;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.beanstore.AbstractIndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.ConcurrentIndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.HashMapBeanStore;
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
+import org.jboss.weld.contexts.beanstore.IndexedBoundBeanStore;
+import org.jboss.weld.contexts.beanstore.MapBeanStore;
+import org.jboss.weld.contexts.beanstore.NamingScheme;
+import org.jboss.weld.contexts.beanstore.SimpleNamingScheme;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Test;
+
+public class IndexedBeanStoreTest {
+
+    @Test
+    public void testSlotsAssignedPerScope() {
+        TestBean alpha = new TestBean("alpha", RequestScoped.class);
+        TestBean beta = new TestBean("beta", RequestScoped.class);
+        TestBean gamma = new TestBean("gamma", ApplicationScoped.class);
+        BeanIdentifierIndex index = index(alpha, beta, gamma);
+
+        assertEquals(0, alpha.getContextSlot());
+        assertEquals(1, beta.getContextSlot());
+        assertEquals(0, gamma.getContextSlot());
+        assertEquals(2, index.getContextSlotCount(RequestScoped.class));
+        assertEquals(1, index.getContextSlotCount(ApplicationScoped.class));
+        assertEquals(1, index.getContextSlot(RequestScoped.class, beta.getIdentifier()));
+        assertEquals(-1, index.getContextSlot(ApplicationScoped.class, beta.getIdentifier()));
+    }
+
+    @Test
+    public void testSlotAndIdentifierAccessAreEquivalent() {
+        TestBean alpha = new TestBean("alpha", RequestScoped.class);
+        TestBean beta = new TestBean("beta", RequestScoped.class);
+        BeanIdentifierIndex index = index(alpha, beta);
+        testSlotAndIdentifierAccess(new IndexedBeanStore(index, RequestScoped.class, new HashMapBeanStore()), alpha, beta);
+        testSlotAndIdentifierAccess(new ConcurrentIndexedBeanStore(index, RequestScoped.class, new HashMapBeanStore()), alpha,
+                beta);
+    }
+
+    private void testSlotAndIdentifierAccess(AbstractIndexedBeanStore store, TestBean alpha, TestBean beta) {
+        ContextualInstance<Object> alphaInstance = instance(alpha);
+
+        store.put(alpha.getContextSlot(), alpha.getIdentifier(), alphaInstance);
+        assertSame(alphaInstance, store.get(alpha.getIdentifier()));
+        assertSame(alphaInstance, store.get(-1, alpha.getIdentifier()));
+        assertTrue(store.contains(alpha.getIdentifier()));
+        assertFalse(store.contains(beta.getIdentifier()));
+
+        ContextualInstance<Object> betaInstance = instance(beta);
+        store.put(beta.getIdentifier(), betaInstance);
+        assertSame(betaInstance, store.get(beta.getContextSlot(), beta.getIdentifier()));
+
+        Set<BeanIdentifier> ids = new HashSet<BeanIdentifier>();
+        for (BeanIdentifier id : store) {
+            ids.add(id);
+        }
+        assertEquals(2, ids.size());
+        assertTrue(ids.contains(alpha.getIdentifier()));
+        assertTrue(ids.contains(beta.getIdentifier()));
+
+        assertSame(alphaInstance, store.remove(alpha.getIdentifier()));
+        assertNull(store.get(alpha.getContextSlot(), alpha.getIdentifier()));
+        store.clear();
+        assertNull(store.get(beta.getContextSlot(), beta.getIdentifier()));
+        assertFalse(store.iterator().hasNext());
+    }
+
+    @Test
+    public void testContextualsWithoutSlotUseDelegate() {
+        TestBean alpha = new TestBean("alpha", RequestScoped.class);
+        HashMapBeanStore delegate = new HashMapBeanStore();
+        IndexedBeanStore store = new IndexedBeanStore(index(alpha), RequestScoped.class, delegate);
+        BeanIdentifier custom = new StringBeanIdentifier("custom");
+        ContextualInstance<Object> customInstance = instance(new TestBean("custom", RequestScoped.class));
+
+        store.put(custom, customInstance);
+        assertSame(customInstance, delegate.get(custom));
+        assertSame(customInstance, store.get(-1, custom));
+        assertSame(customInstance, store.remove(-1, custom));
+        assertFalse(delegate.contains(custom));
+    }
+
+    @Test
+    public void testInstanceCreatedBeforeSlotsAssigned() {
+        testInstanceCreatedBeforeSlotsAssigned(false);
+        testInstanceCreatedBeforeSlotsAssigned(true);
+    }
+
+    private void testInstanceCreatedBeforeSlotsAssigned(boolean concurrent) {
+        TestBean alpha = new TestBean("alpha", ApplicationScoped.class);
+        BeanIdentifierIndex index = new BeanIdentifierIndex();
+        AbstractIndexedBeanStore store = concurrent
+                ? new ConcurrentIndexedBeanStore(index, ApplicationScoped.class, new HashMapBeanStore())
+                : new IndexedBeanStore(index, ApplicationScoped.class, new HashMapBeanStore());
+        ContextualInstance<Object> alphaInstance = instance(alpha);
+        store.put(alpha.getIdentifier(), alphaInstance);
+
+        index.assignContextSlots(Collections.<Bean<?>> singleton(alpha));
+        assertSame(alphaInstance, store.get(alpha.getContextSlot(), alpha.getIdentifier()));
+        assertSame(alphaInstance, store.remove(alpha.getContextSlot(), alpha.getIdentifier()));
+        assertNull(store.get(alpha.getIdentifier()));
+    }
+
+    @Test
+    public void testSlotAccessWithoutIdentifier() {
+        TestBean alpha = new TestBean("alpha", RequestScoped.class);
+        HashMapBeanStore delegate = new HashMapBeanStore();
+        IndexedBeanStore store = new IndexedBeanStore(index(alpha), RequestScoped.class, delegate);
+        ContextualInstance<Object> alphaInstance = instance(alpha);
+
+        assertNull(store.get(alpha.getContextSlot(), null));
+        store.put(alpha.getContextSlot(), null, alphaInstance);
+        assertFalse(delegate.iterator().hasNext());
+        assertSame(alphaInstance, store.get(alpha.getContextSlot(), null));
+        assertSame(alphaInstance, store.get(alpha.getIdentifier()));
+        assertSame(alphaInstance, store.remove(alpha.getContextSlot(), null));
+        assertNull(store.remove(alpha.getContextSlot(), null));
+    }
+
+    @Test
+    public void testBoundStoreWritesThrough() {
+        TestBean alpha = new TestBean("alpha", RequestScoped.class);
+        TestBean beta = new TestBean("beta", RequestScoped.class);
+        BeanIdentifierIndex index = index(alpha, beta);
+        NamingScheme namingScheme = new SimpleNamingScheme("test");
+        Map<String, Object> storage = new HashMap<String, Object>();
+        IndexedBoundBeanStore store = new IndexedBoundBeanStore(index, RequestScoped.class,
+                new MapBeanStore(namingScheme, storage));
+        assertTrue(store.attach());
+        assertTrue(store.isAttached());
+        ContextualInstance<Object> alphaInstance = instance(alpha);
+
+        store.put(alpha.getContextSlot(), null, alphaInstance);
+        assertSame(alphaInstance, storage.get(namingScheme.prefix(alpha.getIdentifier())));
+        assertSame(alphaInstance, store.get(alpha.getContextSlot(), null));
+        Iterator<BeanIdentifier> iterator = store.iterator();
+        assertEquals(alpha.getIdentifier(), iterator.next());
+        assertFalse(iterator.hasNext());
+
+        // Another association of the same storage finds the instance by slot
+        IndexedBoundBeanStore other = new IndexedBoundBeanStore(index, RequestScoped.class,
+                new MapBeanStore(namingScheme, storage));
+        other.attach();
+        assertSame(alphaInstance, other.get(alpha.getContextSlot(), null));
+        assertNull(other.get(beta.getContextSlot(), null));
+        assertSame(alphaInstance, other.remove(alpha.getContextSlot(), null));
+        assertTrue(storage.isEmpty());
+        assertNull(other.get(alpha.getContextSlot(), null));
+    }
+
+    private static BeanIdentifierIndex index(TestBean... beans) {
+        BeanIdentifierIndex index = new BeanIdentifierIndex();
+        Set<Bean<?>> set = new HashSet<Bean<?>>();
+        Collections.addAll(set, beans);
+        index.assignContextSlots(set);
+        return index;
+    }
+
+    private static ContextualInstance<Object> instance(final TestBean bean) {
+        final Object instance = new Object();
+        return new ContextualInstance<Object>() {
+
+            @Override
+            public Object getInstance() {
+                return instance;
+            }
+
+            @Override
+            public CreationalContext<Object> getCreationalContext() {
+                return null;
+            }
+
+            @Override
+            public TestBean getContextual() {
+                return bean;
+            }
+        };
+    }
+
+    private static class TestBean extends CommonBean<Object> {
+
+        TestBean(String id, Class<? extends Annotation> scope) {
+            super(new ImmutableBeanAttributes<Object>(Collections.emptySet(), false, null, Collections.emptySet(),
+                    Collections.singleton(Object.class), scope), new StringBeanIdentifier(id));
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Object.class;
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.contexts.beanstore.LockStore;
+import org.jboss.weld.contexts.beanstore.LockedBean;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LockStoreTest {
+
+    private static final BeanIdentifier FOO = new StringBeanIdentifier("foo");
+    private static final BeanIdentifier BAR = new StringBeanIdentifier("bar");
+
+    private ExecutorService executor;
+
+    @Before
+    public void init() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void cleanup() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testDifferentIdentifiersDoNotBlock() throws Exception {
+        LockStore store = new LockStore();
+        LockedBean foo = store.lock(FOO);
+        try {
+            Future<Boolean> bar = executor.submit(() -> {
+                store.lock(BAR).unlock();
+                return true;
+            });
+            assertTrue(bar.get(5, TimeUnit.SECONDS));
+        } finally {
+            foo.unlock();
+        }
+    }
+
+    @Test
+    public void testSameIdentifierIsExclusive() throws Exception {
+        LockStore store = new LockStore();
+        CountDownLatch acquired = new CountDownLatch(1);
+        LockedBean foo = store.lock(FOO);
+        Future<?> other;
+        try {
+            other = executor.submit(() -> {
+                LockedBean lock = store.lock(new StringBeanIdentifier("foo"));
+                acquired.countDown();
+                lock.unlock();
+            });
+            assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+        } finally {
+            foo.unlock();
+        }
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        other.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testReentrantLocking() throws Exception {
+        LockStore store = new LockStore();
+        LockedBean first = store.lock(FOO);
+        LockedBean second = store.lock(FOO);
+        second.unlock();
+        first.unlock();
+        // Fully released - another thread may lock the identifier again
+        Future<Boolean> other = executor.submit(() -> {
+            store.lock(FOO).unlock();
+            return true;
+        });
+        assertTrue(other.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testLockAfterDeserialization() throws Exception {
+        LockStore store = new LockStore();
+        store.lock(FOO).unlock();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(store);
+        }
+        LockStore deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (LockStore) in.readObject();
+        }
+        LockedBean lock = deserialized.lock(FOO);
+        lock.unlock();
+        assertEquals(LockStore.class, deserialized.getClass());
+    }
+
+}
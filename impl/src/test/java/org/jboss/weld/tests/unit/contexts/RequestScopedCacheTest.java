@@ -0,0 +1,134 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.weld.contexts.cache.RequestScopedCache;
+import org.jboss.weld.contexts.cache.RequestScopedItem;
+import org.junit.After;
+import org.junit.Test;
+
+public class RequestScopedCacheTest {
+
+    @After
+    public void cleanup() {
+        RequestScopedCache.endRequest();
+    }
+
+    @Test
+    public void testInactiveCacheDoesNotAcceptItems() {
+        ThreadLocal<String> local = new ThreadLocal<String>();
+        assertFalse(RequestScopedCache.isActive());
+        assertFalse(RequestScopedCache.addItemIfActive(local));
+        assertFalse(RequestScopedCache.addItemIfActive(new CountingItem()));
+    }
+
+    @Test
+    public void testEndRequestInvalidatesAllItems() {
+        RequestScopedCache.beginRequest();
+        List<ThreadLocal<String>> locals = new ArrayList<ThreadLocal<String>>();
+        List<CountingItem> items = new ArrayList<CountingItem>();
+        // more than the initial capacity
+        for (int i = 0; i < 40; i++) {
+            ThreadLocal<String> local = new ThreadLocal<String>();
+            assertTrue(RequestScopedCache.addItemIfActive(local));
+            local.set("foo");
+            locals.add(local);
+            CountingItem item = new CountingItem();
+            RequestScopedCache.addItem(item);
+            items.add(item);
+        }
+        RequestScopedCache.endRequest();
+        assertFalse(RequestScopedCache.isActive());
+        for (ThreadLocal<String> local : locals) {
+            assertNull(local.get());
+        }
+        for (CountingItem item : items) {
+            assertEquals(1, item.invalidated);
+        }
+    }
+
+    @Test
+    public void testInvalidateKeepsCacheActive() {
+        RequestScopedCache.beginRequest();
+        ThreadLocal<String> local = new ThreadLocal<String>();
+        CountingItem item = new CountingItem();
+        RequestScopedCache.addItemIfActive(local);
+        local.set("foo");
+        RequestScopedCache.addItem(item);
+        RequestScopedCache.invalidate();
+        assertTrue(RequestScopedCache.isActive());
+        assertNull(local.get());
+        assertEquals(1, item.invalidated);
+        // flushed items are no longer tracked
+        RequestScopedCache.endRequest();
+        assertEquals(1, item.invalidated);
+    }
+
+    @Test
+    public void testSelectiveInvalidation() {
+        RequestScopedCache.beginRequest();
+        ThreadLocal<String> first = new ThreadLocal<String>();
+        ThreadLocal<String> second = new ThreadLocal<String>();
+        CountingItem firstItem = new CountingItem();
+        CountingItem secondItem = new CountingItem();
+        RequestScopedCache.addItemIfActive(first);
+        first.set("first");
+        RequestScopedCache.addItemIfActive(second);
+        second.set("second");
+        RequestScopedCache.addItem(firstItem);
+        RequestScopedCache.addItem(secondItem);
+
+        RequestScopedCache.invalidate(first);
+        RequestScopedCache.invalidate(firstItem);
+        assertNull(first.get());
+        assertEquals("second", second.get());
+        assertEquals(1, firstItem.invalidated);
+        assertEquals(0, secondItem.invalidated);
+
+        RequestScopedCache.endRequest();
+        assertNull(second.get());
+        assertEquals(1, firstItem.invalidated);
+        assertEquals(1, secondItem.invalidated);
+    }
+
+    @Test
+    public void testSelectiveInvalidationOfUnknownItem() {
+        RequestScopedCache.beginRequest();
+        CountingItem item = new CountingItem();
+        RequestScopedCache.invalidate(item);
+        assertEquals(0, item.invalidated);
+    }
+
+    private static class CountingItem implements RequestScopedItem {
+
+        private int invalidated;
+
+        @Override
+        public void invalidate() {
+            invalidated++;
+        }
+    }
+
+}
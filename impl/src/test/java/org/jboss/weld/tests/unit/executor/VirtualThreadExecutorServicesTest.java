@@ -0,0 +1,67 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import org.jboss.weld.exceptions.IllegalStateException;
+import org.jboss.weld.executor.VirtualThreadExecutorServices;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class VirtualThreadExecutorServicesTest {
+
+    @Test
+    public void testTasksRunOnVirtualThreads() throws Exception {
+        Assume.assumeTrue(VirtualThreadExecutorServices.isSupported());
+        VirtualThreadExecutorServices executorServices = new VirtualThreadExecutorServices(2);
+        try {
+            final Method isVirtual = Thread.class.getMethod("isVirtual");
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                tasks.add(() -> (Boolean) isVirtual.invoke(Thread.currentThread()));
+            }
+            List<Future<Boolean>> results = executorServices.invokeAllAndCheckForExceptions(tasks);
+            assertEquals(100, results.size());
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executorServices.cleanup();
+        }
+    }
+
+    @Test
+    public void testVirtualThreadsNotSupported() {
+        Assume.assumeFalse(VirtualThreadExecutorServices.isSupported());
+        try {
+            new VirtualThreadExecutorServices(2);
+            fail();
+        } catch (IllegalStateException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().startsWith("WELD-000190"));
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.interceptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodInvocation;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodInvoker;
+import org.jboss.weld.interceptor.spi.metadata.InterceptorMetadata;
+import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.junit.Test;
+
+/**
+ * Tests the default implementation of {@link InterceptorMetadata#getInterceptorMethodInvokers(InterceptionType)}.
+ */
+public class InterceptorMethodInvokersTest {
+
+    @Test
+    public void testInvokersDelegateToBoundInvocation() throws Exception {
+        List<String> invocations = new ArrayList<>();
+        InterceptorMetadata metadata = new TwoMethodsInterceptorMetadata(invocations);
+
+        List<InterceptorMethodInvoker> invokers = metadata.getInterceptorMethodInvokers(InterceptionType.AROUND_INVOKE);
+        assertEquals(2, invokers.size());
+        assertTrue(invokers.get(0).expectsInvocationContext());
+        assertFalse(invokers.get(1).expectsInvocationContext());
+
+        // The invokers are shared by all the interceptor instances
+        assertEquals("foo", invokers.get(0).invoke("foo", null));
+        assertEquals("bar", invokers.get(0).invoke("bar", null));
+        assertNull(invokers.get(1).invoke("foo", null));
+        assertEquals(List.of("0:foo", "0:bar", "1:foo"), invocations);
+    }
+
+    private static class TwoMethodsInterceptorMetadata implements InterceptorMetadata {
+
+        private final List<String> invocations;
+
+        TwoMethodsInterceptorMetadata(List<String> invocations) {
+            this.invocations = invocations;
+        }
+
+        @Override
+        public boolean isEligible(InterceptionType interceptionType) {
+            return interceptionType == InterceptionType.AROUND_INVOKE;
+        }
+
+        @Override
+        public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType) {
+            return () -> List.of(new RecordingInvocation(interceptorInstance, 0, true),
+                    new RecordingInvocation(interceptorInstance, 1, false));
+        }
+
+        private class RecordingInvocation implements InterceptorMethodInvocation {
+
+            private final Object interceptorInstance;
+            private final int position;
+            private final boolean expectsInvocationContext;
+
+            RecordingInvocation(Object interceptorInstance, int position, boolean expectsInvocationContext) {
+                this.interceptorInstance = interceptorInstance;
+                this.position = position;
+                this.expectsInvocationContext = expectsInvocationContext;
+            }
+
+            @Override
+            public Object invoke(InvocationContext invocationContext) throws Exception {
+                invocations.add(position + ":" + interceptorInstance);
+                return expectsInvocationContext ? interceptorInstance : null;
+            }
+
+            @Override
+            public boolean expectsInvocationContext() {
+                return expectsInvocationContext;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.interceptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+
+import org.jboss.weld.interceptor.util.InterceptionUtils;
+import org.junit.Test;
+
+/**
+ * Tests {@link InterceptionUtils#wrapTargetExceptions(MethodHandle)}.
+ */
+public class WrapTargetExceptionsTest {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, String.class);
+
+    @Test
+    public void testTargetExceptionWrapped() throws Throwable {
+        MethodHandle handle = wrap("fail");
+        try {
+            Object ignored = (Object) handle.invokeExact((Object) new Target(), "foo");
+            fail();
+        } catch (InvocationTargetException expected) {
+            assertEquals(IOException.class, expected.getCause().getClass());
+            assertEquals("foo", expected.getCause().getMessage());
+        }
+        try {
+            Object ignored = (Object) handle.invokeExact((Object) new Target(), (String) null);
+            fail();
+        } catch (InvocationTargetException expected) {
+            // A ClassCastException thrown by the target itself is wrapped
+            assertEquals(ClassCastException.class, expected.getCause().getClass());
+        }
+    }
+
+    @Test
+    public void testAdaptationExceptionNotWrapped() throws Throwable {
+        MethodHandle handle = wrap("echo");
+        assertEquals("foo", (Object) handle.invokeExact((Object) new Target(), "foo"));
+        try {
+            Object ignored = (Object) handle.invokeExact((Object) "not a target", "foo");
+            fail();
+        } catch (ClassCastException expected) {
+            // The receiver cast is not part of the target
+        }
+    }
+
+    @Test
+    public void testVoidTarget() throws Throwable {
+        Target target = new Target();
+        MethodHandle handle = wrap("remember");
+        assertEquals(null, (Object) handle.invokeExact((Object) target, "foo"));
+        assertSame("foo", target.remembered);
+    }
+
+    private static MethodHandle wrap(String name) throws ReflectiveOperationException {
+        MethodHandle target = MethodHandles.lookup().unreflect(Target.class.getDeclaredMethod(name, String.class));
+        return InterceptionUtils.wrapTargetExceptions(target).asType(INVOKER_TYPE);
+    }
+
+    static class Target {
+
+        String remembered;
+
+        String echo(String value) {
+            return value;
+        }
+
+        String fail(String message) throws IOException {
+            if (message == null) {
+                throw new ClassCastException();
+            }
+            throw new IOException(message);
+        }
+
+        void remember(String value) {
+            remembered = value;
+        }
+
+    }
+
+}
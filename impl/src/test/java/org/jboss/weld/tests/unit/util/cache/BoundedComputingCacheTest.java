@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.util.cache.CacheStatistics;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.junit.Test;
+
+public class BoundedComputingCacheTest {
+
+    @Test
+    public void testLeastRecentlyUsedEntryEvicted() {
+        ComputingCache<String, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(3).recordStatistics()
+                .build(String::toUpperCase);
+        cache.getValue("a");
+        cache.getValue("b");
+        cache.getValue("c");
+        // "a" is referenced, "b" is the least recently used entry
+        cache.getValue("a");
+        cache.getValue("d");
+        assertEquals(3, cache.size());
+        assertNull(cache.getValueIfPresent("b"));
+        assertNotNull(cache.getValueIfPresent("a"));
+        assertNotNull(cache.getValueIfPresent("c"));
+        assertNotNull(cache.getValueIfPresent("d"));
+
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(4, statistics.getMissCount());
+        assertEquals(1, statistics.getEvictionCount());
+        assertEquals(3, statistics.getSize());
+    }
+
+    @Test
+    public void testBoundNeverExceeded() {
+        AtomicInteger computations = new AtomicInteger();
+        ComputingCache<Integer, Integer> cache = ComputingCacheBuilder.newBuilder().setMaxSize(10).recordStatistics()
+                .build((i) -> {
+                    computations.incrementAndGet();
+                    return i * 2;
+                });
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i * 2), cache.getValue(i));
+            // the most recent entry is always retained
+            assertEquals(Integer.valueOf(i * 2), cache.getValue(i));
+        }
+        assertEquals(10, cache.size());
+        assertEquals(100, computations.get());
+        assertEquals(90, cache.getStatistics().getEvictionCount());
+        assertEquals(100, cache.getStatistics().getHitCount());
+    }
+
+    @Test
+    public void testInvalidate() {
+        ComputingCache<String, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(2).build(String::toUpperCase);
+        cache.getValue("a");
+        cache.getValue("b");
+        cache.invalidate("a");
+        cache.getValue("c");
+        assertEquals(2, cache.size());
+        assertNotNull(cache.getValueIfPresent("b"));
+        assertNotNull(cache.getValueIfPresent("c"));
+        // statistics not recorded
+        assertEquals(0, cache.getStatistics().getMissCount());
+    }
+
+    @Test
+    public void testEvictionAfterManyInvalidations() {
+        ComputingCache<String, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(2).recordStatistics()
+                .build(String::toUpperCase);
+        cache.getValue("a");
+        for (int i = 0; i < 100; i++) {
+            String key = "x" + i;
+            cache.getValue(key);
+            cache.invalidate(key);
+        }
+        assertEquals(1, cache.size());
+        cache.getValue("b");
+        cache.getValue("c");
+        assertEquals(2, cache.size());
+        // "a" is the least recently used entry, the invalidated entries are skipped
+        assertNull(cache.getValueIfPresent("a"));
+        assertNotNull(cache.getValueIfPresent("b"));
+        assertNotNull(cache.getValueIfPresent("c"));
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+    }
+
+}
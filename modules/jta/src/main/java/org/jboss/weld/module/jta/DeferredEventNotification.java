@@ -87,6 +87,14 @@ class DeferredEventNotification<T> implements Runnable {
         }
     }
 
+    ObserverMethod<? super T> getObserver() {
+        return observer;
+    }
+
+    T getEvent() {
+        return event;
+    }
+
     public Status getStatus() {
         return status;
     }
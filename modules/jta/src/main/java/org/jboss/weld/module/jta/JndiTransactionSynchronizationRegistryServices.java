@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.jta;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.weld.logging.EventLogger;
+
+/**
+ * Default {@link TransactionSynchronizationRegistryServices} which looks up the registry in JNDI. A successful lookup is
+ * cached, a failed lookup is retried the next time the registry is needed.
+ */
+class JndiTransactionSynchronizationRegistryServices implements TransactionSynchronizationRegistryServices {
+
+    private static final String SYNCHRONIZATION_REGISTRY_JNDI_NAME = "java:comp/TransactionSynchronizationRegistry";
+
+    private volatile TransactionSynchronizationRegistry registry;
+
+    private volatile boolean unavailabilityLogged;
+
+    @Override
+    public TransactionSynchronizationRegistry getTransactionSynchronizationRegistry() {
+        TransactionSynchronizationRegistry registry = this.registry;
+        if (registry == null) {
+            registry = lookup();
+            this.registry = registry;
+        }
+        return registry;
+    }
+
+    private TransactionSynchronizationRegistry lookup() {
+        try {
+            InitialContext context = new InitialContext();
+            try {
+                return (TransactionSynchronizationRegistry) context.lookup(SYNCHRONIZATION_REGISTRY_JNDI_NAME);
+            } finally {
+                context.close();
+            }
+        } catch (NamingException | ClassCastException e) {
+            if (!unavailabilityLogged) {
+                unavailabilityLogged = true;
+                EventLogger.LOG.transactionSynchronizationRegistryNotAvailable(e);
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        registry = null;
+    }
+
+}
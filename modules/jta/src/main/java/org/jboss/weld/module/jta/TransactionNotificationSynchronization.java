@@ -16,25 +16,67 @@
  */
 package org.jboss.weld.module.jta;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
 
+import jakarta.enterprise.inject.spi.ObserverMethod;
 import jakarta.transaction.Synchronization;
 
 /**
  * A JTA transaction synchronization which wraps all defferred transactional event notifications.
+ * <p>
+ * If the notifications are batched, the synchronization is shared by all the events fired during a transaction and the
+ * notifications of subsequent events are appended using {@link #add(List)}.
  *
  * @author David Allen
  */
 class TransactionNotificationSynchronization implements Synchronization {
 
+    // Guarded by this until the transaction completes
     private final List<DeferredEventNotification<?>> notifications;
 
+    private final boolean coalescing;
+
+    // Guarded by this
+    private boolean completed;
+
     /**
      *
      * @param notifications The ordered list of notifications
      */
     public TransactionNotificationSynchronization(List<DeferredEventNotification<?>> notifications) {
+        this(notifications, false);
+    }
+
+    /**
+     *
+     * @param notifications The ordered list of notifications
+     * @param coalescing If set to true, an AFTER_SUCCESS observer is only notified of the last of the equal events, as
+     *        defined by {@link Object#equals(Object)}
+     */
+    TransactionNotificationSynchronization(List<DeferredEventNotification<?>> notifications, boolean coalescing) {
         this.notifications = notifications;
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * Appends the notifications of an event fired later during the transaction.
+     *
+     * @param notifications The ordered list of notifications
+     * @return <code>false</code> if the transaction already completed and the notifications were not added, <code>true</code>
+     *         otherwise
+     */
+    synchronized boolean add(List<DeferredEventNotification<?>> notifications) {
+        if (completed) {
+            return false;
+        }
+        this.notifications.addAll(notifications);
+        return true;
     }
 
     /*
@@ -43,8 +85,14 @@ class TransactionNotificationSynchronization implements Synchronization {
      * @see jakarta.transaction.Synchronization#afterCompletion(int)
      */
     public void afterCompletion(int status) {
+        synchronized (this) {
+            // No notifications may be added from now on
+            completed = true;
+        }
+        Set<DeferredEventNotification<?>> superseded = coalescing ? getSupersededNotifications(notifications)
+                : Collections.emptySet();
         for (DeferredEventNotification<?> notification : notifications) {
-            if (!notification.isBefore() && notification.getStatus().matches(status)) {
+            if (!notification.isBefore() && notification.getStatus().matches(status) && !superseded.contains(notification)) {
                 notification.run();
             }
         }
@@ -56,10 +104,41 @@ class TransactionNotificationSynchronization implements Synchronization {
      * @see jakarta.transaction.Synchronization#beforeCompletion()
      */
     public void beforeCompletion() {
-        for (DeferredEventNotification<?> notification : notifications) {
+        // Iterate by index - an observer may fire another event and so append more notifications
+        for (int i = 0;; i++) {
+            DeferredEventNotification<?> notification;
+            synchronized (this) {
+                if (i >= notifications.size()) {
+                    break;
+                }
+                notification = notifications.get(i);
+            }
             if (notification.isBefore()) {
                 notification.run();
             }
         }
     }
+
+    /**
+     * The events are compared using {@link Object#equals(Object)} and {@link Object#hashCode()}. An event type which does not
+     * override these methods is never coalesced.
+     *
+     * @param notifications
+     * @return the AFTER_SUCCESS notifications followed by a notification of the same observer with an equal event
+     */
+    private static Set<DeferredEventNotification<?>> getSupersededNotifications(
+            List<DeferredEventNotification<?>> notifications) {
+        Set<DeferredEventNotification<?>> superseded = new HashSet<>();
+        Map<ObserverMethod<?>, Set<Object>> notifiedEvents = new HashMap<>();
+        for (ListIterator<DeferredEventNotification<?>> iterator = notifications.listIterator(notifications.size()); iterator
+                .hasPrevious();) {
+            DeferredEventNotification<?> notification = iterator.previous();
+            if (notification.getStatus() == Status.SUCCESS
+                    && !notifiedEvents.computeIfAbsent(notification.getObserver(), k -> new HashSet<>())
+                            .add(notification.getEvent())) {
+                superseded.add(notification);
+            }
+        }
+        return superseded;
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.jta;
+
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.weld.bootstrap.api.Service;
+
+/**
+ * Provides the {@link TransactionSynchronizationRegistry} used to batch the notifications of transactional observer methods
+ * (see {@link org.jboss.weld.config.ConfigurationKey#TRANSACTIONAL_OBSERVERS_BATCHING}).
+ * <p>
+ * An integrator may register an implementation, e.g. if a standalone transaction manager is used in Weld SE. If no
+ * implementation is registered, the registry is looked up in JNDI under {@code java:comp/TransactionSynchronizationRegistry}.
+ *
+ * @see org.jboss.weld.transaction.spi.TransactionServices
+ */
+public interface TransactionSynchronizationRegistryServices extends Service {
+
+    /**
+     * The registry must be associated with the transaction manager used by
+     * {@link org.jboss.weld.transaction.spi.TransactionServices}. This method is invoked for each event fired during a
+     * transaction.
+     *
+     * @return the transaction synchronization registry or <code>null</code> if not available
+     */
+    TransactionSynchronizationRegistry getTransactionSynchronizationRegistry();
+
+}
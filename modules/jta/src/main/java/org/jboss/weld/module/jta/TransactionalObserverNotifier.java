@@ -24,8 +24,11 @@ import jakarta.enterprise.event.TransactionPhase;
 import jakarta.enterprise.inject.spi.EventMetadata;
 import jakarta.enterprise.inject.spi.ObserverMethod;
 import jakarta.transaction.RollbackException;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.event.ObserverNotifier;
 import org.jboss.weld.module.ObserverNotifierFactory;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
@@ -48,12 +51,21 @@ class TransactionalObserverNotifier extends ObserverNotifier {
 
     private final TransactionServices transactionServices;
     private final String contextId;
+    // null if the notifications are not batched
+    private final TransactionSynchronizationRegistryServices synchronizationRegistryServices;
+    private final boolean coalescing;
 
     TransactionalObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services,
             boolean strict) {
         super(contextId, resolver, services, strict);
         this.contextId = contextId;
         this.transactionServices = services.get(TransactionServices.class);
+        WeldConfiguration configuration = services.get(WeldConfiguration.class);
+        this.synchronizationRegistryServices = configuration
+                .getBooleanProperty(ConfigurationKey.TRANSACTIONAL_OBSERVERS_BATCHING)
+                        ? services.get(TransactionSynchronizationRegistryServices.class)
+                        : null;
+        this.coalescing = configuration.getBooleanProperty(ConfigurationKey.TRANSACTIONAL_OBSERVERS_COALESCING);
     }
 
     /**
@@ -86,7 +98,7 @@ class TransactionalObserverNotifier extends ObserverNotifier {
                 deferNotification(event, metadata, observer, notifications);
             }
             try {
-                transactionServices.registerSynchronization(new TransactionNotificationSynchronization(notifications));
+                registerNotifications(notifications);
             } catch (Exception e) {
                 if (e.getCause() instanceof RollbackException || e.getCause() instanceof IllegalStateException) {
                     List<ObserverMethod<? super T>> filteredObservers = observers.stream()
@@ -105,4 +117,32 @@ class TransactionalObserverNotifier extends ObserverNotifier {
             }
         }
     }
+
+    /**
+     * Registers the notifications with the current transaction. If the notifications are batched, the notifications are
+     * appended to the synchronization registered for a previous event during the same transaction, if any.
+     *
+     * @param notifications The ordered list of notifications
+     */
+    private void registerNotifications(List<DeferredEventNotification<?>> notifications) {
+        TransactionSynchronizationRegistry registry = synchronizationRegistryServices != null
+                ? synchronizationRegistryServices.getTransactionSynchronizationRegistry()
+                : null;
+        if (registry == null) {
+            transactionServices.registerSynchronization(new TransactionNotificationSynchronization(notifications));
+            return;
+        }
+        // If the transaction is marked for rollback, the registration fails and the observers are notified immediately
+        if (!registry.getRollbackOnly()) {
+            Object synchronization = registry.getResource(this);
+            if (synchronization instanceof TransactionNotificationSynchronization
+                    && ((TransactionNotificationSynchronization) synchronization).add(notifications)) {
+                return;
+            }
+        }
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(notifications,
+                coalescing);
+        transactionServices.registerSynchronization(synchronization);
+        registry.putResource(this, synchronization);
+    }
 }
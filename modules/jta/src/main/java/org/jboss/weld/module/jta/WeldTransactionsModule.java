@@ -37,6 +37,10 @@ public class WeldTransactionsModule implements WeldModule {
     public void postServiceRegistration(PostServiceRegistrationContext ctx) {
         if (ctx.getServices().contains(TransactionServices.class)) {
             ctx.getServices().add(ObserverNotifierFactory.class, TransactionalObserverNotifier.FACTORY);
+            if (!ctx.getServices().contains(TransactionSynchronizationRegistryServices.class)) {
+                ctx.getServices().add(TransactionSynchronizationRegistryServices.class,
+                        new JndiTransactionSynchronizationRegistryServices());
+            }
         }
     }
 
@@ -3,10 +3,14 @@ package org.jboss.weld.module.web.context.beanstore.http;
 import static java.util.Collections.emptyIterator;
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import jakarta.servlet.http.HttpSession;
 
+import org.jboss.weld.bean.proxy.ProxyObject;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
@@ -39,6 +43,26 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
 
     private final boolean resetHttpSessionAttributeOnBeanAccess;
 
+    private static final ClassValue<Boolean> OVERRIDES_HASH_CODE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            // Skip the intercepted subclass generated by Weld
+            Class<?> beanClass = ProxyObject.class.isAssignableFrom(type) ? type.getSuperclass() : type;
+            try {
+                return beanClass.getMethod("hashCode").getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private boolean dirtyTracking;
+
+    private boolean mutationDetection;
+
+    // Instances accessed during the current request, only used if dirty tracking is enabled
+    private Map<String, AccessedInstance> accessed;
+
     /**
      *
      * @param namingScheme
@@ -91,10 +115,77 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
         }
         if (resetHttpSessionAttributeOnBeanAccess && instance != null) {
             put(id, instance);
+        } else if (dirtyTracking && instance != null && isAttached()) {
+            markAccessed(getNamingScheme().prefix(id), instance);
         }
         return instance;
     }
 
+    @Override
+    public <T> void put(BeanIdentifier id, ContextualInstance<T> instance) {
+        super.put(id, instance);
+        if (dirtyTracking && isAttached()) {
+            // The instance may be modified after it was created
+            markAccessed(getNamingScheme().prefix(id), instance);
+        }
+    }
+
+    @Override
+    public <T> ContextualInstance<T> remove(BeanIdentifier id) {
+        if (accessed != null) {
+            accessed.remove(getNamingScheme().prefix(id));
+        }
+        return super.remove(id);
+    }
+
+    @Override
+    public void clear() {
+        accessed = null;
+        super.clear();
+    }
+
+    /**
+     * Enables dirty tracking. Instead of setting the session attributes each time an instance is accessed (see
+     * {@link ConfigurationKey#RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS}), the instances accessed during a request are recorded
+     * and set again in one batch when {@link #flush()} is invoked. Has no effect if
+     * {@link ConfigurationKey#RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS} is enabled.
+     *
+     * @param mutationDetection if set to <code>true</code>, an instance of a class which overrides {@link Object#hashCode()} is
+     *        only set again if its hash code changed since it was accessed first
+     */
+    public void enableDirtyTracking(boolean mutationDetection) {
+        this.dirtyTracking = !resetHttpSessionAttributeOnBeanAccess;
+        this.mutationDetection = mutationDetection;
+    }
+
+    /**
+     * Sets the session attributes of the instances accessed since the last invocation, provided dirty tracking is enabled.
+     */
+    public void flush() {
+        Map<String, AccessedInstance> accessed = this.accessed;
+        this.accessed = null;
+        if (accessed == null || !isAttached()) {
+            return;
+        }
+        for (Entry<String, AccessedInstance> entry : accessed.entrySet()) {
+            AccessedInstance accessedInstance = entry.getValue();
+            if (accessedInstance.isModified()) {
+                setAttribute(entry.getKey(), accessedInstance.instance);
+            }
+        }
+    }
+
+    private void markAccessed(String prefixedId, ContextualInstance<?> instance) {
+        if (accessed == null) {
+            accessed = new HashMap<>();
+        }
+        AccessedInstance accessedInstance = accessed.get(prefixedId);
+        if (accessedInstance == null || accessedInstance.instance != instance) {
+            accessed.put(prefixedId, new AccessedInstance(instance,
+                    mutationDetection && OVERRIDES_HASH_CODE.get(instance.getInstance().getClass())));
+        }
+    }
+
     @Override
     protected Object getAttribute(String prefixedId) {
         HttpSession session = getSession(false);
@@ -143,4 +234,22 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
         return lockStore;
     }
 
+    private static final class AccessedInstance {
+
+        private final ContextualInstance<?> instance;
+
+        // null if mutations are not detected
+        private final Integer hash;
+
+        private AccessedInstance(ContextualInstance<?> instance, boolean hashed) {
+            this.instance = instance;
+            this.hash = hashed ? instance.getInstance().hashCode() : null;
+        }
+
+        boolean isModified() {
+            return hash == null || hash != instance.getInstance().hashCode();
+        }
+
+    }
+
 }
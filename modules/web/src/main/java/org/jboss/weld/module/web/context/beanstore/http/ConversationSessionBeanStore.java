@@ -0,0 +1,126 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.web.context.beanstore.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.beanstore.ConversationBeanStorage;
+import org.jboss.weld.contexts.beanstore.ConversationBeanStore;
+import org.jboss.weld.contexts.beanstore.ConversationNamingScheme;
+import org.jboss.weld.logging.ContextLogger;
+import org.jboss.weld.module.web.servlet.SessionHolder;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * A {@link ConversationBeanStore} that uses a HTTP session as backing storage. If backed by an HttpRequest, the session is
+ * only created when an instance must be written to it.
+ * <p>
+ * If {@link ConfigurationKey#RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS} is enabled, an access to an instance only marks the
+ * conversation storage as modified, i.e. the storage is set again once the request completes.
+ * <p>
+ * This class is not threadsafe
+ *
+ * @see LazySessionBeanStore
+ * @see EagerSessionBeanStore
+ */
+public class ConversationSessionBeanStore extends ConversationBeanStore {
+
+    private final HttpServletRequest request;
+
+    private final HttpSession session;
+
+    private final boolean resetHttpSessionAttributeOnBeanAccess;
+
+    public ConversationSessionBeanStore(HttpServletRequest request, ConversationNamingScheme namingScheme,
+            ServiceRegistry serviceRegistry) {
+        this(request, null, namingScheme, serviceRegistry);
+    }
+
+    public ConversationSessionBeanStore(HttpSession session, ConversationNamingScheme namingScheme,
+            ServiceRegistry serviceRegistry) {
+        this(null, session, namingScheme, serviceRegistry);
+    }
+
+    private ConversationSessionBeanStore(HttpServletRequest request, HttpSession session,
+            ConversationNamingScheme namingScheme, ServiceRegistry serviceRegistry) {
+        super(namingScheme);
+        this.request = request;
+        this.session = session;
+        this.resetHttpSessionAttributeOnBeanAccess = serviceRegistry.get(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS);
+    }
+
+    @Override
+    public <T> ContextualInstance<T> get(BeanIdentifier id) {
+        ContextualInstance<T> instance = super.get(id);
+        if (resetHttpSessionAttributeOnBeanAccess && instance != null && isAttached()) {
+            ConversationBeanStorage storage = getStorage(false);
+            if (storage != null) {
+                storage.markDirty();
+            }
+        }
+        return instance;
+    }
+
+    @Override
+    protected Object getStorageAttribute(String name) {
+        HttpSession session = getSession(false);
+        return session != null ? session.getAttribute(name) : null;
+    }
+
+    @Override
+    protected void setStorageAttribute(String name, ConversationBeanStorage storage) {
+        HttpSession session = getSession(true);
+        if (session != null) {
+            session.setAttribute(name, storage);
+            ContextLogger.LOG.addedKeyToSession(name, session.getId());
+        } else {
+            ContextLogger.LOG.unableToAddKeyToSession(name);
+        }
+    }
+
+    @Override
+    protected void removeStorageAttribute(String name) {
+        HttpSession session = getSession(false);
+        if (session != null) {
+            session.removeAttribute(name);
+            ContextLogger.LOG.removedKeyFromSession(name, session.getId());
+        } else {
+            ContextLogger.LOG.unableToRemoveKeyFromSession(name);
+        }
+    }
+
+    private HttpSession getSession(boolean create) {
+        if (session != null) {
+            return session;
+        }
+        try {
+            return SessionHolder.getSession(request, create);
+        } catch (IllegalStateException e) {
+            // If container can't create an underlying session, invalidate the current one
+            detach();
+            // re-throw the exception to properly show cause and message
+            throw e;
+        }
+    }
+
+}
@@ -9,7 +9,9 @@ import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.context.http.HttpConversationContext;
 import org.jboss.weld.contexts.AbstractConversationContext;
 import org.jboss.weld.contexts.beanstore.BoundBeanStore;
+import org.jboss.weld.contexts.beanstore.ConversationNamingScheme;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
+import org.jboss.weld.module.web.context.beanstore.http.ConversationSessionBeanStore;
 import org.jboss.weld.module.web.context.beanstore.http.EagerSessionBeanStore;
 import org.jboss.weld.module.web.context.beanstore.http.LazySessionBeanStore;
 import org.jboss.weld.module.web.servlet.SessionHolder;
@@ -58,11 +60,17 @@ public class HttpConversationContextImpl extends AbstractConversationContext<Htt
 
     @Override
     protected BoundBeanStore createRequestBeanStore(NamingScheme namingScheme, HttpServletRequest request) {
+        if (isConversationBeanStorageEnabled()) {
+            return new ConversationSessionBeanStore(request, (ConversationNamingScheme) namingScheme, getServiceRegistry());
+        }
         return new LazySessionBeanStore(request, namingScheme, false, getServiceRegistry());
     }
 
     @Override
     protected BoundBeanStore createSessionBeanStore(NamingScheme namingScheme, HttpSession session) {
+        if (isConversationBeanStorageEnabled()) {
+            return new ConversationSessionBeanStore(session, (ConversationNamingScheme) namingScheme, getServiceRegistry());
+        }
         return new EagerSessionBeanStore(namingScheme, session, getServiceRegistry());
     }
 
@@ -24,6 +24,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.jboss.weld.context.http.HttpRequestContext;
 import org.jboss.weld.contexts.AbstractBoundContext;
 import org.jboss.weld.contexts.beanstore.BoundBeanStore;
+import org.jboss.weld.contexts.beanstore.IndexedBoundBeanStore;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
 import org.jboss.weld.contexts.beanstore.SimpleNamingScheme;
 import org.jboss.weld.contexts.cache.RequestScopedCache;
@@ -55,7 +56,7 @@ public class HttpRequestContextImpl extends AbstractBoundContext<HttpServletRequ
             }
         }
         // We always associate a new bean store to avoid possible leaks (security threats)
-        beanStore = new RequestBeanStore(request, namingScheme);
+        beanStore = indexed(new RequestBeanStore(request, namingScheme));
         setBeanStore(beanStore);
         beanStore.attach();
         return true;
@@ -81,8 +82,12 @@ public class HttpRequestContextImpl extends AbstractBoundContext<HttpServletRequ
     }
 
     public HttpServletRequest getHttpServletRequest() {
-        if (getBeanStore() instanceof RequestBeanStore) {
-            return Reflections.<RequestBeanStore> cast(getBeanStore()).getRequest();
+        BoundBeanStore beanStore = getBeanStore();
+        if (beanStore instanceof IndexedBoundBeanStore) {
+            beanStore = ((IndexedBoundBeanStore) beanStore).delegate();
+        }
+        if (beanStore instanceof RequestBeanStore) {
+            return Reflections.<RequestBeanStore> cast(beanStore).getRequest();
         }
         return null;
     }
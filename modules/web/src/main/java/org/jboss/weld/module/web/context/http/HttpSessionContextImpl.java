@@ -18,6 +18,7 @@ import org.jboss.weld.contexts.beanstore.BoundBeanStore;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
 import org.jboss.weld.contexts.beanstore.SimpleBeanIdentifierIndexNamingScheme;
 import org.jboss.weld.logging.ContextLogger;
+import org.jboss.weld.module.web.context.beanstore.http.AbstractSessionBeanStore;
 import org.jboss.weld.module.web.context.beanstore.http.EagerSessionBeanStore;
 import org.jboss.weld.module.web.context.beanstore.http.LazySessionBeanStore;
 import org.jboss.weld.serialization.BeanIdentifierIndex;
@@ -44,14 +45,31 @@ public class HttpSessionContextImpl extends AbstractBoundContext<HttpServletRequ
             ContextLogger.LOG.beanStoreLeakDuringAssociation(this.getClass().getName(), request);
         }
         // We always associate a new bean store to avoid possible leaks (security threats)
-        setBeanStore(new LazySessionBeanStore(request, namingScheme,
-                getServiceRegistry().getRequired(WeldConfiguration.class).getBooleanProperty(
-                        ConfigurationKey.CONTEXT_ATTRIBUTES_LAZY_FETCH),
-                getServiceRegistry()));
+        WeldConfiguration configuration = getServiceRegistry().getRequired(WeldConfiguration.class);
+        LazySessionBeanStore beanStore = new LazySessionBeanStore(request, namingScheme,
+                configuration.getBooleanProperty(ConfigurationKey.CONTEXT_ATTRIBUTES_LAZY_FETCH), getServiceRegistry());
+        if (configuration.getBooleanProperty(ConfigurationKey.CONTEXT_SESSION_DIRTY_TRACKING)) {
+            beanStore.enableDirtyTracking(
+                    configuration.getBooleanProperty(ConfigurationKey.CONTEXT_SESSION_MUTATION_DETECTION));
+        }
+        setBeanStore(beanStore);
         checkBeanIdentifierIndexConsistency(request);
         return true;
     }
 
+    @Override
+    public void deactivate() {
+        try {
+            BoundBeanStore beanStore = getBeanStore();
+            if (beanStore instanceof AbstractSessionBeanStore && isValid()) {
+                // Write the instances accessed during the request back to the session in one batch
+                ((AbstractSessionBeanStore) beanStore).flush();
+            }
+        } finally {
+            super.deactivate();
+        }
+    }
+
     public boolean destroy(HttpSession session) {
         final BoundBeanStore beanStore = getBeanStore();
         if (beanStore == null) {
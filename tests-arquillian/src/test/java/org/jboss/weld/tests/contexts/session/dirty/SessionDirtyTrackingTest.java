@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.contexts.session.dirty;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.category.Integration;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import com.gargoylesoftware.htmlunit.WebClient;
+
+@RunWith(Arquillian.class)
+@Category(Integration.class)
+public class SessionDirtyTrackingTest {
+
+    @ArquillianResource
+    URL url;
+
+    private final WebClient client = new WebClient();
+
+    @Deployment(testable = false)
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(WebArchive.class,
+                Utils.getDeploymentNameAsHash(SessionDirtyTrackingTest.class, Utils.ARCHIVE_TYPE.WAR))
+                .addClasses(Counter.class, SessionWriteListener.class, TestServlet.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsResource(PropertiesBuilder.newBuilder()
+                        .set(ConfigurationKey.CONTEXT_SESSION_DIRTY_TRACKING.get(), "true")
+                        .set(ConfigurationKey.CONTEXT_SESSION_MUTATION_DETECTION.get(), "true")
+                        .build(), "weld.properties");
+    }
+
+    @Test
+    public void testOnlyModifiedInstancesAreWrittenBack() throws IOException {
+        assertEquals("1", pageAsString("increment"));
+        pageAsString("writes");
+        // The instance is accessed but not modified
+        assertEquals("1", pageAsString("read"));
+        assertEquals("0", pageAsString("writes"));
+        // The instance is modified
+        assertEquals("2", pageAsString("increment"));
+        assertEquals("1", pageAsString("writes"));
+    }
+
+    private String pageAsString(String action) throws IOException {
+        return client.getPage(url.toString() + "/test?action=" + action).getWebResponse().getContentAsString();
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.contexts.session.dirty;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.annotation.WebListener;
+import jakarta.servlet.http.HttpSessionAttributeListener;
+import jakarta.servlet.http.HttpSessionBindingEvent;
+
+@WebListener
+public class SessionWriteListener implements HttpSessionAttributeListener {
+
+    static final AtomicInteger WRITES = new AtomicInteger();
+
+    @Override
+    public void attributeAdded(HttpSessionBindingEvent event) {
+        count(event);
+    }
+
+    @Override
+    public void attributeReplaced(HttpSessionBindingEvent event) {
+        count(event);
+    }
+
+    private void count(HttpSessionBindingEvent event) {
+        if (event.getName().startsWith("WELD_S#")) {
+            WRITES.incrementAndGet();
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.observer.transactional.batching;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.weld.module.jta.TransactionSynchronizationRegistryServices;
+
+/**
+ * Delegates to the container's registry and counts the synchronizations stored as a transaction resource, i.e. the
+ * synchronizations registered by Weld for batched notifications.
+ */
+public class CountingSynchronizationRegistryServices implements TransactionSynchronizationRegistryServices {
+
+    private final AtomicInteger synchronizations = new AtomicInteger();
+
+    @Override
+    public TransactionSynchronizationRegistry getTransactionSynchronizationRegistry() {
+        final TransactionSynchronizationRegistry delegate;
+        try {
+            delegate = (TransactionSynchronizationRegistry) new InitialContext()
+                    .lookup("java:comp/TransactionSynchronizationRegistry");
+        } catch (NamingException e) {
+            throw new IllegalStateException(e);
+        }
+        return new TransactionSynchronizationRegistry() {
+
+            @Override
+            public Object getTransactionKey() {
+                return delegate.getTransactionKey();
+            }
+
+            @Override
+            public void putResource(Object key, Object value) {
+                if (value instanceof Synchronization) {
+                    synchronizations.incrementAndGet();
+                }
+                delegate.putResource(key, value);
+            }
+
+            @Override
+            public Object getResource(Object key) {
+                return delegate.getResource(key);
+            }
+
+            @Override
+            public void registerInterposedSynchronization(Synchronization sync) {
+                delegate.registerInterposedSynchronization(sync);
+            }
+
+            @Override
+            public int getTransactionStatus() {
+                return delegate.getTransactionStatus();
+            }
+
+            @Override
+            public void setRollbackOnly() {
+                delegate.setRollbackOnly();
+            }
+
+            @Override
+            public boolean getRollbackOnly() {
+                return delegate.getRollbackOnly();
+            }
+        };
+    }
+
+    int getSynchronizationCount() {
+        return synchronizations.get();
+    }
+
+    void reset() {
+        synchronizations.set(0);
+    }
+
+    @Override
+    public void cleanup() {
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.observer.transactional.batching;
+
+import static org.jboss.weld.test.util.ActionSequence.assertSequenceDataEquals;
+import static org.jboss.weld.test.util.ActionSequence.reset;
+
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.module.jta.TransactionSynchronizationRegistryServices;
+import org.jboss.weld.test.util.ActionSequence;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.category.Integration;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+@Category(Integration.class)
+@RunWith(Arquillian.class)
+public class TransactionalObserverBatchingTest {
+
+    @Inject
+    Updater updater;
+
+    @Inject
+    BeanManagerImpl manager;
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap
+                .create(WebArchive.class,
+                        Utils.getDeploymentNameAsHash(TransactionalObserverBatchingTest.class, Utils.ARCHIVE_TYPE.WAR))
+                .addPackage(TransactionalObserverBatchingTest.class.getPackage())
+                .addClass(ActionSequence.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsServiceProvider(Service.class, CountingSynchronizationRegistryServices.class)
+                .addAsResource(PropertiesBuilder.newBuilder()
+                        .set(ConfigurationKey.TRANSACTIONAL_OBSERVERS_BATCHING.get(), "true")
+                        .set(ConfigurationKey.TRANSACTIONAL_OBSERVERS_COALESCING.get(), "true")
+                        .build(), "weld.properties");
+    }
+
+    @Test
+    public void testNotificationsBatchedAndCoalesced() {
+        reset();
+        CountingSynchronizationRegistryServices registryServices = (CountingSynchronizationRegistryServices) manager
+                .getServices().get(TransactionSynchronizationRegistryServices.class);
+        registryServices.reset();
+        updater.update("a", "b", "a");
+        // All the events share a single synchronization
+        Assert.assertEquals(1, registryServices.getSynchronizationCount());
+        // BEFORE_COMPLETION observers are notified of all the events, AFTER_SUCCESS observers of the last equal event only
+        assertSequenceDataEquals("BEFORE_COMPLETION:a", "BEFORE_COMPLETION:b", "BEFORE_COMPLETION:a", "AFTER_SUCCESS:b",
+                "AFTER_SUCCESS:a");
+    }
+}